@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path importPath;
 
     /**
      * Parses the application command-line parameters.
@@ -32,6 +33,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String importPathParameter = namedParameters.get("import");
+        if (importPathParameter != null && !FileUtil.isValidPath(importPathParameter)) {
+            logger.warning("Invalid import path " + importPathParameter + ". Nothing will be imported.");
+            importPathParameter = null;
+        }
+        appParameters.setImportPath(importPathParameter != null ? Paths.get(importPathParameter) : null);
+
         return appParameters;
     }
 
@@ -43,6 +51,14 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getImportPath() {
+        return importPath;
+    }
+
+    public void setImportPath(Path importPath) {
+        this.importPath = importPath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +70,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+            && Objects.equals(getImportPath(), otherAppParameters.getImportPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, importPath);
     }
 }
@@ -2,26 +2,42 @@ package trackitnus;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import trackitnus.commons.core.AppExecutors;
 import trackitnus.commons.core.Config;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.commons.core.Version;
 import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.ConfigUtil;
 import trackitnus.commons.util.StringUtil;
 import trackitnus.logic.Logic;
 import trackitnus.logic.LogicManager;
+import trackitnus.logic.commands.CommandResult;
+import trackitnus.logic.commands.ImportCommand;
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.metrics.CommandMetrics;
+import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.Model;
 import trackitnus.model.ModelManager;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.ReadOnlyUserPrefs;
+import trackitnus.model.Today;
 import trackitnus.model.TrackIter;
 import trackitnus.model.UserPrefs;
+import trackitnus.model.task.Task;
 import trackitnus.model.util.SampleDataUtil;
+import trackitnus.storage.DataFileWatcher;
+import trackitnus.storage.JsonShardedTrackIterStorage;
+import trackitnus.storage.JsonTaskArchive;
 import trackitnus.storage.JsonTrackIterStorage;
 import trackitnus.storage.JsonUserPrefsStorage;
 import trackitnus.storage.Storage;
@@ -39,12 +55,16 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 4, 0, false);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long EXECUTOR_SHUTDOWN_TIMEOUT_MILLIS = 5000;
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected Today today;
+    protected AppExecutors executors;
+    protected DataFileWatcher dataFileWatcher;
 
     @Override
     public void init() throws Exception {
@@ -56,14 +76,35 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TrackIterStorage trackIterStorage = new JsonTrackIterStorage(userPrefs.getTrackIterFilePath());
+        TrackIterStorage trackIterStorage = config.isDataShardedByModule()
+            ? new JsonShardedTrackIterStorage(userPrefs.getTrackIterFilePath())
+            : new JsonTrackIterStorage(userPrefs.getTrackIterFilePath());
         storage = new StorageManager(trackIterStorage, userPrefsStorage);
 
         initLogging(config);
+        executors = new AppExecutors(config);
 
-        model = initModelManager(storage, userPrefs);
+        today = new Today(Clock.systemDefaultZone(), Platform::runLater);
+        ModelManager modelManager = initModelManager(storage, userPrefs, today);
+        model = modelManager;
+        modelManager.setTaskArchive(new JsonTaskArchive(userPrefs.getTrackIterFilePath()));
+        archiveOldTasks();
+        today.addDayChangeListener(unused -> archiveOldTasks());
+        today.start();
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, executors.cpu());
+        registerGauges(logic.getCommandMetrics());
+        logic.getCommandMetrics().startPeriodicDump(config.getMetricsFilePath(),
+            config.getMetricsDumpIntervalSeconds(), executors.io());
+        if (appParameters.getImportPath() != null) {
+            runImport(appParameters.getImportPath());
+        }
+        // from now on the lists shown by the UI only change on the JavaFX application thread, in batches
+        ChangeCoalescer listUpdates = new ChangeCoalescer(Platform::runLater, Platform::isFxApplicationThread);
+        logic.getCommandMetrics().registerGauge("ui changes emitted", listUpdates::getEmittedCount);
+        logic.getCommandMetrics().registerGauge("ui changes applied", listUpdates::getAppliedCount);
+        modelManager.setObservableListUpdates(listUpdates);
+        watchDataFile(modelManager);
 
         ui = new UiManager(logic);
     }
@@ -73,7 +114,7 @@ public class MainApp extends Application {
      * The sample data will be used instead if {@code storage}'s TrackIter is not found,
      * or an empty TrackIter will be used instead if errors occur when reading {@code storage}'s TrackIter.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ModelManager initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Today today) {
         Optional<ReadOnlyTrackIter> trackIterOptional;
         ReadOnlyTrackIter initialData;
         try {
@@ -90,7 +131,78 @@ public class MainApp extends Application {
             initialData = new TrackIter();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, today);
+    }
+
+    /**
+     * Moves the tasks older than the configured age to the archive, and saves the data without them.
+     * Failures are logged. If the tasks cannot be archived, they stay in the data. If the data cannot be saved,
+     * the tasks are already archived and out of the model, so they are left in the data file until the next save.
+     */
+    private void archiveOldTasks() {
+        if (config.getArchiveTasksAfterDays() <= 0) {
+            return;
+        }
+        LocalDate cutoff = today.getDate().minusDays(config.getArchiveTasksAfterDays());
+        List<Task> archived;
+        try {
+            archived = model.archiveTasksBefore(cutoff);
+        } catch (IOException e) {
+            logger.warning("Failed to archive the tasks dated before " + cutoff + ": " + e.getMessage());
+            return;
+        }
+        if (archived.isEmpty()) {
+            return;
+        }
+        try {
+            storage.saveTrackIter(model.getTrackIter());
+        } catch (IOException e) {
+            logger.warning("Archived " + archived.size() + " tasks, but failed to save the data without them: "
+                + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the changes other programs make to the data file to {@code modelManager} as they happen.
+     * The files are reloaded on the JavaFX application thread, like commands, so that a command cannot save the
+     * data between a reload and its changes being applied.
+     */
+    private void watchDataFile(ModelManager modelManager) {
+        dataFileWatcher = new DataFileWatcher(storage, Platform::runLater, modelManager::applyExternalChanges);
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file for changes by other programs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reports the backlog and latency of the background executors in {@code metrics}.
+     */
+    private void registerGauges(CommandMetrics metrics) {
+        metrics.registerGauge("cpu queue depth", executors::getCpuQueueDepth);
+        metrics.registerGauge("cpu tasks", executors.getCpuStats()::getCompletedCount);
+        metrics.registerGauge("cpu mean wait us", () -> executors.getCpuStats().getMeanWaitNanos() / 1000);
+        metrics.registerGauge("cpu mean run us", () -> executors.getCpuStats().getMeanRunNanos() / 1000);
+        metrics.registerGauge("io queue depth", executors::getIoQueueDepth);
+        metrics.registerGauge("io tasks", executors.getIoStats()::getCompletedCount);
+        metrics.registerGauge("io mean wait us", () -> executors.getIoStats().getMeanWaitNanos() / 1000);
+        metrics.registerGauge("io max wait us", () -> executors.getIoStats().getMaxWaitNanos() / 1000);
+        metrics.registerGauge("io mean run us", () -> executors.getIoStats().getMeanRunNanos() / 1000);
+    }
+
+    /**
+     * Imports the commands in {@code importPath} before the UI starts.
+     * A failed import is logged and leaves the data unchanged.
+     */
+    private void runImport(Path importPath) {
+        logger.info("Importing commands from " + importPath);
+        try {
+            CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " " + importPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Failed to import " + importPath + ": " + e.getMessage());
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,10 +286,21 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TrackIter ] =============================");
+        today.stop();
+        dataFileWatcher.stop();
+        logic.getCommandMetrics().stopPeriodicDump();
+        logic.getCommandCompleter().shutdown();
+        executors.shutdown(EXECUTOR_SHUTDOWN_TIMEOUT_MILLIS);
+        try {
+            logic.getCommandMetrics().dumpTo(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save metrics " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.shutdown();
     }
 }
@@ -0,0 +1,220 @@
+package trackitnus.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import trackitnus.commons.util.CollectionUtil;
+
+/**
+ * The background threads shared by the whole app: a work-stealing pool for CPU-bound work, and a single lane for
+ * disk I/O, whose tasks run one at a time in the order they were submitted.
+ * Results are handed back to the JavaFX application thread with {@link #onFxThread}.
+ * Both lanes count their tasks and time how long tasks wait and run, so that a backlog shows up in the metrics.
+ */
+public class AppExecutors {
+    /** Runs tasks on the JavaFX application thread: right away if called from it, later otherwise. */
+    public static final Executor FX_THREAD = task -> {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(AppExecutors.class);
+
+    private final ForkJoinPool cpuPool;
+    private final ThreadPoolExecutor ioLane;
+    private final Executor fxExecutor;
+    private final LaneStats cpuStats = new LaneStats();
+    private final LaneStats ioStats = new LaneStats();
+
+    /**
+     * Creates the executors with the sizes in {@code config}, handing results to the JavaFX application thread.
+     */
+    public AppExecutors(Config config) {
+        this(config.getCpuPoolThreads(), config.getIoQueueCapacity(), FX_THREAD);
+    }
+
+    /**
+     * Creates a CPU pool of {@code cpuThreads} threads, or one per processor if it is not positive, and an I/O lane
+     * that holds at most {@code ioQueueCapacity} waiting tasks. Results are handed back through {@code fxExecutor}.
+     */
+    public AppExecutors(int cpuThreads, int ioQueueCapacity, Executor fxExecutor) {
+        requireNonNull(fxExecutor);
+        int parallelism = cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors();
+        cpuPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("cpu-worker-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, (thread, e) -> logger.log(Level.WARNING, "Uncaught exception in " + thread.getName(), e), true);
+        ioLane = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(ioQueueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "io-lane");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.fxExecutor = fxExecutor;
+        logger.info("Started " + parallelism + " CPU workers and an I/O lane of capacity " + ioQueueCapacity);
+    }
+
+    /**
+     * Returns an {@code Executor} that runs tasks in the CPU pool.
+     */
+    public Executor cpu() {
+        return task -> cpuPool.execute(cpuStats.timed(task));
+    }
+
+    /**
+     * Returns an {@code Executor} that runs tasks in the I/O lane, one at a time and in order.
+     */
+    public Executor io() {
+        return task -> ioLane.execute(ioStats.timed(task));
+    }
+
+    /**
+     * Computes {@code work} in the CPU pool.
+     */
+    public <T> CompletableFuture<T> supplyCpu(Supplier<T> work) {
+        return supply(work, cpu());
+    }
+
+    /**
+     * Computes {@code work} in the I/O lane, after the I/O tasks submitted before it.
+     */
+    public <T> CompletableFuture<T> supplyIo(Supplier<T> work) {
+        return supply(work, io());
+    }
+
+    /**
+     * Passes the result of {@code future} to {@code consumer} on the JavaFX application thread, once it completes
+     * normally. Failures are logged instead.
+     */
+    public <T> CompletableFuture<Void> onFxThread(CompletableFuture<T> future, Consumer<? super T> consumer) {
+        CollectionUtil.requireAllNonNull(future, consumer);
+        return future.whenComplete((unused, e) -> {
+            if (e != null) {
+                logger.log(Level.WARNING, "Background task failed", e);
+            }
+        }).thenAcceptAsync(consumer, fxExecutor);
+    }
+
+    /**
+     * Returns the number of tasks waiting in the CPU pool.
+     */
+    public long getCpuQueueDepth() {
+        return cpuPool.getQueuedSubmissionCount() + cpuPool.getQueuedTaskCount();
+    }
+
+    /**
+     * Returns the number of tasks waiting in the I/O lane.
+     */
+    public long getIoQueueDepth() {
+        return ioLane.getQueue().size();
+    }
+
+    public LaneStats getCpuStats() {
+        return cpuStats;
+    }
+
+    public LaneStats getIoStats() {
+        return ioStats;
+    }
+
+    /**
+     * Stops both lanes. The CPU pool is interrupted, while the I/O lane gets up to {@code timeoutMillis}
+     * to finish its pending tasks, so that writes in progress reach the disk.
+     */
+    public void shutdown(long timeoutMillis) {
+        cpuPool.shutdownNow();
+        ioLane.shutdown();
+        try {
+            if (!ioLane.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning(ioLane.getQueue().size() + " I/O tasks were still pending at shutdown");
+                ioLane.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ioLane.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> CompletableFuture<T> supply(Supplier<T> work, Executor executor) {
+        requireNonNull(work);
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Counts the tasks of a lane and the time they spend waiting and running.
+     */
+    public static class LaneStats {
+        private final LongAdder completedCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        /**
+         * Returns {@code task} wrapped to record its waiting and running time once it has run.
+         */
+        Runnable timed(Runnable task) {
+            requireNonNull(task);
+            long submitTime = System.nanoTime();
+            return () -> {
+                long startTime = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    long waitNanos = startTime - submitTime;
+                    totalWaitNanos.add(waitNanos);
+                    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                    totalRunNanos.add(System.nanoTime() - startTime);
+                    completedCount.increment();
+                }
+            };
+        }
+
+        public long getCompletedCount() {
+            return completedCount.sum();
+        }
+
+        /**
+         * Returns the mean time between the submission and the start of a task, or 0 if no task has run.
+         */
+        public long getMeanWaitNanos() {
+            long count = completedCount.sum();
+            return count == 0 ? 0 : totalWaitNanos.sum() / count;
+        }
+
+        /**
+         * Returns the mean running time of a task, or 0 if no task has run.
+         */
+        public long getMeanRunNanos() {
+            long count = completedCount.sum();
+            return count == 0 ? 0 : totalRunNanos.sum() / count;
+        }
+
+        public long getMaxWaitNanos() {
+            return maxWaitNanos.get();
+        }
+    }
+}
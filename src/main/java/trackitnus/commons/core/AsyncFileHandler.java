@@ -0,0 +1,122 @@
+package trackitnus.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a background thread, which publishes them to a delegate handler.
+ * Callers never wait for the disk: records are kept in a bounded queue, and records that arrive while the
+ * queue is full are dropped and counted instead of blocking the logging thread.
+ */
+public class AsyncFileHandler extends Handler {
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code delegate}, keeping at most {@code capacity} pending records.
+     */
+    public AsyncFileHandler(Handler delegate, int capacity) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::drainLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the source is inferred lazily from the stack, so it must be captured on the logging thread
+        record.getSourceClassName();
+        if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes every queued record to the delegate, then flushes it.
+     */
+    @Override
+    public synchronized void flush() {
+        drainPending();
+        delegate.flush();
+    }
+
+    /**
+     * Stops accepting records, waits briefly for the queued ones to be written, and closes the delegate.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            drainPending();
+            long dropped = droppedCount.get();
+            if (dropped > 0) {
+                delegate.publish(new LogRecord(Level.WARNING,
+                        dropped + " log records were dropped because the log queue was full"));
+            }
+            delegate.close();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drainLoop() {
+        while (!isClosed) {
+            try {
+                LogRecord record = queue.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    synchronized (this) {
+                        publishToDelegate(record);
+                        drainPending();
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void drainPending() {
+        List<LogRecord> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(this::publishToDelegate);
+    }
+
+    private void publishToDelegate(LogRecord record) {
+        try {
+            delegate.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+}
@@ -15,6 +15,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 300;
+    private int cpuPoolThreads = 0;
+    private int ioQueueCapacity = 1000;
+    private boolean isDataShardedByModule = true;
+    private int archiveTasksAfterDays = 90;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,66 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
+    /**
+     * Returns the number of threads for CPU-bound background work; 0 means one per processor.
+     */
+    public int getCpuPoolThreads() {
+        return cpuPoolThreads;
+    }
+
+    public void setCpuPoolThreads(int cpuPoolThreads) {
+        this.cpuPoolThreads = cpuPoolThreads;
+    }
+
+    /**
+     * Returns the number of disk I/O tasks that may wait for the I/O thread before further ones are rejected.
+     */
+    public int getIoQueueCapacity() {
+        return ioQueueCapacity;
+    }
+
+    public void setIoQueueCapacity(int ioQueueCapacity) {
+        this.ioQueueCapacity = ioQueueCapacity;
+    }
+
+    /**
+     * Returns true if the data is saved as a root file plus a file per module, rather than as a single file.
+     */
+    public boolean isDataShardedByModule() {
+        return isDataShardedByModule;
+    }
+
+    public void setDataShardedByModule(boolean isDataShardedByModule) {
+        this.isDataShardedByModule = isDataShardedByModule;
+    }
+
+    /**
+     * Returns the number of days after its date that a task is moved to the archive; 0 or less means never.
+     */
+    public int getArchiveTasksAfterDays() {
+        return archiveTasksAfterDays;
+    }
+
+    public void setArchiveTasksAfterDays(int archiveTasksAfterDays) {
+        this.archiveTasksAfterDays = archiveTasksAfterDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +110,19 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-            && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+            && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+            && Objects.equals(metricsFilePath, o.metricsFilePath)
+            && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds
+            && cpuPoolThreads == o.cpuPoolThreads
+            && ioQueueCapacity == o.ioQueueCapacity
+            && isDataShardedByModule == o.isDataShardedByModule
+            && archiveTasksAfterDays == o.archiveTasksAfterDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds, cpuPoolThreads,
+            ioQueueCapacity, isDataShardedByModule, archiveTasksAfterDays);
     }
 
     @Override
@@ -2,8 +2,11 @@ package trackitnus.commons.core;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +17,47 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  * at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  * file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Each named logger is configured only once; later requests for the same name return the cached logger.
+ * Records for the log file are written by a background thread (see {@link AsyncFileHandler}).
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int MAX_QUEUED_FILE_RECORDS = 1024;
     private static final String LOG_FILE = "trackIter.log";
+    private static final Map<String, Logger> configuredLoggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
-    private static FileHandler fileHandler;
+    private static Handler fileHandler;
+    private static boolean isShutDown;
     private static ConsoleHandler consoleHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The new level applies to the shared handlers and to every logger obtained from this class,
+     * both before and after this initialization.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
+        configuredLoggers.values().forEach(configured -> configured.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it on first use.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        Logger configured = configuredLoggers.get(name);
+        if (configured != null) {
+            return configured;
+        }
+        return configuredLoggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -59,6 +70,34 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Flushes and closes the shared handlers, waiting for queued file records to be written.
+     * Afterwards every logger, including one first obtained after the shutdown, writes to the console only.
+     */
+    public static synchronized void shutdown() {
+        isShutDown = true;
+        if (fileHandler != null) {
+            fileHandler.close();
+            configuredLoggers.values().forEach(configured -> configured.removeHandler(fileHandler));
+            fileHandler = null;
+        }
+        if (consoleHandler != null) {
+            consoleHandler.flush();
+        }
+    }
+
+    private static synchronized Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        addConsoleHandler(logger);
+        addFileHandler(logger);
+
+        return logger;
+    }
+
     /**
      * Adds the {@code consoleHandler} to the {@code logger}. <br>
      * Creates the {@code consoleHandler} if it is null.
@@ -80,9 +119,12 @@ public class LogsCenter {
 
     /**
      * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates {@code fileHandler} if it is null, unless the handlers have been shut down.
      */
     private static void addFileHandler(Logger logger) {
+        if (isShutDown) {
+            return;
+        }
         try {
             if (fileHandler == null) {
                 fileHandler = createFileHandler();
@@ -94,15 +136,17 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a {@code FileHandler} for the log file.
+     * Creates an asynchronous handler for the log file.
      *
      * @throws IOException if there are problems opening the file.
      */
-    private static FileHandler createFileHandler() throws IOException {
+    private static Handler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
-        return fileHandler;
+        fileHandler.setLevel(Level.ALL);
+        AsyncFileHandler asyncFileHandler = new AsyncFileHandler(fileHandler, MAX_QUEUED_FILE_RECORDS);
+        asyncFileHandler.setLevel(currentLogLevel);
+        return asyncFileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
@@ -7,6 +7,7 @@ public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %1$s?";
 
     public static final String MESSAGE_INVALID_TYPE = "The type provided is invalid";
     public static final String MESSAGE_INVALID_TAB_VALUE = "Invalid tab values.";
@@ -0,0 +1,183 @@
+package trackitnus.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A set of words that can be searched for the words closest to a misspelt one, ignoring case.
+ * Words are kept in a Burkhard-Keller tree ordered by Levenshtein distance, so a search with a small maximum
+ * distance only compares the query with a small part of the words.
+ * Like {@link PrefixTrie}, a word stays in the tree until it has been removed as many times as it was added.
+ * Removed words are only marked as absent, as their node may still route searches to other words.
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word}.
+     * The first occurrence decides how the word is spelt in search results.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        if (root == null) {
+            root = new Node(key);
+        }
+        Node node = root;
+        int distance = distance(key, node.key);
+        while (distance != 0) {
+            node = node.children.computeIfAbsent(distance, unused -> new Node(key));
+            distance = distance(key, node.key);
+        }
+        if (node.count == 0) {
+            node.word = word;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, ignoring case.
+     * Does nothing if the word is not in the tree.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.count > 0 && --node.count == 0) {
+                    node.word = null;
+                    size--;
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} words within {@code maxDistance} edits of {@code query} ignoring case,
+     * closest first and alphabetically among words at the same distance.
+     */
+    public List<String> search(String query, int maxDistance, int limit) {
+        return toWords(findMatches(query, maxDistance), limit);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words closest to {@code query} ignoring case, in alphabetical order,
+     * provided they are within {@code maxDistance} edits of it.
+     */
+    public List<String> searchClosest(String query, int maxDistance, int limit) {
+        List<Match> matches = findMatches(query, maxDistance);
+        if (!matches.isEmpty()) {
+            int closestDistance = matches.get(0).distance;
+            matches.removeIf(match -> match.distance > closestDistance);
+        }
+        return toWords(matches, limit);
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code query}, closest first.
+     */
+    private List<Match> findMatches(String query, int maxDistance) {
+        requireNonNull(query);
+        String key = toKey(query);
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(key, node.key);
+            if (distance <= maxDistance && node.count > 0) {
+                matches.add(new Match(node.word, distance));
+            }
+            // by the triangle inequality, only these children can hold words within maxDistance of the query
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                 childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt((Match match) -> match.distance).thenComparing(match -> match.word));
+        return matches;
+    }
+
+    private static List<String> toWords(List<Match> matches, int limit) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            words.add(matches.get(i).word);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     */
+    static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private final String key;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private String word;
+        private int count;
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Match {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package trackitnus.commons.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Collects the changes to be made to some targets, such as the lists shown by the UI, and applies them in
+ * batches on one thread.
+ * The first change after a batch schedules the next batch on the flush executor (e.g. {@code Platform::runLater}),
+ * so there is at most one pending flush at a time. Within a batch, a target with a single change gets that
+ * change, while a target with several changes is brought up to date once by its resync action instead.
+ */
+public class ChangeCoalescer {
+    private final Executor flushExecutor;
+    private final BooleanSupplier isApplyThread;
+    private final AtomicLong emittedCount = new AtomicLong();
+    private final AtomicLong appliedCount = new AtomicLong();
+    private Map<Object, PendingChanges> pending = new LinkedHashMap<>();
+    private boolean isFlushScheduled;
+    private boolean isFlushing;
+
+    /**
+     * Creates a coalescer that schedules its flushes on {@code flushExecutor} and applies changes only when
+     * {@code isApplyThread} is true for the calling thread.
+     */
+    public ChangeCoalescer(Executor flushExecutor, BooleanSupplier isApplyThread) {
+        CollectionUtil.requireAllNonNull(flushExecutor, isApplyThread);
+        this.flushExecutor = flushExecutor;
+        this.isApplyThread = isApplyThread;
+    }
+
+    /**
+     * Returns a coalescer that applies every change right away, on the thread that submits it.
+     */
+    public static ChangeCoalescer direct() {
+        return new ChangeCoalescer(Runnable::run, () -> true);
+    }
+
+    /**
+     * Queues {@code change} to {@code target}. If {@code target} gets more changes before the next flush, they are
+     * all replaced by the {@code resync} of the latest one, which must bring the target up to date by itself.
+     */
+    public void submit(Object target, Runnable change, Runnable resync) {
+        CollectionUtil.requireAllNonNull(target, change, resync);
+        boolean needsFlush;
+        synchronized (this) {
+            emittedCount.incrementAndGet();
+            pending.computeIfAbsent(target, unused -> new PendingChanges()).add(change, resync);
+            needsFlush = !isFlushScheduled;
+            isFlushScheduled = true;
+        }
+        if (needsFlush) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Applies the pending changes now, if called on the apply thread. Does nothing otherwise, or when called
+     * while applying changes.
+     */
+    public void flush() {
+        if (isFlushing || !isApplyThread.getAsBoolean()) {
+            return;
+        }
+        isFlushing = true;
+        try {
+            // changes submitted while applying a batch, e.g. by listeners, make up the next batch
+            for (Map<Object, PendingChanges> batch = takeBatch(); !batch.isEmpty(); batch = takeBatch()) {
+                for (PendingChanges changes : batch.values()) {
+                    changes.apply();
+                    appliedCount.incrementAndGet();
+                }
+            }
+        } finally {
+            isFlushing = false;
+        }
+    }
+
+    /**
+     * Returns the number of changes submitted so far.
+     */
+    public long getEmittedCount() {
+        return emittedCount.get();
+    }
+
+    /**
+     * Returns the number of updates made to targets so far, each being a single change or a resync.
+     */
+    public long getAppliedCount() {
+        return appliedCount.get();
+    }
+
+    private synchronized Map<Object, PendingChanges> takeBatch() {
+        Map<Object, PendingChanges> batch = pending;
+        pending = new LinkedHashMap<>();
+        isFlushScheduled = false;
+        return batch;
+    }
+
+    private static final class PendingChanges {
+        private Runnable change;
+        private Runnable resync;
+        private int count;
+
+        void add(Runnable change, Runnable resync) {
+            this.change = change;
+            this.resync = resync;
+            count++;
+        }
+
+        void apply() {
+            if (count == 1) {
+                change.run();
+            } else {
+                resync.run();
+            }
+        }
+    }
+}
@@ -3,15 +3,19 @@ package trackitnus.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +43,14 @@ public class JsonUtil {
             .addSerializer(Level.class, new ToStringSerializer())
             .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Returns a new {@code ObjectMapper} configured like the one used by this class, to which more serializers
+     * and deserializers can be added.
+     */
+    public static ObjectMapper newObjectMapper() {
+        return objectMapper.copy();
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -114,6 +126,35 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Indents {@code json}, as written by {@link #toJsonString}, to be the value of a field {@code depth} objects
+     * deep in the output of {@link #toJsonString}.
+     */
+    public static String indentNested(String json, int depth) {
+        String lineBreak = DefaultIndenter.SYS_LF;
+        return json.replace(lineBreak, lineBreak + "  ".repeat(depth));
+    }
+
+    /**
+     * Writes a JSON object whose fields, in iteration order, have the given values, which must already be in JSON
+     * form as returned by {@link #indentNested} with a depth of 1.
+     * The result is the same as {@link #toJsonString} of an object with these fields.
+     */
+    public static String toJsonObjectString(Map<String, String> jsonFields) throws IOException {
+        requireNonNull(jsonFields);
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            for (Map.Entry<String, String> field : jsonFields.entrySet()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeRawValue(field.getValue());
+            }
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
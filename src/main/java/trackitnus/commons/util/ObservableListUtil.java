@@ -0,0 +1,79 @@
+package trackitnus.commons.util;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Helper functions for keeping derived data, such as search indexes, in step with an {@code ObservableList}.
+ */
+public class ObservableListUtil {
+
+    /**
+     * Passes every element of {@code list} to {@code onAdded}, and from then on every element added to or removed
+     * from it to {@code onAdded} or {@code onRemoved}.
+     * Reordering the list does not call either.
+     */
+    public static <T> void follow(ObservableList<T> list, Consumer<T> onAdded, Consumer<T> onRemoved) {
+        follow(list, new ReentrantLock(), onAdded, onRemoved);
+    }
+
+    /**
+     * Passes every element of {@code list} to {@code onAdded}, and from then on every element added to or removed
+     * from it to {@code onAdded} or {@code onRemoved}, holding {@code lock} while doing so.
+     * Reordering the list does not call either.
+     */
+    public static <T> void follow(ObservableList<T> list, Lock lock, Consumer<T> onAdded, Consumer<T> onRemoved) {
+        lock.lock();
+        try {
+            list.forEach(onAdded);
+        } finally {
+            lock.unlock();
+        }
+        list.addListener((ListChangeListener<T>) change -> {
+            lock.lock();
+            try {
+                while (change.next()) {
+                    if (change.wasPermutated() || change.wasUpdated()) {
+                        continue;
+                    }
+                    change.getRemoved().forEach(onRemoved);
+                    change.getAddedSubList().forEach(onAdded);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Makes {@code list} equal to {@code target} with at most two changes, by replacing only the range between
+     * their longest common prefix and suffix. Elements are compared by reference.
+     */
+    public static <T> void replaceChanged(ObservableList<T> list, List<T> target) {
+        int start = 0;
+        int end = list.size();
+        int targetEnd = target.size();
+        while (start < end && start < targetEnd && list.get(start) == target.get(start)) {
+            start++;
+        }
+        while (end > start && targetEnd > start && list.get(end - 1) == target.get(targetEnd - 1)) {
+            end--;
+            targetEnd--;
+        }
+        if (end - start == 1 && targetEnd - start == 1) {
+            list.set(start, target.get(start));
+            return;
+        }
+        if (end > start) {
+            list.remove(start, end);
+        }
+        if (targetEnd > start) {
+            list.addAll(start, target.subList(start, targetEnd));
+        }
+    }
+}
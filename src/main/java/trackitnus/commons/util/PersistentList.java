@@ -0,0 +1,300 @@
+package trackitnus.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list whose updates return a new list sharing most of its structure with the old one.
+ * Elements are kept in a randomized balanced tree (an implicit treap), so {@code get}, {@code set},
+ * {@code add} and {@code remove} take O(log n) expected time and allocate O(log n) nodes, while keeping
+ * a reference to a version of the list is O(1) and never copies it.
+ *
+ * @param <T> the type of the elements, which must not be null.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the elements of {@code elements}, in iteration order.
+     */
+    public static <T> PersistentList<T> of(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        PersistentList<T> list = empty();
+        for (T element : elements) {
+            list = list.add(element);
+        }
+        return list;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first element equal to {@code element}, or -1 if there is none.
+     */
+    public int indexOf(Object element) {
+        int index = 0;
+        for (T value : this) {
+            if (value.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<T> add(T element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> add(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        Split<T> split = split(root, index);
+        Node<T> single = new Node<>(element, null, null, ThreadLocalRandom.current().nextInt());
+        return new PersistentList<>(merge(merge(split.left, single), split.right));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> set(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(setInTree(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        Split<T> split = split(root, index);
+        Split<T> rest = split(split.right, 1);
+        return new PersistentList<>(merge(split.left, rest.right));
+    }
+
+    /**
+     * Returns a new mutable list with the elements of this list.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherIterator = otherList.iterator();
+        for (T value : this) {
+            if (!value.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T value : this) {
+            hashCode = 31 * hashCode + value.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> Node<T> setInTree(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(setInTree(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right, node.priority);
+        } else {
+            return node.withChildren(node.left, setInTree(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Splits {@code node} into its first {@code count} elements and the rest.
+     */
+    private static <T> Split<T> split(Node<T> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<T> split = split(node.left, count);
+            return new Split<>(split.left, node.withChildren(split.right, node.right));
+        } else {
+            Split<T> split = split(node.right, count - leftSize - 1);
+            return new Split<>(node.withChildren(node.left, split.left), split.right);
+        }
+    }
+
+    /**
+     * Joins two trees, keeping every element of {@code left} before every element of {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    /**
+     * An immutable tree node. Nodes are shared between every list that contains them.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int priority;
+
+        Node(T value, Node<T> left, Node<T> right, int priority) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.priority = priority;
+        }
+
+        Node<T> withChildren(Node<T> newLeft, Node<T> newRight) {
+            if (newLeft == left && newRight == right) {
+                return this;
+            }
+            return new Node<>(value, newLeft, newRight, priority);
+        }
+    }
+
+    private static final class Split<T> {
+        private final Node<T> left;
+        private final Node<T> right;
+
+        Split(Node<T> left, Node<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftPath(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
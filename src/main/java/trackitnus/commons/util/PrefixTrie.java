@@ -0,0 +1,135 @@
+package trackitnus.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of words that can be searched by prefix, ignoring case.
+ * A word may be added several times and stays in the trie until it has been removed as many times, so the trie can
+ * mirror values that are shared by several entries (e.g. a tag used by many contacts).
+ * Looking up the completions of a prefix takes time proportional to the length of the prefix plus the length of
+ * the completions returned, independent of the number of words in the trie.
+ */
+public class PrefixTrie {
+    private final Node root = new Node(null);
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word}.
+     * The first occurrence decides how the word is spelt in completions.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (char c : toKey(word).toCharArray()) {
+            Node parent = node;
+            node = parent.children.computeIfAbsent(c, unused -> new Node(parent));
+        }
+        if (node.count == 0) {
+            node.word = word;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, ignoring case.
+     * Does nothing if the word is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node node = find(key);
+        if (node == null || node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.word = null;
+        size--;
+        // prune the branch that no longer leads to any word
+        for (int i = key.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            node.parent.children.remove(key.charAt(i));
+            node = node.parent;
+        }
+    }
+
+    /**
+     * Returns true if {@code word} is in the trie, ignoring case.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        Node node = find(toKey(word));
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words that start with {@code prefix} ignoring case, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node start = find(toKey(prefix));
+        if (start == null || limit <= 0) {
+            return completions;
+        }
+        Deque<Iterator<Node>> path = new ArrayDeque<>();
+        if (start.count > 0) {
+            completions.add(start.word);
+        }
+        path.push(start.children.values().iterator());
+        while (!path.isEmpty() && completions.size() < limit) {
+            Iterator<Node> siblings = path.peek();
+            if (!siblings.hasNext()) {
+                path.pop();
+                continue;
+            }
+            Node node = siblings.next();
+            if (node.count > 0) {
+                completions.add(node.word);
+            }
+            path.push(node.children.values().iterator());
+        }
+        return completions;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+        private int count;
+
+        Node(Node parent) {
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package trackitnus.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical immutable values, looked up by the string they are made from.
+ * Values that are equal are then usually the same object, so they take up memory only once and compare by
+ * reference. The pool only holds weak references, so a value is dropped from it once nothing else uses it.
+ *
+ * @param <T> the type of the values.
+ */
+public class WeakInterner<T> {
+    private final Function<T, String> keyOf;
+    // each key is the string held by its value, so the entry lives exactly as long as the value
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Creates an empty pool of values that are made from the string given by {@code keyOf}.
+     * {@code keyOf} must return a string held by the value, not a copy, for the value to stay pooled.
+     */
+    public WeakInterner(Function<T, String> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the pooled value made from {@code key}, creating it with {@code factory} if there is none.
+     * {@code factory} must return a value made from a string equal to {@code key}; it is not called again for
+     * that key while the value is in use, so any validation it does happens once.
+     */
+    public synchronized T intern(String key, Function<String, T> factory) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(keyOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, including values that are no longer used but have not been
+     * collected yet.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
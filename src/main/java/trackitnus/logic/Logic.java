@@ -2,12 +2,15 @@ package trackitnus.logic;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.index.Index;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.completion.CommandCompleter;
+import trackitnus.logic.metrics.CommandMetrics;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.Model;
 import trackitnus.model.ReadOnlyTrackIter;
@@ -31,6 +34,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the latency and usage statistics of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the completer of partly typed commands, which follows the changes to the data.
+     */
+    CommandCompleter getCommandCompleter();
+
     /**
      * Returns the TrackIter.
      *
@@ -68,6 +81,20 @@ public interface Logic {
      */
     void clearAllList();
 
+    /**
+     * Filters the contact list as the user types {@code query}, matching parts of words and allowing typos.
+     *
+     * @see Model#updateContactSearchFilter(String)
+     */
+    void updateContactSearchFilter(String query);
+
+    /**
+     * Filters the module list as the user types {@code query}, matching parts of words and allowing typos.
+     *
+     * @see Model#updateModuleSearchFilter(String)
+     */
+    void updateModuleSearchFilter(String query);
+
     /**
      * @param date The date to query
      * @return all lessons happens on that date
@@ -108,6 +135,16 @@ public interface Logic {
      */
     ObservableList<Task> getDayUpcomingTasks(LocalDate date);
 
+    /**
+     * @return today's date, as seen by the overdue and future task lists.
+     */
+    LocalDate getToday();
+
+    /**
+     * Registers {@code listener} to be called with the new date when the day rolls over.
+     */
+    void addDayChangeListener(Consumer<LocalDate> listener);
+
     /**
      * @param module The module to get index of
      * @return The index of the module in the list of all modules
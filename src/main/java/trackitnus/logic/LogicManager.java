@@ -1,19 +1,31 @@
 package trackitnus.logic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.core.Messages;
 import trackitnus.commons.core.index.Index;
 import trackitnus.logic.commands.Command;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.completion.CommandCompleter;
+import trackitnus.logic.completion.CommandCorrector;
+import trackitnus.logic.metrics.CommandMetrics;
+import trackitnus.logic.metrics.CommandMetrics.Phase;
 import trackitnus.logic.parser.TrackIterParser;
 import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.DataSection;
 import trackitnus.model.Model;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.commons.Code;
@@ -33,33 +45,147 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TrackIterParser trackIterParser;
+    private final CommandMetrics metrics;
+    private final CommandCompleter completer;
+    private final CommandCorrector corrector;
+    // the modification counts of the data as last saved, or as given, as that data was just read from the disk
+    private long[] savedModificationCounts;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which looks up command
+     * completions in the common fork-join pool.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which looks up command
+     * completions on {@code backgroundExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor backgroundExecutor) {
         this.model = model;
         this.storage = storage;
-        trackIterParser = new TrackIterParser();
+        metrics = new CommandMetrics();
+        trackIterParser = new TrackIterParser(metrics);
+        completer = new CommandCompleter(trackIterParser.getRegistry(), backgroundExecutor);
+        completer.attach(model.getTrackIter());
+        corrector = new CommandCorrector(trackIterParser.getRegistry());
+        corrector.attach(model.getTrackIter());
+        savedModificationCounts = getModificationCounts(model.getTrackIter());
+        updateDataSizeGauges();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = trackIterParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            metrics.record(CommandMetrics.INVALID_COMMAND, Phase.PARSE, System.nanoTime() - parseStart);
+            metrics.recordFailure(CommandMetrics.INVALID_COMMAND);
+            String message = appendCorrections(pe.getMessage(), commandText);
+            throw message.equals(pe.getMessage()) ? pe : new ParseException(message, pe);
+        }
+        String commandKey = CommandMetrics.getCommandKey(commandText);
+        long executeStart = System.nanoTime();
+        metrics.record(commandKey, Phase.PARSE, executeStart - parseStart);
 
-        Command command = trackIterParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        CommandResult commandResult;
+        model.beginTransaction();
+        try {
+            commandResult = command.execute(model);
+            model.commitTransaction();
+        } catch (CommandException | RuntimeException e) {
+            // a command that fails halfway must not leave its earlier changes behind
+            model.rollbackTransaction();
+            metrics.recordFailure(commandKey);
+            String message = appendCorrections(e.getMessage(), commandText);
+            if (e instanceof CommandException && !message.equals(e.getMessage())) {
+                throw new CommandException(message, e);
+            }
+            throw e;
+        } finally {
+            metrics.record(commandKey, Phase.EXECUTE, System.nanoTime() - executeStart);
+        }
 
+        long persistStart = System.nanoTime();
         try {
-            storage.saveTrackIter(model.getTrackIter());
+            saveIfModified();
         } catch (IOException ioe) {
+            metrics.recordFailure(commandKey);
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            metrics.record(commandKey, Phase.PERSIST, System.nanoTime() - persistStart);
         }
 
+        metrics.recordSuccess(commandKey);
+        updateDataSizeGauges();
         return commandResult;
     }
 
+    /**
+     * Saves the data, unless it has not been modified since it was last saved.
+     */
+    private void saveIfModified() throws IOException {
+        ReadOnlyTrackIter trackIter = model.getTrackIter();
+        long[] modificationCounts = getModificationCounts(trackIter);
+        boolean isTracked = Arrays.stream(modificationCounts).noneMatch(count -> count == ReadOnlyTrackIter.UNTRACKED);
+        if (isTracked && Arrays.equals(modificationCounts, savedModificationCounts)) {
+            logger.fine("Data unchanged, not saving");
+            return;
+        }
+        storage.saveTrackIter(trackIter);
+        // reading the lists to save them may sort them, so the counts are taken again
+        savedModificationCounts = getModificationCounts(trackIter);
+    }
+
+    private static long[] getModificationCounts(ReadOnlyTrackIter trackIter) {
+        long[] modificationCounts = new long[DataSection.values().length];
+        for (DataSection section : DataSection.values()) {
+            modificationCounts[section.ordinal()] = trackIter.getModificationCount(section);
+        }
+        return modificationCounts;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public CommandCompleter getCommandCompleter() {
+        return completer;
+    }
+
+    /**
+     * Returns {@code message} followed by what the user may have meant by {@code commandText}, if anything.
+     */
+    private String appendCorrections(String message, String commandText) {
+        List<String> corrections = corrector.suggestCorrections(commandText, message == null ? "" : message);
+        if (corrections.isEmpty()) {
+            return message;
+        }
+        return message + "\n" + String.format(Messages.MESSAGE_DID_YOU_MEAN, String.join(", ", corrections));
+    }
+
+    private void updateDataSizeGauges() {
+        ReadOnlyTrackIter trackIter = model.getTrackIter();
+        metrics.setGauge("contacts", trackIter.getContactList().size());
+        metrics.setGauge("modules", trackIter.getModuleList().size());
+        metrics.setGauge("tasks", trackIter.getTaskList().size());
+        metrics.setGauge("lessons", trackIter.getLessonList().size());
+        try {
+            metrics.setGauge("data file bytes", Files.size(storage.getTrackIterFilePath()));
+        } catch (IOException e) {
+            // the data file has not been written yet
+            metrics.setGauge("data file bytes", 0);
+        }
+    }
+
     @Override
     public ReadOnlyTrackIter getTrackIter() {
         return model.getTrackIter();
@@ -95,6 +221,16 @@ public class LogicManager implements Logic {
         model.clearAllList();
     }
 
+    @Override
+    public void updateContactSearchFilter(String query) {
+        model.updateContactSearchFilter(query);
+    }
+
+    @Override
+    public void updateModuleSearchFilter(String query) {
+        model.updateModuleSearchFilter(query);
+    }
+
     @Override
     public ObservableList<Lesson> getDayUpcomingLessons(LocalDate date) {
         return model.getDayUpcomingLessons(date);
@@ -135,6 +271,16 @@ public class LogicManager implements Logic {
         return model.getDayUpcomingTasks(date);
     }
 
+    @Override
+    public LocalDate getToday() {
+        return model.getToday();
+    }
+
+    @Override
+    public void addDayChangeListener(Consumer<LocalDate> listener) {
+        model.addDayChangeListener(listener);
+    }
+
     @Override
     public Index getModuleIndex(Module module) throws CommandException {
         return model.getModuleIndex(module.getCode());
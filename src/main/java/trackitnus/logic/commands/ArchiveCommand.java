@@ -0,0 +1,66 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.task.Task;
+
+/**
+ * Finds the archived tasks whose text matches a query. Old tasks are moved to the archive automatically.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Finds the archived tasks that contain all the given words, best match first.\n"
+        + "Separate alternatives with OR, and end a word with * to match every word starting with it.\n"
+        + "Parameters: WORD [MORE_WORDS]... [OR WORD [MORE_WORDS]...]...\n"
+        + "Example: " + COMMAND_WORD + " quiz cs2103* OR tutorial";
+
+    public static final String MESSAGE_NO_RESULTS = "No archived task matches %1$s";
+    public static final String MESSAGE_SUCCESS = "%1$d archived tasks for %2$s";
+    public static final String MESSAGE_CANNOT_READ_ARCHIVE = "Could not read the archive: ";
+
+    private final String queryText;
+    private final SearchQuery query;
+
+    /**
+     * Creates an ArchiveCommand for {@code query}, which the user entered as {@code queryText}.
+     */
+    public ArchiveCommand(String queryText, SearchQuery query) {
+        requireNonNull(queryText);
+        requireNonNull(query);
+        this.queryText = queryText;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Task> tasks;
+        try {
+            tasks = model.searchArchive(query);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_CANNOT_READ_ARCHIVE + e.getMessage(), e);
+        }
+        if (tasks.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_RESULTS, queryText));
+        }
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, tasks.size(), queryText));
+        FindCommand.appendGroup(feedback, "Tasks", tasks);
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ArchiveCommand // instanceof handles nulls
+            && query.equals(((ArchiveCommand) other).query)); // state check
+    }
+}
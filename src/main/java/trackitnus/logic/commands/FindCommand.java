@@ -0,0 +1,80 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import trackitnus.model.Model;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchResult;
+
+/**
+ * Finds the contacts, modules, tasks and lessons whose text matches a query, using the model's search index.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Finds the contacts, modules, tasks and lessons that contain all the given words, best match first.\n"
+        + "Separate alternatives with OR, and end a word with * to match every word starting with it.\n"
+        + "Parameters: WORD [MORE_WORDS]... [OR WORD [MORE_WORDS]...]...\n"
+        + "Example: " + COMMAND_WORD + " quiz cs2103* OR tutorial";
+
+    public static final String MESSAGE_NO_RESULTS = "Nothing matches %1$s";
+    public static final String MESSAGE_SUCCESS = "%1$d results for %2$s";
+    public static final String MESSAGE_MORE_RESULTS = "  ... and %1$d more";
+    public static final int MAX_RESULTS_PER_TYPE = 10;
+
+    private final String queryText;
+    private final SearchQuery query;
+
+    /**
+     * Creates a FindCommand for {@code query}, which the user entered as {@code queryText}.
+     */
+    public FindCommand(String queryText, SearchQuery query) {
+        requireNonNull(queryText);
+        requireNonNull(query);
+        this.queryText = queryText;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SearchResult result = model.search(query);
+        if (result.size() == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_RESULTS, queryText));
+        }
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, result.size(), queryText));
+        appendGroup(feedback, "Contacts", result.getContacts());
+        appendGroup(feedback, "Modules", result.getModules());
+        appendGroup(feedback, "Tasks", result.getTasks());
+        appendGroup(feedback, "Lessons", result.getLessons());
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Appends {@code entries} to {@code feedback} under {@code title}, showing at most
+     * {@link #MAX_RESULTS_PER_TYPE} of them.
+     */
+    static void appendGroup(StringBuilder feedback, String title, List<?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        feedback.append('\n').append(title).append(" (").append(entries.size()).append("):");
+        for (int i = 0; i < entries.size() && i < MAX_RESULTS_PER_TYPE; i++) {
+            feedback.append("\n  ").append(i + 1).append(". ").append(entries.get(i).toString().trim());
+        }
+        if (entries.size() > MAX_RESULTS_PER_TYPE) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_RESULTS, entries.size() - MAX_RESULTS_PER_TYPE));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FindCommand // instanceof handles nulls
+            && query.equals(((FindCommand) other).query)); // state check
+    }
+}
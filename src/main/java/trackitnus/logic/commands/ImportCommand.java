@@ -0,0 +1,81 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.diff.TrackIterDiff;
+
+/**
+ * Runs every command of a script file as a single all-or-nothing change.
+ * If any command fails, the changes made by the commands before it are rolled back.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Runs the commands in a file, one per line. Blank lines and lines starting with # are skipped.\n"
+        + "If any command fails, none of the commands take effect.\n"
+        + "Parameters: FILE_PATH\n"
+        + "Example: " + COMMAND_WORD + " semester.txt";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d commands from %2$s: %3$s";
+    public static final String MESSAGE_LINE_FAILED = "Nothing was imported. Line %1$d failed: %2$s";
+
+    private final String source;
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates an ImportCommand that runs {@code commands}, which were read from the given lines of {@code source}.
+     */
+    public ImportCommand(String source, List<Command> commands, List<Integer> lineNumbers) {
+        requireNonNull(source);
+        requireNonNull(commands);
+        requireNonNull(lineNumbers);
+        assert commands.size() == lineNumbers.size();
+        this.source = source;
+        this.commands = List.copyOf(commands);
+        this.lineNumbers = List.copyOf(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyTrackIter before = model.getTrackIterSnapshot();
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(model);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumbers.get(i),
+                        ce.getMessage()), ce);
+                }
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+        TrackIterDiff changes = TrackIterDiff.between(before, model.getTrackIterSnapshot());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), source, changes.getSummary()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ImportCommand // instanceof handles nulls
+            && source.equals(((ImportCommand) other).source)
+            && commands.equals(((ImportCommand) other).commands)
+            && lineNumbers.equals(((ImportCommand) other).lineNumbers)); // state check
+    }
+}
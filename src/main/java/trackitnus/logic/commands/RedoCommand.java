@@ -0,0 +1,35 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+
+/**
+ * Reapplies the last change reverted by undo.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reapplies the last change reverted by undo.\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redone the last change";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof RedoCommand; // stateless, so every instance is equal
+    }
+}
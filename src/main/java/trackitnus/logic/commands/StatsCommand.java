@@ -0,0 +1,40 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.logic.metrics.CommandMetrics;
+import trackitnus.model.Model;
+
+/**
+ * Shows the latency and usage statistics of the commands run so far.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows command timings and data sizes.\n"
+        + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a StatsCommand that reports the statistics in {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(metrics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof StatsCommand // instanceof handles nulls
+            && metrics == ((StatsCommand) other).metrics); // state check
+    }
+}
@@ -0,0 +1,35 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+
+/**
+ * Reverts the last change to the data.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reverts the last change to the data.\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undone the last change";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        model.undo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof UndoCommand; // stateless, so every instance is equal
+    }
+}
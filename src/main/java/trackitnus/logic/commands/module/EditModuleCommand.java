@@ -102,7 +102,7 @@ public final class EditModuleCommand extends Command {
             // edit all the related contacts
             List<Contact> contactsToEdit = new ArrayList<>(model.getModuleContacts(code));
             for (Contact contact : contactsToEdit) {
-                Contact updatedContact = contact.setTag(new Tag(code.toString()), new Tag(updatedCode.toString()));
+                Contact updatedContact = contact.setTag(Tag.of(code.toString()), Tag.of(updatedCode.toString()));
                 model.setContact(contact, updatedContact);
             }
         }
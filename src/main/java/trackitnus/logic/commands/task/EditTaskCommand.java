@@ -62,6 +62,10 @@ public final class EditTaskCommand extends Command {
         Code updatedCode = editTaskDescriptor.getIsCodeChanged()
             ? editTaskDescriptor.getCode().orElse(null)
             : taskToEdit.getCode().orElse(null);
+        if (!editTaskDescriptor.getIsRemarkChanged() && taskToEdit.getStoredRemark().isPresent()) {
+            // keeps a long remark where it is stored rather than reading it into memory
+            return new Task(updatedName, updatedDate, updatedCode, taskToEdit.getStoredRemark().get());
+        }
         String updatedRemarks = editTaskDescriptor.getIsRemarkChanged()
             ? editTaskDescriptor.getRemark().orElse("")
             : taskToEdit.getRemark();
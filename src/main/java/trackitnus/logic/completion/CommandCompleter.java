@@ -0,0 +1,257 @@
+package trackitnus.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_CODE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_DATE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_NAME;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_PHONE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_REMARK;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_TAG;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.commons.util.PrefixTrie;
+import trackitnus.logic.commands.module.AddModuleCommand;
+import trackitnus.logic.parser.ParserRegistry;
+import trackitnus.logic.parser.Prefix;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * Suggests completions of a partly typed command: command words, prefixes, and the values of module codes,
+ * contact names, tags and lesson types.
+ * The values are kept in {@code PrefixTrie}s that follow the changes of the attached {@code ReadOnlyTrackIter},
+ * so a lookup never scans the data. Lookups may run on any thread; {@link #requestCompletions} runs them on the
+ * executor given to the completer and drops requests that were overtaken by newer ones.
+ */
+public class CommandCompleter {
+    public static final int MAX_COMPLETIONS = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandCompleter.class);
+    private static final String[] LESSON_TYPES = {"lec", "lecture", "tut", "tutorial", "lab", "laboratory",
+        "rec", "recitation", "sec", "sectional"};
+
+    private final Map<String, PrefixTrie> commandWordsByType = new HashMap<>();
+    private final Map<String, PrefixTrie> prefixesByType = new HashMap<>();
+    private final Map<String, PrefixTrie> valuesByField = new HashMap<>();
+    private final PrefixTrie moduleCodes = new PrefixTrie();
+    private final PrefixTrie contactNames = new PrefixTrie();
+    private final PrefixTrie tags = new PrefixTrie();
+    private final PrefixTrie lessonTypes = new PrefixTrie();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong latestRequest = new AtomicLong();
+    private final Executor executor;
+    private volatile boolean isShutdown;
+
+    /**
+     * Creates a completer for the commands registered in {@code registry}, which looks up requested completions on
+     * {@code executor}.
+     */
+    public CommandCompleter(ParserRegistry registry, Executor executor) {
+        requireNonNull(registry);
+        requireNonNull(executor);
+        this.executor = executor;
+        for (String type : registry.getTypes()) {
+            PrefixTrie commandWords = new PrefixTrie();
+            registry.getCommandWords(type).forEach(commandWords::add);
+            commandWordsByType.put(type, commandWords);
+        }
+        for (String lessonType : LESSON_TYPES) {
+            lessonTypes.add(lessonType);
+        }
+
+        addField(Contact.TYPE, PREFIX_NAME, contactNames);
+        addField(Contact.TYPE, PREFIX_PHONE, null);
+        addField(Contact.TYPE, PREFIX_EMAIL, null);
+        addField(Contact.TYPE, PREFIX_TAG, tags);
+        addField(Module.TYPE, PREFIX_CODE, moduleCodes);
+        addField(Module.TYPE, PREFIX_NAME, null);
+        addField(Task.TYPE, PREFIX_NAME, null);
+        addField(Task.TYPE, PREFIX_DATE, null);
+        addField(Task.TYPE, PREFIX_CODE, moduleCodes);
+        addField(Task.TYPE, PREFIX_REMARK, null);
+        addField(Lesson.TYPE, PREFIX_CODE, moduleCodes);
+        addField(Lesson.TYPE, PREFIX_TYPE, lessonTypes);
+        addField(Lesson.TYPE, PREFIX_DATE, null);
+        addField(Lesson.TYPE, PREFIX_ADDRESS, null);
+    }
+
+    /**
+     * Fills the value tries from {@code trackIter} and keeps them up to date with its later changes.
+     */
+    public void attach(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        ObservableListUtil.follow(trackIter.getModuleList(), lock.writeLock(),
+            module -> moduleCodes.add(module.getCode().code), module -> moduleCodes.remove(module.getCode().code));
+        ObservableListUtil.follow(trackIter.getContactList(), lock.writeLock(), this::addContact, this::removeContact);
+        logger.fine(() -> "Completing " + moduleCodes.size() + " module codes and " + contactNames.size()
+            + " contact names");
+    }
+
+    /**
+     * Returns up to {@code limit} completions of {@code input}, each being the whole completed input.
+     */
+    public List<String> getCompletions(String input, int limit) {
+        requireNonNull(input);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<String> completions = new ArrayList<>();
+            collectCompletions(input, completions);
+            return completions.size() > limit ? new ArrayList<>(completions.subList(0, limit)) : completions;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Looks up the completions of {@code input} on the executor and passes them to {@code callback}, on the
+     * executor's thread, unless another request was made in the meantime.
+     * Requests that have not started yet when a newer one arrives are skipped.
+     */
+    public void requestCompletions(String input, Consumer<List<String>> callback) {
+        requireNonNull(input);
+        requireNonNull(callback);
+        if (isShutdown) {
+            return;
+        }
+        long request = latestRequest.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                if (isShutdown || request != latestRequest.get()) {
+                    return;
+                }
+                List<String> completions = getCompletions(input, MAX_COMPLETIONS);
+                if (request == latestRequest.get()) {
+                    callback.accept(completions);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.fine(() -> "Dropped a completion request: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops looking up completions. Later requests are ignored.
+     */
+    public void shutdown() {
+        isShutdown = true;
+    }
+
+    private void addField(String type, Prefix prefix, PrefixTrie values) {
+        prefixesByType.computeIfAbsent(type, unused -> new PrefixTrie()).add(prefix.getPrefix());
+        if (values != null) {
+            valuesByField.put(type + prefix.getPrefix(), values);
+        }
+    }
+
+    private void addContact(Contact contact) {
+        contactNames.add(contact.getName().value);
+        contact.getTags().forEach(tag -> tags.add(tag.tagName));
+    }
+
+    private void removeContact(Contact contact) {
+        contactNames.remove(contact.getName().value);
+        contact.getTags().forEach(tag -> tags.remove(tag.tagName));
+    }
+
+    private void collectCompletions(String input, List<String> completions) {
+        int typeEnd = input.indexOf(' ');
+        if (typeEnd < 0) {
+            completeFirstWord(input, completions);
+            return;
+        }
+        String type = input.substring(0, typeEnd);
+        PrefixTrie commandWords = commandWordsByType.get(type);
+        if (type.isEmpty() || commandWords == null) {
+            return;
+        }
+        int commandWordEnd = input.indexOf(' ', typeEnd + 1);
+        if (commandWordEnd < 0) {
+            String head = input.substring(0, typeEnd + 1);
+            for (String commandWord : commandWords.complete(input.substring(typeEnd + 1), MAX_COMPLETIONS)) {
+                completions.add(head + commandWord);
+            }
+            return;
+        }
+        if (!commandWords.contains(input.substring(typeEnd + 1, commandWordEnd))) {
+            return;
+        }
+        completeArguments(input, type, input.substring(typeEnd + 1, commandWordEnd), commandWordEnd, completions);
+    }
+
+    /**
+     * Completes an untyped command word, or lists the command words of a type that has been typed in full.
+     */
+    private void completeFirstWord(String input, List<String> completions) {
+        completions.addAll(commandWordsByType.getOrDefault("", new PrefixTrie()).complete(input, MAX_COMPLETIONS));
+        PrefixTrie commandWords = commandWordsByType.get(input);
+        if (!input.isEmpty() && commandWords != null) {
+            for (String commandWord : commandWords.complete("", MAX_COMPLETIONS)) {
+                completions.add(input + " " + commandWord);
+            }
+        }
+    }
+
+    /**
+     * Completes the value of the last prefix in the arguments, and the prefix being typed, if any.
+     * The arguments start at {@code argumentsStart}, which is a space.
+     */
+    private void completeArguments(String input, String type, String commandWord, int argumentsStart,
+                                   List<String> completions) {
+        PrefixTrie prefixes = prefixesByType.get(type);
+        if (prefixes == null) {
+            return;
+        }
+        int valueStart = -1;
+        PrefixTrie values = null;
+        for (String prefix : prefixes.complete("", Integer.MAX_VALUE)) {
+            int prefixStart = input.lastIndexOf(" " + prefix);
+            if (prefixStart >= argumentsStart && prefixStart + prefix.length() + 1 > valueStart) {
+                valueStart = prefixStart + prefix.length() + 1;
+                values = valuesByField.get(type + prefix);
+            }
+        }
+        if (valueStart < 0 && type.equals(Module.TYPE) && !commandWord.equals(AddModuleCommand.COMMAND_WORD)) {
+            // the module commands that take a preamble identify the module by its code
+            valueStart = argumentsStart + 1;
+            values = moduleCodes;
+        }
+        if (values != null) {
+            String value = input.substring(valueStart);
+            for (String completion : values.complete(value, MAX_COMPLETIONS)) {
+                if (!completion.equals(value)) {
+                    completions.add(input.substring(0, valueStart) + completion);
+                }
+            }
+        }
+
+        int tokenStart = input.lastIndexOf(' ') + 1;
+        String token = input.substring(tokenStart);
+        if (token.indexOf('/') < 0) {
+            for (String prefix : prefixes.complete(token, MAX_COMPLETIONS)) {
+                completions.add(input.substring(0, tokenStart) + prefix);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package trackitnus.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_CODE;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.commons.util.BkTree;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.logic.parser.ArgumentMultimap;
+import trackitnus.logic.parser.ArgumentTokenizer;
+import trackitnus.logic.parser.CommandHead;
+import trackitnus.logic.parser.ParserRegistry;
+import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.module.Module;
+
+/**
+ * Suggests what the user may have meant when a command fails because of a misspelt command or module code.
+ * Commands and module codes are kept in {@code BkTree}s; the module codes follow the changes of the attached
+ * {@code ReadOnlyTrackIter}.
+ */
+public class CommandCorrector {
+    public static final int MAX_SUGGESTIONS = 3;
+
+    private final BkTree commands = new BkTree();
+    private final BkTree moduleCodes = new BkTree();
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Creates a corrector for the commands registered in {@code registry}.
+     */
+    public CommandCorrector(ParserRegistry registry) {
+        requireNonNull(registry);
+        for (String type : registry.getTypes()) {
+            for (String commandWord : registry.getCommandWords(type)) {
+                commands.add(type.isEmpty() ? commandWord : type + " " + commandWord);
+            }
+        }
+    }
+
+    /**
+     * Fills the module codes from {@code trackIter} and keeps them up to date with its later changes.
+     */
+    public void attach(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        ObservableListUtil.follow(trackIter.getModuleList(), lock,
+            module -> moduleCodes.add(module.getCode().code), module -> moduleCodes.remove(module.getCode().code));
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} corrections of {@code commandText}, which failed with
+     * {@code errorMessage}, or an empty list if there are none or the error is not caused by a misspelling.
+     * Unknown commands and types are corrected to the closest commands, and unknown module codes to the closest
+     * module codes.
+     */
+    public List<String> suggestCorrections(String commandText, String errorMessage) {
+        requireNonNull(commandText);
+        requireNonNull(errorMessage);
+        lock.lock();
+        try {
+            switch (errorMessage) {
+            case Messages.MESSAGE_UNKNOWN_COMMAND:
+            case Messages.MESSAGE_INVALID_TYPE:
+                return suggestCommands(commandText);
+            case Messages.MESSAGE_MODULE_DOES_NOT_EXIST:
+                return suggestModuleCodes(commandText);
+            default:
+                return Collections.emptyList();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Looks up the first two words, for typed commands, and failing that the first word, for commands without
+     * a type.
+     */
+    private List<String> suggestCommands(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 3);
+        if (words.length > 1) {
+            String typedCommand = words[0] + " " + words[1];
+            List<String> suggestions = commands.searchClosest(typedCommand, getMaxDistance(typedCommand),
+                MAX_SUGGESTIONS);
+            if (!suggestions.isEmpty()) {
+                return suggestions;
+            }
+        }
+        return commands.searchClosest(words[0], getMaxDistance(words[0]), MAX_SUGGESTIONS);
+    }
+
+    /**
+     * Corrects the code given with the code prefix or, for module commands, as the preamble.
+     */
+    private List<String> suggestModuleCodes(String commandText) {
+        CommandHead head;
+        try {
+            head = CommandHead.of(commandText);
+        } catch (ParseException pe) {
+            return Collections.emptyList();
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(head.getArguments(), PREFIX_CODE);
+        String code = argMultimap.getValue(PREFIX_CODE)
+            .orElse(head.getType().equals(Module.TYPE) ? argMultimap.getPreamble() : "").trim();
+        if (code.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return moduleCodes.searchClosest(code, getMaxDistance(code), MAX_SUGGESTIONS);
+    }
+
+    /**
+     * Allows one edit in short words, where two edits would match almost anything, and two edits otherwise.
+     */
+    private static int getMaxDistance(String word) {
+        return word.length() <= 3 ? 1 : 2;
+    }
+}
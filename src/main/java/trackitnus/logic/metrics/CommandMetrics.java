@@ -0,0 +1,208 @@
+package trackitnus.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.commons.util.StringUtil;
+
+/**
+ * Collects latency histograms and counters for every kind of command, plus gauges of the size of the data.
+ * Commands are keyed by their type and command word (e.g. {@code "T add"}), so the number of keys is bounded
+ * by the number of commands; input that cannot be parsed is counted under {@link #INVALID_COMMAND}.
+ */
+public class CommandMetrics {
+    public static final String INVALID_COMMAND = "<invalid>";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    /**
+     * The stages a command goes through, each timed separately.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST, UI_REFRESH
+    }
+
+    private final ConcurrentMap<String, CommandStats> statsByCommand = new ConcurrentHashMap<>();
+    private final Map<String, Long> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> sampledGauges = new ConcurrentHashMap<>();
+    private final Instant startTime = Instant.now();
+
+    private ScheduledExecutorService dumpScheduler;
+
+    /**
+     * Returns the key identifying the command in {@code commandText}: its type letter, if any, and command word.
+     */
+    public static String getCommandKey(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 3);
+        if (words[0].isEmpty()) {
+            return INVALID_COMMAND;
+        }
+        boolean hasType = words.length > 1 && words[0].length() == 1 && Character.isUpperCase(words[0].charAt(0));
+        return hasType ? words[0] + " " + words[1] : words[0];
+    }
+
+    /**
+     * Records that {@code phase} of the command identified by {@code commandKey} took {@code durationNanos}.
+     */
+    public void record(String commandKey, Phase phase, long durationNanos) {
+        getStats(commandKey).histograms.get(phase).record(durationNanos);
+    }
+
+    /**
+     * Counts one successful run of the command identified by {@code commandKey}.
+     */
+    public void recordSuccess(String commandKey) {
+        getStats(commandKey).successes.increment();
+    }
+
+    /**
+     * Counts one failed run of the command identified by {@code commandKey}.
+     */
+    public void recordFailure(String commandKey) {
+        getStats(commandKey).failures.increment();
+    }
+
+    /**
+     * Sets the latest value of the gauge named {@code name}.
+     * Gauges are sampled by the caller rather than read when reporting, so that reports written from a
+     * background thread never touch the model.
+     */
+    public void setGauge(String name, long value) {
+        requireNonNull(name);
+        gauges.put(name, value);
+    }
+
+    /**
+     * Makes the gauge named {@code name} read its value from {@code sampler} whenever a report is made.
+     * {@code sampler} may be called from any thread, so it must not touch the model.
+     */
+    public void registerGauge(String name, LongSupplier sampler) {
+        requireNonNull(name);
+        requireNonNull(sampler);
+        sampledGauges.put(name, sampler);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} for the command identified by {@code commandKey}.
+     */
+    public LatencyHistogram getHistogram(String commandKey, Phase phase) {
+        return getStats(commandKey).histograms.get(phase);
+    }
+
+    /**
+     * Returns the number of runs, successful or not, of the command identified by {@code commandKey}.
+     */
+    public long getCount(String commandKey) {
+        CommandStats stats = statsByCommand.get(commandKey);
+        return stats == null ? 0 : stats.successes.sum() + stats.failures.sum();
+    }
+
+    /**
+     * Returns a human-readable report of every counter, histogram and gauge.
+     */
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Metrics since ").append(startTime).append('\n');
+        Map<String, Long> allGauges = new TreeMap<>(gauges);
+        sampledGauges.forEach((name, sampler) -> allGauges.put(name, sampler.getAsLong()));
+        allGauges.forEach((name, value) -> sb.append(name).append(": ").append(value).append('\n'));
+        new TreeMap<>(statsByCommand).forEach((commandKey, stats) -> {
+            sb.append('[').append(commandKey).append("] ok=").append(stats.successes.sum())
+                .append(" failed=").append(stats.failures.sum()).append('\n');
+            stats.histograms.forEach((phase, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    sb.append("  ").append(phase.name().toLowerCase()).append(": ").append(histogram).append('\n');
+                }
+            });
+        });
+        return sb.toString();
+    }
+
+    /**
+     * Writes the report to {@code file}, replacing its contents.
+     */
+    public void dumpTo(Path file) throws IOException {
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, getReport());
+    }
+
+    /**
+     * Starts writing the report to {@code file} every {@code intervalSeconds} seconds. The writes run on
+     * {@code writeExecutor}, e.g. the I/O lane, so that they queue up behind the app's other disk writes.
+     * Does nothing if a periodic dump is already running or the interval is not positive.
+     */
+    public synchronized void startPeriodicDump(Path file, long intervalSeconds, Executor writeExecutor) {
+        requireNonNull(file);
+        requireNonNull(writeExecutor);
+        if (dumpScheduler != null || intervalSeconds <= 0) {
+            return;
+        }
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpScheduler.scheduleAtFixedRate(() -> {
+            try {
+                writeExecutor.execute(() -> {
+                    try {
+                        dumpTo(file);
+                    } catch (IOException | RuntimeException e) {
+                        logger.warning("Failed to write metrics to " + file + ": " + StringUtil.getDetails(e));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.fine("Skipped a metrics dump, as the writer is busy or stopped");
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic dump started by {@link #startPeriodicDump(Path, long, Executor)}.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpScheduler == null) {
+            return;
+        }
+        dumpScheduler.shutdownNow();
+        dumpScheduler = null;
+    }
+
+    private CommandStats getStats(String commandKey) {
+        requireNonNull(commandKey);
+        return statsByCommand.computeIfAbsent(commandKey, unused -> new CommandStats());
+    }
+
+    /**
+     * The counters and histograms of one kind of command.
+     */
+    private static class CommandStats {
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+        CommandStats() {
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package trackitnus.logic.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of durations.
+ * Durations are counted in buckets whose upper bounds double from 1 microsecond up to about 16 seconds, so
+ * recording is constant-time and allocation-free, and percentiles are reported as the bound of their bucket.
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = 26;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records one duration.
+     */
+    public void record(long durationNanos) {
+        long nanos = Math.max(0, durationNanos);
+        buckets.incrementAndGet(bucketOf(nanos));
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none were recorded.
+     */
+    public long getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations, or 0 if none were recorded.
+     *
+     * @param percentile a value between 0 (exclusive) and 100 (inclusive).
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile > 0 && percentile <= 100;
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%s p50=%s p95=%s p99=%s max=%s", getCount(), format(getMeanNanos()),
+            format(getPercentileNanos(50)), format(getPercentileNanos(95)), format(getPercentileNanos(99)),
+            format(getMaxNanos()));
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        // bucket i holds durations up to 2^i microseconds
+        int bucket = micros <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+    }
+
+    private static String format(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,17 @@
+package trackitnus.logic.parser;
+
+import trackitnus.logic.commands.ArchiveCommand;
+import trackitnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object.
+ * The query has the same syntax as that of {@link FindCommandParser}.
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    @Override
+    public ArchiveCommand parse(String args) throws ParseException {
+        String queryText = args.trim();
+        return new ArchiveCommand(queryText, FindCommandParser.parseQuery(queryText, ArchiveCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,9 +1,8 @@
 package trackitnus.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,13 +11,20 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Entries are kept in insertion order in two parallel arrays, since a command has only a handful of arguments.
  */
 public class ArgumentMultimap {
 
     /**
-     * Prefixes mapped to their respective arguments
-     **/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+     * The key under which the preamble (text before the first valid prefix) is stored.
+     */
+    static final Prefix PREAMBLE = new Prefix("");
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Prefix[] keys = new Prefix[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -28,17 +34,25 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = prefix;
+        values[size] = argValue;
+        size++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        for (int i = size - 1; i >= 0; i--) {
+            if (keys[i].equals(prefix)) {
+                return Optional.of(values[i]);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -47,16 +61,19 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> prefixValues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(prefix)) {
+                prefixValues.add(values[i]);
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return prefixValues;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 }
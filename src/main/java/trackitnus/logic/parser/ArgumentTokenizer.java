@@ -1,10 +1,5 @@
 package trackitnus.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  * e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -12,9 +7,12 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  * in the above example.<br>
+ * The arguments string is scanned once, from left to right. A prefix is recognised only right after a space.
  */
 public class ArgumentTokenizer {
 
+    private static final int TABLE_SIZE = 128;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,125 +22,57 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-            .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        long[] firstCharTable = buildFirstCharTable(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+        int valueStart = 0;
+        int length = argsString.length();
+        for (int i = 1; i < length; i++) {
+            if (argsString.charAt(i - 1) != ' ' || !mayStartPrefix(firstCharTable, argsString.charAt(i))) {
+                continue;
+            }
+            Prefix matched = matchPrefix(argsString, i, prefixes);
+            if (matched == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, i).trim());
+            currentPrefix = matched;
+            valueStart = i + matched.getPrefix().length();
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     * <p>
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-            : prefixIndex + 1; // +1 as offset for whitespace
+        argMultimap.put(currentPrefix, argsString.substring(Math.min(valueStart, length)).trim());
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return ArgumentMultimap object that maps prefixes to their arguments
+     * Returns a bit set of the characters that start one of {@code prefixes}, with the last bit standing in for
+     * every character outside the table.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static long[] buildFirstCharTable(Prefix... prefixes) {
+        long[] table = new long[TABLE_SIZE / Long.SIZE];
+        for (Prefix prefix : prefixes) {
+            String text = prefix.getPrefix();
+            assert !text.isEmpty() : "Prefixes must not be empty";
+            int index = Math.min(text.charAt(0), TABLE_SIZE - 1);
+            table[index / Long.SIZE] |= 1L << (index % Long.SIZE);
         }
-
-        return argMultimap;
+        return table;
     }
 
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static boolean mayStartPrefix(long[] firstCharTable, char c) {
+        int index = Math.min(c, TABLE_SIZE - 1);
+        return (firstCharTable[index / Long.SIZE] & (1L << (index % Long.SIZE))) != 0;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the first of {@code prefixes} that occurs in {@code argsString} at {@code position}, or null if none.
      */
-    private static class PrefixPosition {
-        private final Prefix prefix;
-        private final int startPosition;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private static Prefix matchPrefix(String argsString, int position, Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            if (argsString.startsWith(prefix.getPrefix(), position)) {
+                return prefix;
+            }
         }
+        return null;
     }
-
 }
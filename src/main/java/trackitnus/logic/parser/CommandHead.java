@@ -0,0 +1,94 @@
+package trackitnus.logic.parser;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.parser.exceptions.ParseException;
+
+/**
+ * The parts of a user input line: an optional one-letter type, the command word, and the remaining arguments.
+ * E.g. {@code T add n/Quiz d/01/01/2021} has type {@code T}, command word {@code add} and arguments
+ * {@code " n/Quiz d/01/01/2021"}.
+ */
+public final class CommandHead {
+    private final String type;
+    private final String commandWord;
+    private final String arguments;
+
+    private CommandHead(String type, String commandWord, String arguments) {
+        this.type = type;
+        this.commandWord = commandWord;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Splits {@code userInput} into its type, command word and arguments in one pass.
+     * The type is a single uppercase letter followed by whitespace; it is empty when absent.
+     *
+     * @throws ParseException if the input is blank or its arguments span several lines.
+     */
+    public static CommandHead of(String userInput) throws ParseException {
+        String input = userInput.trim();
+        int length = input.length();
+        if (length == 0) {
+            throw invalidFormat();
+        }
+
+        int position = 0;
+        String type = "";
+        if (length > 1 && isTypeLetter(input.charAt(0)) && isWhitespace(input.charAt(1))) {
+            type = input.substring(0, 1);
+            position = 1;
+            // the input is trimmed, so a non-whitespace character follows
+            while (isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        int commandWordStart = position;
+        while (position < length && !isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        String commandWord = input.substring(commandWordStart, position);
+
+        for (int i = position; i < length; i++) {
+            if (isLineTerminator(input.charAt(i))) {
+                throw invalidFormat();
+            }
+        }
+        return new CommandHead(type, commandWord, input.substring(position));
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public String getArguments() {
+        return arguments;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+    }
+
+    private static boolean isTypeLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Returns true for the characters matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true for the characters not matched by the regex {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
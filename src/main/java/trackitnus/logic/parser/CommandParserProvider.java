@@ -0,0 +1,15 @@
+package trackitnus.logic.parser;
+
+/**
+ * Contributes command parsers to a {@code TrackIterParser}.
+ * Implementations listed in {@code META-INF/services/trackitnus.logic.parser.CommandParserProvider} are found
+ * with {@link java.util.ServiceLoader} when a {@code TrackIterParser} is created, so a new command can be added
+ * without editing {@code TrackIterParser}.
+ */
+public interface CommandParserProvider {
+
+    /**
+     * Registers the parsers of this provider's commands in {@code registry}.
+     */
+    void registerParsers(ParserRegistry registry);
+}
@@ -0,0 +1,67 @@
+package trackitnus.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.FindCommand;
+import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.search.SearchIndex;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+
+/**
+ * Parses input arguments and creates a new FindCommand object.
+ * Words are ANDed together, {@code OR} separates alternatives, an optional {@code AND} is ignored, and a word
+ * ending with {@code *} matches every word starting with it. Punctuation inside a word splits it into several
+ * words, as it does in the indexed text.
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    public static final String OR = "OR";
+    public static final String AND = "AND";
+    public static final String PREFIX_WILDCARD = "*";
+
+    @Override
+    public FindCommand parse(String args) throws ParseException {
+        String queryText = args.trim();
+        return new FindCommand(queryText, parseQuery(queryText, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses {@code queryText} in the syntax described above into a query.
+     *
+     * @param messageUsage the usage of the command being parsed, shown if the query has an empty alternative.
+     * @throws ParseException if the query, or one of its alternatives, has no words.
+     */
+    static SearchQuery parseQuery(String queryText, String messageUsage) throws ParseException {
+        List<List<Term>> clauses = new ArrayList<>();
+        List<Term> clause = new ArrayList<>();
+        for (String word : queryText.trim().split("\\s+")) {
+            if (word.equals(OR)) {
+                addClause(clauses, clause, messageUsage);
+                clause = new ArrayList<>();
+            } else if (!word.equals(AND)) {
+                addTerms(clause, word);
+            }
+        }
+        addClause(clauses, clause, messageUsage);
+        return new SearchQuery(clauses);
+    }
+
+    private static void addClause(List<List<Term>> clauses, List<Term> clause, String messageUsage)
+        throws ParseException {
+        if (clause.isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        clauses.add(clause);
+    }
+
+    private static void addTerms(List<Term> clause, String word) {
+        List<String> tokens = SearchIndex.tokenize(word);
+        boolean isPrefix = word.endsWith(PREFIX_WILDCARD);
+        for (int i = 0; i < tokens.size(); i++) {
+            clause.add(new Term(tokens.get(i), isPrefix && i == tokens.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package trackitnus.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.logic.commands.ArchiveCommand;
+import trackitnus.logic.commands.Command;
+import trackitnus.logic.commands.ExitCommand;
+import trackitnus.logic.commands.FindCommand;
+import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.ImportCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.StatsCommand;
+import trackitnus.logic.commands.UndoCommand;
+import trackitnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ * Every line of the file is parsed up front, so a malformed line is reported before any command runs.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "Only add, edit and delete commands can be imported";
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Set<String> NOT_IMPORTABLE_COMMAND_WORDS = Set.of(ImportCommand.COMMAND_WORD,
+        ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD,
+        RedoCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ArchiveCommand.COMMAND_WORD);
+
+    private final TrackIterParser trackIterParser;
+
+    /**
+     * Creates a parser that parses each line of the imported file with {@code trackIterParser}.
+     */
+    public ImportCommandParser(TrackIterParser trackIterParser) {
+        requireNonNull(trackIterParser);
+        this.trackIterParser = trackIterParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     *
+     * @throws ParseException if the file cannot be read or any of its lines is not a valid command
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path file = Paths.get(trimmedArgs);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, file), ioe);
+        }
+
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            // checked before parsing so that a nested import is rejected without reading its file
+            if (NOT_IMPORTABLE_COMMAND_WORDS.contains(line.split("\\s+", 2)[0])) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                    MESSAGE_COMMAND_NOT_ALLOWED));
+            }
+            Command command;
+            try {
+                command = trackIterParser.parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            commands.add(command);
+            lineNumbers.add(lineNumber);
+        }
+        return new ImportCommand(file.toString(), commands, lineNumbers);
+    }
+}
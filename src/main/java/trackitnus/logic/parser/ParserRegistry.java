@@ -0,0 +1,59 @@
+package trackitnus.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import trackitnus.logic.commands.Command;
+
+/**
+ * Maps a command's type and command word to the parser of its arguments.
+ * Parsers are registered once and shared by every parse, so they must be stateless.
+ * Commands without a type are registered under the empty type.
+ */
+public class ParserRegistry {
+    private final Map<String, Map<String, Parser<? extends Command>>> parsersByType = new HashMap<>();
+
+    /**
+     * Registers {@code parser} for the command {@code type commandWord}, replacing any parser registered for it.
+     */
+    public void register(String type, String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(type);
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        parsersByType.computeIfAbsent(type, unused -> new HashMap<>()).put(commandWord, parser);
+    }
+
+    /**
+     * Returns true if at least one command is registered under {@code type}.
+     */
+    public boolean hasType(String type) {
+        return parsersByType.containsKey(type);
+    }
+
+    /**
+     * Returns the parser registered for the command {@code type commandWord}, or null if there is none.
+     */
+    public Parser<? extends Command> getParser(String type, String commandWord) {
+        Map<String, Parser<? extends Command>> parsers = parsersByType.get(type);
+        return parsers == null ? null : parsers.get(commandWord);
+    }
+
+    /**
+     * Returns the types that have at least one command registered, including the empty type.
+     */
+    public Set<String> getTypes() {
+        return Collections.unmodifiableSet(parsersByType.keySet());
+    }
+
+    /**
+     * Returns the command words registered under {@code type}, or an empty set if there are none.
+     */
+    public Set<String> getCommandWords(String type) {
+        Map<String, Parser<? extends Command>> parsers = parsersByType.get(type);
+        return parsers == null ? Collections.emptySet() : Collections.unmodifiableSet(parsers.keySet());
+    }
+}
@@ -63,7 +63,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -98,7 +98,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -133,7 +133,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -159,7 +159,7 @@ public class ParserUtil {
         if (!Code.isValidCode(trimmedCode)) {
             throw new ParseException(Code.MESSAGE_CONSTRAINTS);
         }
-        return new Code(trimmedCode);
+        return Code.of(trimmedCode);
     }
 
     /**
@@ -179,7 +179,7 @@ public class ParserUtil {
         if (!Code.isValidCode(trimmedCode)) {
             throw new ParseException(Code.MESSAGE_CONSTRAINTS);
         }
-        return new Code(trimmedCode);
+        return Code.of(trimmedCode);
     }
 
     /**
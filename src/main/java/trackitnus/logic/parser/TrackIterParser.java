@@ -1,12 +1,17 @@
 package trackitnus.logic.parser;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ServiceLoader;
 
 import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.ArchiveCommand;
 import trackitnus.logic.commands.Command;
 import trackitnus.logic.commands.ExitCommand;
+import trackitnus.logic.commands.FindCommand;
 import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.ImportCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.StatsCommand;
+import trackitnus.logic.commands.UndoCommand;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.DeleteContactCommand;
 import trackitnus.logic.commands.contact.EditContactCommand;
@@ -19,6 +24,7 @@ import trackitnus.logic.commands.module.EditModuleCommand;
 import trackitnus.logic.commands.task.AddTaskCommand;
 import trackitnus.logic.commands.task.DeleteTaskCommand;
 import trackitnus.logic.commands.task.EditTaskCommand;
+import trackitnus.logic.metrics.CommandMetrics;
 import trackitnus.logic.parser.contact.AddContactCommandParser;
 import trackitnus.logic.parser.contact.DeleteContactCommandParser;
 import trackitnus.logic.parser.contact.EditContactCommandParser;
@@ -39,14 +45,32 @@ import trackitnus.model.task.Task;
 
 /**
  * Parses user input.
+ * The parser of every command is looked up in a {@code ParserRegistry} that is filled once, when this parser is
+ * created, with the built-in commands and those of any {@link CommandParserProvider} found by
+ * {@link ServiceLoader}.
  */
 public class TrackIterParser {
 
+    private final CommandMetrics metrics;
+    private final ParserRegistry registry = new ParserRegistry();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser whose {@code stats} command reports on a fresh, unused {@code CommandMetrics}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<type>[A-Z]\\s+)?"
-        + "(?<commandWord>\\S+)(?<arguments>.*)");
+    public TrackIterParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command reports on {@code metrics}.
+     */
+    public TrackIterParser(CommandMetrics metrics) {
+        this.metrics = metrics;
+        registerBuiltInParsers();
+        for (CommandParserProvider provider : ServiceLoader.load(CommandParserProvider.class)) {
+            provider.registerParsers(registry);
+        }
+    }
 
     /**
      * Parses user input into command for execution.
@@ -56,86 +80,49 @@ public class TrackIterParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        CommandHead head = CommandHead.of(userInput);
+        Parser<? extends Command> parser = registry.getParser(head.getType(), head.getCommandWord());
+        if (parser != null) {
+            return parser.parse(head.getArguments());
         }
-
-        final String type = matcher.group("type") == null ? "" : matcher.group("type").trim();
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        switch (type) {
-        case Contact.TYPE:
-            switch (commandWord) {
-            case AddContactCommand.COMMAND_WORD:
-                return new AddContactCommandParser().parse(arguments);
-
-            case EditContactCommand.COMMAND_WORD:
-                return new EditContactCommandParser().parse(arguments);
-
-            case DeleteContactCommand.COMMAND_WORD:
-                return new DeleteContactCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case Module.TYPE:
-            switch (commandWord) {
-            case AddModuleCommand.COMMAND_WORD:
-                return new AddModuleCommandParser().parse(arguments);
-
-            case EditModuleCommand.COMMAND_WORD:
-                return new EditModuleCommandParser().parse(arguments);
-
-            case DeleteModuleCommand.COMMAND_WORD:
-                return new DeleteModuleCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case Task.TYPE:
-            switch (commandWord) {
-            case AddTaskCommand.COMMAND_WORD:
-                return new AddTaskCommandParser().parse(arguments);
-
-            case EditTaskCommand.COMMAND_WORD:
-                return new EditTaskCommandParser().parse(arguments);
-
-            case DeleteTaskCommand.COMMAND_WORD:
-                return new DeleteTaskCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case Lesson.TYPE:
-            switch (commandWord) {
-            case AddLessonCommand.COMMAND_WORD:
-                return new AddLessonCommandParser().parse(arguments);
-
-            case EditLessonCommand.COMMAND_WORD:
-                return new EditLessonCommandParser().parse(arguments);
-
-            case DeleteLessonCommand.COMMAND_WORD:
-                return new DeleteLessonCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case "":
-            switch (commandWord) {
-            case ExitCommand.COMMAND_WORD:
-                return new ExitCommand();
-
-            case HelpCommand.COMMAND_WORD:
-                return new HelpCommand();
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        default:
+        if (!head.getType().isEmpty() && !registry.hasType(head.getType())) {
             throw new ParseException(Messages.MESSAGE_INVALID_TYPE);
         }
+        throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
     }
 
+    /**
+     * Returns the registry of the commands this parser accepts.
+     */
+    public ParserRegistry getRegistry() {
+        return registry;
+    }
+
+    private void registerBuiltInParsers() {
+        registry.register(Contact.TYPE, AddContactCommand.COMMAND_WORD, new AddContactCommandParser());
+        registry.register(Contact.TYPE, EditContactCommand.COMMAND_WORD, new EditContactCommandParser());
+        registry.register(Contact.TYPE, DeleteContactCommand.COMMAND_WORD, new DeleteContactCommandParser());
+
+        registry.register(Module.TYPE, AddModuleCommand.COMMAND_WORD, new AddModuleCommandParser());
+        registry.register(Module.TYPE, EditModuleCommand.COMMAND_WORD, new EditModuleCommandParser());
+        registry.register(Module.TYPE, DeleteModuleCommand.COMMAND_WORD, new DeleteModuleCommandParser());
+
+        registry.register(Task.TYPE, AddTaskCommand.COMMAND_WORD, new AddTaskCommandParser());
+        registry.register(Task.TYPE, EditTaskCommand.COMMAND_WORD, new EditTaskCommandParser());
+        registry.register(Task.TYPE, DeleteTaskCommand.COMMAND_WORD, new DeleteTaskCommandParser());
+
+        registry.register(Lesson.TYPE, AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser());
+        registry.register(Lesson.TYPE, EditLessonCommand.COMMAND_WORD, new EditLessonCommandParser());
+        registry.register(Lesson.TYPE, DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser());
+
+        // commands without a type ignore their arguments, except import and find
+        registry.register("", ExitCommand.COMMAND_WORD, unused -> new ExitCommand());
+        registry.register("", HelpCommand.COMMAND_WORD, unused -> new HelpCommand());
+        registry.register("", StatsCommand.COMMAND_WORD, unused -> new StatsCommand(metrics));
+        registry.register("", ImportCommand.COMMAND_WORD, new ImportCommandParser(this));
+        registry.register("", FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register("", ArchiveCommand.COMMAND_WORD, new ArchiveCommandParser());
+        registry.register("", UndoCommand.COMMAND_WORD, unused -> new UndoCommand());
+        registry.register("", RedoCommand.COMMAND_WORD, unused -> new RedoCommand());
+    }
 }
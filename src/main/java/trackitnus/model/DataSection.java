@@ -0,0 +1,8 @@
+package trackitnus.model;
+
+/**
+ * The lists that make up the app data, each of which is tracked for changes and saved as a section of its own.
+ */
+public enum DataSection {
+    CONTACTS, MODULES, TASKS, LESSONS
+}
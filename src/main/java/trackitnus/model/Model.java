@@ -1,8 +1,11 @@
 package trackitnus.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -13,6 +16,8 @@ import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.module.Module;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchResult;
 import trackitnus.model.task.Task;
 
 /**
@@ -70,6 +75,60 @@ public interface Model {
      */
     void setTrackIter(ReadOnlyTrackIter trackIt);
 
+    /**
+     * Returns the current data, in O(1) time. Later changes to the data do not affect the returned snapshot.
+     * May be called from any thread.
+     */
+    ReadOnlyTrackIter getTrackIterSnapshot();
+
+    /**
+     * Starts a transaction: changes made from now on can be undone together with {@link #rollbackTransaction()}.
+     * Transactions may be nested; each one is committed or rolled back on its own.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes made since the matching {@link #beginTransaction()} and ends the innermost transaction.
+     * When the outermost transaction changed the data, it is recorded as one step of the undo history.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Restores the data to its state at the matching {@link #beginTransaction()} and ends the innermost
+     * transaction.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a committed change that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Restores the data to its state before the last committed change.
+     * Transactions in progress continue from the restored state.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undo();
+
+    /**
+     * Reapplies the last undone change.
+     * Transactions in progress continue from the restored state.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redo();
+
     //=========== Contact ================================================================================
 
     /**
@@ -77,6 +136,11 @@ public interface Model {
      */
     boolean hasContact(Contact contact);
 
+    /**
+     * Returns the contact with the given {@code id}, if there is one, in O(1) time.
+     */
+    Optional<Contact> getContactById(long id);
+
     /**
      * Deletes the given contact.
      * The contact must exist in the TrackIter.
@@ -131,6 +195,11 @@ public interface Model {
      */
     Optional<Module> getModule(Code code);
 
+    /**
+     * Returns the module with the given {@code id}, if there is one, in O(1) time.
+     */
+    Optional<Module> getModuleById(long id);
+
     /**
      * Deletes the given module.
      * The module must exist in the TrackIter.
@@ -163,6 +232,11 @@ public interface Model {
      */
     boolean hasTask(Task task);
 
+    /**
+     * Returns the task with the given {@code id}, if there is one, in O(1) time.
+     */
+    Optional<Task> getTaskById(long id);
+
     /**
      * Deletes the given task.
      * The task must exist in the TrackIter.
@@ -211,6 +285,11 @@ public interface Model {
      */
     boolean hasLesson(Lesson lesson);
 
+    /**
+     * Returns the lesson with the given {@code id}, if there is one, in O(1) time.
+     */
+    Optional<Lesson> getLessonById(long id);
+
     /**
      * Deletes the given lesson.
      * The lesson must exist in the TrackIter.
@@ -295,6 +374,17 @@ public interface Model {
      */
     ObservableList<Task> getDayUpcomingTasks(LocalDate date);
 
+    /**
+     * @return today's date, as seen by the overdue and future task lists.
+     */
+    LocalDate getToday();
+
+    /**
+     * Registers {@code listener} to be called with the new date when the day rolls over.
+     * The overdue and future task lists are re-bucketed before any listener is called.
+     */
+    void addDayChangeListener(Consumer<LocalDate> listener);
+
     //--------------------------------END of V1.3's new functions--------------------------------
 
     /**
@@ -309,4 +399,47 @@ public interface Model {
      */
     void clearAllList();
 
+    //=========== Search ================================================================================
+
+    /**
+     * Returns the contacts, modules, tasks and lessons that match {@code query}, best match first.
+     */
+    SearchResult search(SearchQuery query);
+
+    /**
+     * Returns the contacts, modules, tasks and lessons whose text contains {@code query}, also inside words and
+     * with a few typos, closest match first.
+     */
+    SearchResult fuzzySearch(String query);
+
+    /**
+     * Shows only the contacts that {@link #fuzzySearch} finds for {@code query} in the filtered contact list, and
+     * keeps doing so as the contacts change, until another filter is set. A blank query shows all contacts.
+     */
+    void updateContactSearchFilter(String query);
+
+    /**
+     * Shows only the modules that {@link #fuzzySearch} finds for {@code query} in the filtered module list, and
+     * keeps doing so as the modules change. A blank query shows all modules.
+     */
+    void updateModuleSearchFilter(String query);
+
+    //=========== Archive ===============================================================================
+
+    /**
+     * Moves the tasks dated before {@code cutoff} to the task archive, and returns them.
+     * The tasks are stored in the archive before they are removed from the data. As the undo history could
+     * bring them back, it is cleared if any task is moved. Does nothing if there is no archive.
+     *
+     * @throws IOException if the tasks could not be archived, in which case the data is unchanged.
+     */
+    List<Task> archiveTasksBefore(LocalDate cutoff) throws IOException;
+
+    /**
+     * Returns the archived tasks that match {@code query}, best match first, or none if there is no archive.
+     *
+     * @throws IOException if the archive could not be read.
+     */
+    List<Task> searchArchive(SearchQuery query) throws IOException;
+
 }
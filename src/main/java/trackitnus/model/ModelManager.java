@@ -2,30 +2,45 @@ package trackitnus.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.commons.core.Messages;
 import trackitnus.commons.core.index.Index;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.archive.TaskArchive;
 import trackitnus.model.commons.Code;
 import trackitnus.model.commons.Name;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.contact.ContactHasTagPredicate;
 import trackitnus.model.lesson.DayOfWeek;
 import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonComparator;
 import trackitnus.model.lesson.LessonHasCodePredicate;
 import trackitnus.model.lesson.LessonOnWeekdayPredicate;
 import trackitnus.model.module.Module;
+import trackitnus.model.search.SearchIndex;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchResult;
 import trackitnus.model.tag.Tag;
 import trackitnus.model.task.Task;
 import trackitnus.model.task.TaskAfterDatePredicate;
@@ -35,8 +50,17 @@ import trackitnus.model.task.TaskOnDatePredicate;
 
 /**
  * Represents the in-memory model of the app data.
+ * <p>
+ * The data has a single writer at a time: every change, and every transaction as a whole, holds a write lock.
+ * When a write that changed the data ends, it publishes an immutable {@code VersionedSnapshot} of the data, which
+ * {@link #getTrackIterSnapshot()} returns to any thread without locking.
  */
 public class ModelManager implements Model {
+    public static final int UNDO_HISTORY_LIMIT = 20;
+
+    private static final String MESSAGE_NO_TRANSACTION = "No transaction is in progress";
+    private static final String MESSAGE_NOTHING_TO_UNDO = "There is nothing to undo";
+    private static final String MESSAGE_NOTHING_TO_REDO = "There is nothing to redo";
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final TrackIter trackIter;
@@ -45,28 +69,86 @@ public class ModelManager implements Model {
     private final FilteredList<Module> filteredModules;
     private final FilteredList<Task> filteredTasks;
     private final FilteredList<Lesson> filteredLessons;
+    private final Today today;
+    private final FilteredList<Task> overdueTasks;
+    private final FilteredList<Task> futureTasks;
+    private final Deque<TrackIter.Snapshot> openTransactions = new ArrayDeque<>();
+    private final Deque<TrackIter.Snapshot> undoHistory = new ArrayDeque<>();
+    private final Deque<TrackIter.Snapshot> redoHistory = new ArrayDeque<>();
+    private final SearchIndex searchIndex;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile VersionedSnapshot latest;
+    private ChangeCoalescer observableListUpdates = ChangeCoalescer.direct();
+    private TaskArchive taskArchive;
+    private String contactSearchText = "";
+    private String moduleSearchText = "";
 
     /**
-     * Initializes a ModelManager with the given trackIter and userPrefs.
+     * Initializes a ModelManager with the given trackIter and userPrefs, following the system clock.
      */
     public ModelManager(ReadOnlyTrackIter trackIter, ReadOnlyUserPrefs userPrefs) {
+        this(trackIter, userPrefs, new Today());
+    }
+
+    /**
+     * Initializes a ModelManager with the given trackIter, userPrefs and today.
+     */
+    public ModelManager(ReadOnlyTrackIter trackIter, ReadOnlyUserPrefs userPrefs, Today today) {
         super();
-        CollectionUtil.requireAllNonNull(trackIter, userPrefs);
+        CollectionUtil.requireAllNonNull(trackIter, userPrefs, today);
 
-        logger.fine("Initializing with TrackIter: " + trackIter + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with TrackIter: " + trackIter + " and user prefs " + userPrefs);
 
         this.trackIter = new TrackIter(trackIter);
+        latest = new VersionedSnapshot(0, this.trackIter.getSnapshot());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredContacts = new FilteredList<>(this.trackIter.getContactList());
         filteredModules = new FilteredList<>(this.trackIter.getModuleList());
         filteredTasks = new FilteredList<>(this.trackIter.getTaskList());
         filteredLessons = new FilteredList<>(this.trackIter.getLessonList());
+        searchIndex = new SearchIndex(this.trackIter);
+        // registered after the search index, so that it is up to date when the search filters are recomputed
+        this.trackIter.getContactList().addListener((ListChangeListener<Contact>) unused -> applyContactSearchFilter());
+        this.trackIter.getModuleList().addListener((ListChangeListener<Module>) unused -> applyModuleSearchFilter());
+
+        this.today = today;
+        overdueTasks = new FilteredList<>(filteredTasks);
+        futureTasks = new FilteredList<>(filteredTasks);
+        updateDateBoundaries();
+        today.addDayChangeListener(unused -> updateDateBoundaries());
     }
 
     public ModelManager() {
         this(new TrackIter(), new UserPrefs());
     }
 
+    /**
+     * Makes the observable lists of the data replay its changes through {@code updates}, e.g. to update them in
+     * batches on the UI thread. The observable lists returned by this model are brought up to date before they are
+     * returned on the thread that applies the updates.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        observableListUpdates = updates;
+        trackIter.setObservableListUpdates(updates);
+    }
+
+    /**
+     * Makes this model move old tasks to {@code taskArchive} and search them there.
+     */
+    public void setTaskArchive(TaskArchive taskArchive) {
+        requireNonNull(taskArchive);
+        this.taskArchive = taskArchive;
+    }
+
+    /**
+     * Applies the pending changes to the observable lists if the calling thread is the one that applies them, so
+     * that a command sees the changes made by earlier commands.
+     */
+    private void applyPendingListUpdates() {
+        observableListUpdates.flush();
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -106,12 +188,157 @@ public class ModelManager implements Model {
 
     @Override
     public ReadOnlyTrackIter getTrackIter() {
+        applyPendingListUpdates();
         return trackIter;
     }
 
     @Override
     public void setTrackIter(ReadOnlyTrackIter trackIt) {
-        trackIter.resetData(trackIt);
+        write(() -> trackIter.resetData(trackIt));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns the latest published version without locking, unless the calling thread is writing, in which case
+     * the returned snapshot includes its changes so far.
+     */
+    @Override
+    public VersionedSnapshot getTrackIterSnapshot() {
+        if (writeLock.isHeldByCurrentThread()) {
+            TrackIter.Snapshot current = trackIter.getSnapshot();
+            VersionedSnapshot published = latest;
+            return current.isSameVersionAs(published.getSnapshot())
+                ? published
+                : new VersionedSnapshot(published.getVersion() + 1, current);
+        }
+        return latest;
+    }
+
+    /**
+     * Runs {@code change} as the only writer of the data, then publishes the data if it changed.
+     */
+    private void write(Runnable change) {
+        writeLock.lock();
+        try {
+            change.run();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * Releases one hold of the write lock. The last release publishes the data if it changed since the latest
+     * published version.
+     */
+    private void releaseWriteLock() {
+        try {
+            if (writeLock.getHoldCount() == 1) {
+                TrackIter.Snapshot current = trackIter.getSnapshot();
+                VersionedSnapshot published = latest;
+                if (!current.isSameVersionAs(published.getSnapshot())) {
+                    latest = new VersionedSnapshot(published.getVersion() + 1, current);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The calling thread holds the write lock until the transaction ends, so the transaction must end on the
+     * thread that began it.
+     */
+    @Override
+    public void beginTransaction() {
+        writeLock.lock();
+        openTransactions.push(trackIter.getSnapshot());
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (openTransactions.isEmpty() || !writeLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+        try {
+            TrackIter.Snapshot start = openTransactions.pop();
+            if (openTransactions.isEmpty() && !start.isSameVersionAs(trackIter.getSnapshot())) {
+                recordUndoStep(start);
+            }
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (openTransactions.isEmpty() || !writeLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+        try {
+            trackIter.restore(openTransactions.pop());
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        write(() -> {
+            redoHistory.push(trackIter.getSnapshot());
+            trackIter.restore(undoHistory.pop());
+            rebaseOpenTransactions();
+        });
+    }
+
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException(MESSAGE_NOTHING_TO_REDO);
+        }
+        write(() -> {
+            undoHistory.push(trackIter.getSnapshot());
+            trackIter.restore(redoHistory.pop());
+            rebaseOpenTransactions();
+        });
+    }
+
+    /**
+     * Records {@code before} as the state to return to on the next undo, forgetting the oldest step if the
+     * history is full. A new change makes the undone changes unreachable, so they are dropped.
+     */
+    private void recordUndoStep(TrackIter.Snapshot before) {
+        undoHistory.push(before);
+        if (undoHistory.size() > UNDO_HISTORY_LIMIT) {
+            undoHistory.removeLast();
+        }
+        redoHistory.clear();
+    }
+
+    /**
+     * Makes every open transaction start from the current data, so that an undo or redo done inside a
+     * transaction is neither rolled back nor recorded as a new change.
+     */
+    private void rebaseOpenTransactions() {
+        int depth = openTransactions.size();
+        openTransactions.clear();
+        TrackIter.Snapshot current = trackIter.getSnapshot();
+        for (int i = 0; i < depth; i++) {
+            openTransactions.push(current);
+        }
     }
 
     @Override
@@ -120,21 +347,26 @@ public class ModelManager implements Model {
         return trackIter.hasContact(contact);
     }
 
+    @Override
+    public Optional<Contact> getContactById(long id) {
+        return trackIter.getContactById(id);
+    }
+
     @Override
     public void deleteContact(Contact target) {
-        trackIter.removeContact(target);
+        write(() -> trackIter.removeContact(target));
     }
 
     @Override
     public void addContact(Contact contact) {
-        trackIter.addContact(contact);
+        write(() -> trackIter.addContact(contact));
     }
 
     @Override
     public void setContact(Contact target, Contact editedContact) {
         CollectionUtil.requireAllNonNull(target, editedContact);
 
-        trackIter.setContact(target, editedContact);
+        write(() -> trackIter.setContact(target, editedContact));
     }
 
     @Override
@@ -145,12 +377,14 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Contact> getFilteredContactList() {
+        applyPendingListUpdates();
         return filteredContacts;
     }
 
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
+        contactSearchText = "";
         filteredContacts.setPredicate(predicate);
     }
 
@@ -163,11 +397,12 @@ public class ModelManager implements Model {
     @Override
     public boolean hasModule(Code code) {
         requireNonNull(code);
-        return trackIter.hasModule(new Module(code, new Name("dummy")));
+        return trackIter.hasModule(new Module(code, Name.of("dummy")));
     }
 
     @Override
     public Optional<Module> getModule(Code code) {
+        applyPendingListUpdates();
         List<Module> allModules = trackIter.getModuleList();
         for (Module module : allModules) {
             if (module.getCode().equals(code)) {
@@ -177,24 +412,30 @@ public class ModelManager implements Model {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Module> getModuleById(long id) {
+        return trackIter.getModuleById(id);
+    }
+
     @Override
     public void deleteModule(Module target) {
-        trackIter.removeModule(target);
+        write(() -> trackIter.removeModule(target));
     }
 
     @Override
     public void addModule(Module module) {
-        trackIter.addModule(module);
+        write(() -> trackIter.addModule(module));
     }
 
     @Override
     public void setModule(Module target, Module editedModule) {
         CollectionUtil.requireAllNonNull(target, editedModule);
-        trackIter.setModule(target, editedModule);
+        write(() -> trackIter.setModule(target, editedModule));
     }
 
     @Override
     public ObservableList<Module> getFilteredModuleList() {
+        applyPendingListUpdates();
         return filteredModules;
     }
 
@@ -204,24 +445,30 @@ public class ModelManager implements Model {
         return trackIter.hasTask(task);
     }
 
+    @Override
+    public Optional<Task> getTaskById(long id) {
+        return trackIter.getTaskById(id);
+    }
+
     @Override
     public void deleteTask(Task target) {
-        trackIter.removeTask(target);
+        write(() -> trackIter.removeTask(target));
     }
 
     @Override
     public void addTask(Task task) {
-        trackIter.addTask(task);
+        write(() -> trackIter.addTask(task));
     }
 
     @Override
     public void setTask(Task target, Task editedTask) {
         CollectionUtil.requireAllNonNull(target, editedTask);
-        trackIter.setTask(target, editedTask);
+        write(() -> trackIter.setTask(target, editedTask));
     }
 
     @Override
     public ObservableList<Task> getFilteredTaskList() {
+        applyPendingListUpdates();
         return filteredTasks;
     }
 
@@ -249,14 +496,19 @@ public class ModelManager implements Model {
         return trackIter.hasLesson(lesson);
     }
 
+    @Override
+    public Optional<Lesson> getLessonById(long id) {
+        return trackIter.getLessonById(id);
+    }
+
     @Override
     public void deleteLesson(Lesson target) {
-        trackIter.removeLesson(target);
+        write(() -> trackIter.removeLesson(target));
     }
 
     @Override
     public void addLesson(Lesson module) {
-        trackIter.addLesson(module);
+        write(() -> trackIter.addLesson(module));
     }
 
     @Override
@@ -267,11 +519,11 @@ public class ModelManager implements Model {
     @Override
     public void setLesson(Lesson target, Lesson editedLesson) {
         CollectionUtil.requireAllNonNull(target, editedLesson);
-        trackIter.setLesson(target, editedLesson);
+        write(() -> trackIter.setLesson(target, editedLesson));
     }
 
     private void sortLesson() {
-        trackIter.sortLesson();
+        write(() -> trackIter.sortLesson(new LessonComparator(today.getLessonWeekday())));
     }
 
     @Override
@@ -283,6 +535,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
+        applyPendingListUpdates();
         return filteredLessons;
     }
 
@@ -320,7 +573,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Contact> getModuleContacts(Code code) {
-        Tag target = new Tag(code.toString());
+        Tag target = Tag.of(code.toString());
         updateFilteredContactList(new ContactHasTagPredicate(target));
         return getFilteredContactList();
     }
@@ -334,14 +587,34 @@ public class ModelManager implements Model {
     @Override
     public ObservableList<Task> getOverdueTasks() {
         updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
-        return getFilteredTaskList().filtered(new TaskIsOverduePredicate());
+        applyPendingListUpdates();
+        return overdueTasks;
     }
 
     @Override
     public ObservableList<Task> getFutureTasks() {
         updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
-        LocalDate oneWeekLater = LocalDate.now().plusWeeks(1);
-        return getFilteredTaskList().filtered(new TaskAfterDatePredicate(oneWeekLater));
+        applyPendingListUpdates();
+        return futureTasks;
+    }
+
+    @Override
+    public LocalDate getToday() {
+        return today.getDate();
+    }
+
+    @Override
+    public void addDayChangeListener(Consumer<LocalDate> listener) {
+        today.addDayChangeListener(listener);
+    }
+
+    /**
+     * Re-buckets the overdue and future tasks according to the current date.
+     */
+    private void updateDateBoundaries() {
+        overdueTasks.setPredicate(new TaskIsOverduePredicate(today.getOverdueBoundary()));
+        futureTasks.setPredicate(new TaskAfterDatePredicate(today.getFutureBoundary()));
+        sortLesson();
     }
 
     @Override
@@ -356,6 +629,115 @@ public class ModelManager implements Model {
         filteredLessons.setPredicate(predicate);
     }
 
+    //=========== Search ================================================================================
+
+    @Override
+    public SearchResult search(SearchQuery query) {
+        requireNonNull(query);
+        applyPendingListUpdates();
+        return searchIndex.search(query);
+    }
+
+    @Override
+    public SearchResult fuzzySearch(String query) {
+        requireNonNull(query);
+        applyPendingListUpdates();
+        return searchIndex.fuzzySearch(query);
+    }
+
+    @Override
+    public void updateContactSearchFilter(String query) {
+        requireNonNull(query);
+        contactSearchText = query.trim();
+        if (contactSearchText.isEmpty()) {
+            filteredContacts.setPredicate(PREDICATE_SHOW_ALL_CONTACTS);
+        }
+        applyContactSearchFilter();
+    }
+
+    @Override
+    public void updateModuleSearchFilter(String query) {
+        requireNonNull(query);
+        moduleSearchText = query.trim();
+        if (moduleSearchText.isEmpty()) {
+            filteredModules.setPredicate(null);
+        }
+        applyModuleSearchFilter();
+    }
+
+    //=========== Archive ===============================================================================
+
+    @Override
+    public List<Task> archiveTasksBefore(LocalDate cutoff) throws IOException {
+        requireNonNull(cutoff);
+        if (taskArchive == null) {
+            return List.of();
+        }
+        writeLock.lock();
+        try {
+            // the snapshot, as the observable list may not have caught up with the commands run so far
+            List<Task> oldTasks = trackIter.getSnapshot().getTaskList().stream()
+                .filter(task -> task.getDate().isBefore(cutoff))
+                .collect(Collectors.toList());
+            if (oldTasks.isEmpty()) {
+                return oldTasks;
+            }
+            taskArchive.archive(oldTasks);
+            oldTasks.forEach(trackIter::removeTask);
+            undoHistory.clear();
+            redoHistory.clear();
+            rebaseOpenTransactions();
+            logger.info("Archived " + oldTasks.size() + " tasks dated before " + cutoff);
+            return oldTasks;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public List<Task> searchArchive(SearchQuery query) throws IOException {
+        requireNonNull(query);
+        return taskArchive == null ? List.of() : taskArchive.search(query);
+    }
+
+    /**
+     * Changes the data into {@code newData}, which another program saved to the data file, entity by entity, so
+     * that the lists shown only change where the data differs.
+     * The undo history does not know of these changes, so it is cleared if anything changed.
+     *
+     * @return the number of entities added, changed or removed.
+     */
+    public int applyExternalChanges(ReadOnlyTrackIter newData) {
+        requireNonNull(newData);
+        writeLock.lock();
+        try {
+            int changes = trackIter.applyChanges(newData);
+            if (changes > 0) {
+                undoHistory.clear();
+                redoHistory.clear();
+                rebaseOpenTransactions();
+                logger.info("Applied " + changes + " changes made to the data file by another program");
+            }
+            return changes;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    private void applyContactSearchFilter() {
+        if (!contactSearchText.isEmpty()) {
+            Set<Contact> matches = new HashSet<>(searchIndex.fuzzySearch(contactSearchText).getContacts());
+            filteredContacts.setPredicate(matches::contains);
+        }
+    }
+
+    private void applyModuleSearchFilter() {
+        if (!moduleSearchText.isEmpty()) {
+            Set<Module> matches = new HashSet<>(searchIndex.fuzzySearch(moduleSearchText).getModules());
+            filteredModules.setPredicate(matches::contains);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
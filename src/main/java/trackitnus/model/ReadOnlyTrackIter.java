@@ -10,6 +10,7 @@ import trackitnus.model.task.Task;
  * Unmodifiable view of a TrackIter
  */
 public interface ReadOnlyTrackIter {
+    long UNTRACKED = -1;
 
     /**
      * Returns an unmodifiable view of the contacts list.
@@ -34,4 +35,12 @@ public interface ReadOnlyTrackIter {
      * This list will not contain any duplicate lessons.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns the modification count of {@code section}, which changes whenever the list changes, or
+     * {@link #UNTRACKED} if this data does not track its changes.
+     */
+    default long getModificationCount(DataSection section) {
+        return UNTRACKED;
+    }
 }
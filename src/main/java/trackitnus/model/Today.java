@@ -0,0 +1,193 @@
+package trackitnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.model.lesson.DayOfWeek;
+import trackitnus.model.lesson.LessonDateTime;
+
+/**
+ * Provides the current date to the time-dependent parts of the model.
+ * The date and the overdue/upcoming/future boundaries derived from it are computed once per day from the
+ * injected {@code Clock}, so predicates built from them never read the clock themselves.
+ * When the date changes, every registered listener is notified once with the new date, through the
+ * {@code Executor} given at construction (e.g. {@code Platform::runLater} to notify on the UI thread).
+ */
+public class Today {
+    public static final int UPCOMING_DAYS = 7;
+
+    private static final Logger logger = LogsCenter.getLogger(Today.class);
+
+    private final Clock clock;
+    private final Executor listenerExecutor;
+    private final List<Consumer<LocalDate>> dayChangeListeners = new CopyOnWriteArrayList<>();
+
+    private volatile LocalDate date;
+    private volatile DayOfWeek lessonWeekday;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code Today} that follows the system clock in the default time zone.
+     */
+    public Today() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code Today} that follows {@code clock} and notifies its listeners on the detecting thread.
+     */
+    public Today(Clock clock) {
+        this(clock, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code Today} that follows {@code clock} and notifies its listeners through {@code listenerExecutor}.
+     */
+    public Today(Clock clock, Executor listenerExecutor) {
+        requireNonNull(clock);
+        requireNonNull(listenerExecutor);
+        this.clock = clock;
+        this.listenerExecutor = listenerExecutor;
+        this.date = LocalDate.now(clock);
+        this.lessonWeekday = computeLessonWeekday();
+    }
+
+    /**
+     * Returns today's date.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the weekday used as the start of the week when ordering lessons.
+     * Lessons are scheduled in {@link LessonDateTime#DEFAULT_TIME_ZONE}, which may differ from the clock's zone.
+     */
+    public DayOfWeek getLessonWeekday() {
+        return lessonWeekday;
+    }
+
+    /**
+     * Returns the first day that is no longer overdue, i.e. tasks strictly before this date are overdue.
+     */
+    public LocalDate getOverdueBoundary() {
+        return date;
+    }
+
+    /**
+     * Returns the last day of the upcoming week, i.e. tasks strictly after this date are future tasks.
+     */
+    public LocalDate getFutureBoundary() {
+        return date.plusDays(UPCOMING_DAYS);
+    }
+
+    /**
+     * Registers {@code listener} to be called with the new date whenever the day rolls over.
+     */
+    public void addDayChangeListener(Consumer<LocalDate> listener) {
+        requireNonNull(listener);
+        dayChangeListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener previously registered with {@link #addDayChangeListener(Consumer)}.
+     */
+    public void removeDayChangeListener(Consumer<LocalDate> listener) {
+        dayChangeListeners.remove(listener);
+    }
+
+    /**
+     * Re-reads the clock and notifies the listeners if the day has changed since the last read.
+     *
+     * @return true if the day has changed.
+     */
+    public synchronized boolean refresh() {
+        LocalDate newDate = LocalDate.now(clock);
+        DayOfWeek newLessonWeekday = computeLessonWeekday();
+        if (newDate.equals(date) && newLessonWeekday == lessonWeekday) {
+            return false;
+        }
+        date = newDate;
+        lessonWeekday = newLessonWeekday;
+        logger.info("Day rolled over to " + newDate);
+        listenerExecutor.execute(() -> {
+            for (Consumer<LocalDate> listener : dayChangeListeners) {
+                listener.accept(newDate);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Starts a background timer that calls {@link #refresh()} at every midnight.
+     * Does nothing if the timer is already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "day-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextRollover();
+    }
+
+    /**
+     * Stops the background timer started by {@link #start()}.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Returns the time left until the next midnight, in either the clock's zone or the lessons' zone.
+     */
+    Duration getDelayToNextRollover() {
+        Instant now = clock.instant();
+        Instant nextMidnight = nextMidnight(clock.getZone(), now);
+        Instant nextLessonMidnight = nextMidnight(LessonDateTime.DEFAULT_TIME_ZONE, now);
+        Instant next = nextMidnight.isBefore(nextLessonMidnight) ? nextMidnight : nextLessonMidnight;
+        return Duration.between(now, next);
+    }
+
+    private synchronized void scheduleNextRollover() {
+        if (scheduler == null) {
+            return;
+        }
+        // a small margin guards against waking up a few milliseconds before midnight
+        long delay = getDelayToNextRollover().toMillis() + 1;
+        scheduler.schedule(() -> {
+            refresh();
+            scheduleNextRollover();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private DayOfWeek computeLessonWeekday() {
+        return DayOfWeek.getLessonWeekDay(LocalDate.now(clock.withZone(LessonDateTime.DEFAULT_TIME_ZONE)));
+    }
+
+    private static Instant nextMidnight(ZoneId zone, Instant now) {
+        return LocalDate.ofInstant(now, zone).plusDays(1).atStartOfDay(zone).toInstant();
+    }
+}
@@ -2,10 +2,19 @@ package trackitnus.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackitnus.commons.util.ChangeCoalescer;
+import trackitnus.commons.util.PersistentList;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.contact.UniqueContactList;
 import trackitnus.model.lesson.Lesson;
@@ -98,6 +107,115 @@ public final class TrackIter implements ReadOnlyTrackIter {
         setLessons(newData.getLessonList());
     }
 
+    /**
+     * Changes the data of this {@code TrackIter} into {@code newData} entity by entity, so that the observable lists
+     * only report what differs: an entity with the same id as one in {@code newData} but other details is replaced
+     * in place, and the others are removed or added.
+     * If the changes cannot be made one at a time, e.g. because two modules swapped their codes, the data is reset
+     * to {@code newData} instead.
+     *
+     * @return the number of entities added, replaced or removed.
+     */
+    public int applyChanges(ReadOnlyTrackIter newData) {
+        requireNonNull(newData);
+        Snapshot current = getSnapshot();
+        try {
+            return applyChanges(current.getContactList(), newData.getContactList(), Contact::getId,
+                this::addContact, this::setContact, this::removeContact)
+                + applyChanges(current.getModuleList(), newData.getModuleList(), Module::getId,
+                    this::addModule, this::setModule, this::removeModule)
+                + applyChanges(current.getTaskList(), newData.getTaskList(), Task::getId,
+                    this::addTask, this::setTask, this::removeTask)
+                + applyChanges(current.getLessonList(), newData.getLessonList(), Lesson::getId,
+                    this::addLesson, this::setLesson, this::removeLesson);
+        } catch (RuntimeException e) {
+            resetData(newData);
+            return newData.getContactList().size() + newData.getModuleList().size()
+                + newData.getTaskList().size() + newData.getLessonList().size();
+        }
+    }
+
+    /**
+     * Changes {@code current} into {@code target}, matching their entities by id.
+     * Entities are removed first, so that an added or replaced one does not clash with one that is going away.
+     */
+    private static <T> int applyChanges(List<T> current, List<T> target, ToLongFunction<T> getId,
+                                        Consumer<T> add, BiConsumer<T, T> replace, Consumer<T> remove) {
+        Map<Long, T> targetById = new LinkedHashMap<>();
+        for (T entity : target) {
+            targetById.put(getId.applyAsLong(entity), entity);
+        }
+        Map<T, T> replaced = new LinkedHashMap<>();
+        int changes = 0;
+        for (T entity : current) {
+            T newEntity = targetById.remove(getId.applyAsLong(entity));
+            if (newEntity == null) {
+                remove.accept(entity);
+                changes++;
+            } else if (!newEntity.equals(entity)) {
+                replaced.put(entity, newEntity);
+            }
+        }
+        replaced.forEach(replace);
+        targetById.values().forEach(add);
+        return changes + replaced.size() + targetById.size();
+    }
+
+
+    /**
+     * Makes the observable lists of this {@code TrackIter} replay its changes through {@code updates}.
+     * The data itself, as seen by the other methods and by snapshots, is always up to date.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        contacts.setObservableListUpdates(updates);
+        modules.setObservableListUpdates(updates);
+        tasks.setObservableListUpdates(updates);
+        lessons.setObservableListUpdates(updates);
+    }
+
+    /**
+     * Returns the current data of this {@code TrackIter}, in O(1) time.
+     * Later changes to this {@code TrackIter} do not affect the returned snapshot.
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(contacts.getSnapshot(), modules.getSnapshot(), tasks.getSnapshot(),
+            lessons.getSnapshot(), new long[] {contacts.getModificationCount(), modules.getModificationCount(),
+                tasks.getModificationCount(), lessons.getModificationCount()});
+    }
+
+    /**
+     * Replaces the data of this {@code TrackIter} with {@code snapshot}.
+     * Lists that are unchanged since the snapshot was taken are left untouched.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        contacts.restore(snapshot.contacts, snapshot.getModificationCount(DataSection.CONTACTS));
+        modules.restore(snapshot.modules, snapshot.getModificationCount(DataSection.MODULES));
+        tasks.restore(snapshot.tasks, snapshot.getModificationCount(DataSection.TASKS));
+        lessons.restore(snapshot.lessons, snapshot.getModificationCount(DataSection.LESSONS));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Restoring a snapshot brings back the modification counts it was taken with.
+     */
+    @Override
+    public long getModificationCount(DataSection section) {
+        requireNonNull(section);
+        switch (section) {
+        case CONTACTS:
+            return contacts.getModificationCount();
+        case MODULES:
+            return modules.getModificationCount();
+        case TASKS:
+            return tasks.getModificationCount();
+        case LESSONS:
+            return lessons.getModificationCount();
+        default:
+            throw new AssertionError(section);
+        }
+    }
 
     //=========== Module ================================================================================
 
@@ -109,6 +227,13 @@ public final class TrackIter implements ReadOnlyTrackIter {
         return modules.contains(module);
     }
 
+    /**
+     * Returns the module with the given {@code id}, if it is in the app.
+     */
+    public Optional<Module> getModuleById(long id) {
+        return modules.getById(id);
+    }
+
     /**
      * Adds a module to the app.
      * The module must not already exist in the app.
@@ -147,6 +272,13 @@ public final class TrackIter implements ReadOnlyTrackIter {
         return contacts.contains(contact);
     }
 
+    /**
+     * Returns the contact with the given {@code id}, if it is in the app.
+     */
+    public Optional<Contact> getContactById(long id) {
+        return contacts.getById(id);
+    }
+
     /**
      * Adds a module to the app.
      * The module must not already exist in the app.
@@ -186,6 +318,13 @@ public final class TrackIter implements ReadOnlyTrackIter {
         return tasks.contains(task);
     }
 
+    /**
+     * Returns the task with the given {@code id}, if it is in the app.
+     */
+    public Optional<Task> getTaskById(long id) {
+        return tasks.getById(id);
+    }
+
     /**
      * Adds a task to the app.
      * The task must not already exist in the app.
@@ -224,6 +363,13 @@ public final class TrackIter implements ReadOnlyTrackIter {
         return lessons.contains(lesson);
     }
 
+    /**
+     * Returns the lesson with the given {@code id}, if it is in the app.
+     */
+    public Optional<Lesson> getLessonById(long id) {
+        return lessons.getById(id);
+    }
+
     /**
      * Adds a lesson to the app.
      * The lesson must not already exist in the app.
@@ -309,9 +455,89 @@ public final class TrackIter implements ReadOnlyTrackIter {
         lessons.sort(new LessonComparator());
     }
 
+    public void sortLesson(LessonComparator lessonComparator) {
+        lessons.sort(lessonComparator);
+    }
+
     @Override
     public String toString() {
         return "TrackIter{" + "contacts=" + contacts + ", modules=" + modules + ", tasks=" + tasks + ", lessons="
             + lessons + '}';
     }
+
+    /**
+     * An immutable version of the data of a {@code TrackIter}.
+     * Snapshots share their structure with the {@code TrackIter} they were taken from, so they are cheap to keep.
+     * The lists of a snapshot are only copied out of that structure when they are first read.
+     */
+    public static final class Snapshot implements ReadOnlyTrackIter {
+        private final PersistentList<Contact> contacts;
+        private final PersistentList<Module> modules;
+        private final PersistentList<Task> tasks;
+        private final PersistentList<Lesson> lessons;
+        private final long[] modificationCounts;
+        private ObservableList<Contact> contactList;
+        private ObservableList<Module> moduleList;
+        private ObservableList<Task> taskList;
+        private ObservableList<Lesson> lessonList;
+
+        private Snapshot(PersistentList<Contact> contacts, PersistentList<Module> modules,
+                         PersistentList<Task> tasks, PersistentList<Lesson> lessons, long[] modificationCounts) {
+            this.contacts = contacts;
+            this.modules = modules;
+            this.tasks = tasks;
+            this.lessons = lessons;
+            this.modificationCounts = modificationCounts;
+        }
+
+        /**
+         * Returns true if no list has changed between this snapshot and {@code other}, in O(1) time.
+         * Snapshots with equal contents that were reached by different changes are not the same version.
+         */
+        public boolean isSameVersionAs(Snapshot other) {
+            return contacts == other.contacts && modules == other.modules && tasks == other.tasks
+                && lessons == other.lessons;
+        }
+
+        @Override
+        public long getModificationCount(DataSection section) {
+            return modificationCounts[section.ordinal()];
+        }
+
+        @Override
+        public synchronized ObservableList<Contact> getContactList() {
+            if (contactList == null) {
+                contactList = toObservableList(contacts);
+            }
+            return contactList;
+        }
+
+        @Override
+        public synchronized ObservableList<Module> getModuleList() {
+            if (moduleList == null) {
+                moduleList = toObservableList(modules);
+            }
+            return moduleList;
+        }
+
+        @Override
+        public synchronized ObservableList<Task> getTaskList() {
+            if (taskList == null) {
+                taskList = toObservableList(tasks);
+            }
+            return taskList;
+        }
+
+        @Override
+        public synchronized ObservableList<Lesson> getLessonList() {
+            if (lessonList == null) {
+                lessonList = toObservableList(lessons);
+            }
+            return lessonList;
+        }
+
+        private static <T> ObservableList<T> toObservableList(PersistentList<T> list) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(list.toList()));
+        }
+    }
 }
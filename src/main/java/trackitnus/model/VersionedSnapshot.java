@@ -0,0 +1,66 @@
+package trackitnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * A {@code TrackIter.Snapshot} numbered by the write that produced it.
+ * Every write to a {@code ModelManager} that changes its data publishes a snapshot with the next version, so
+ * readers can tell which of two snapshots is newer without comparing their contents.
+ */
+public final class VersionedSnapshot implements ReadOnlyTrackIter {
+    private final long version;
+    private final TrackIter.Snapshot snapshot;
+
+    /**
+     * Creates version {@code version} of the data, which is {@code snapshot}.
+     */
+    public VersionedSnapshot(long version, TrackIter.Snapshot snapshot) {
+        requireNonNull(snapshot);
+        this.version = version;
+        this.snapshot = snapshot;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public TrackIter.Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return snapshot.getContactList();
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return snapshot.getModuleList();
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return snapshot.getTaskList();
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return snapshot.getLessonList();
+    }
+
+    @Override
+    public long getModificationCount(DataSection section) {
+        return snapshot.getModificationCount(section);
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version;
+    }
+}
@@ -0,0 +1,28 @@
+package trackitnus.model.archive;
+
+import java.io.IOException;
+import java.util.List;
+
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.task.Task;
+
+/**
+ * A cold store for old tasks, which are moved out of the app data to keep it small. Archived tasks can only be
+ * searched, not changed.
+ */
+public interface TaskArchive {
+
+    /**
+     * Adds {@code tasks} to the archive. The tasks are safely stored once this returns.
+     *
+     * @throws IOException if the tasks could not be stored.
+     */
+    void archive(List<Task> tasks) throws IOException;
+
+    /**
+     * Returns the archived tasks that match {@code query}, best match first.
+     *
+     * @throws IOException if the archive could not be read.
+     */
+    List<Task> search(SearchQuery query) throws IOException;
+}
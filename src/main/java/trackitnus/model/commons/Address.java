@@ -3,6 +3,7 @@ package trackitnus.model.commons;
 import static java.util.Objects.requireNonNull;
 
 import trackitnus.commons.util.AppUtil;
+import trackitnus.commons.util.WeakInterner;
 
 /**
  * Represents a Contact's address in the app.
@@ -19,7 +20,10 @@ public class Address {
     public static final String VALIDATION_REGEX = "[^\\s].*";
     private static final int LENGTH_LIMIT = 20;
 
+    private static final WeakInterner<Address> POOL = new WeakInterner<>(address -> address.value);
+
     public final String value;
+    private final int hash;
 
     /**
      * Constructs an {@code Address}.
@@ -30,6 +34,16 @@ public class Address {
         requireNonNull(address);
         AppUtil.checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        hash = address.hashCode();
+    }
+
+    /**
+     * Returns the {@code Address} of the given address, shared with every other user of the same address.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return POOL.intern(address, Address::new);
     }
 
     /**
@@ -51,12 +65,13 @@ public class Address {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Address // instanceof handles nulls
+            && hash == ((Address) other).hash // cheap mismatch check
             && value.equals(((Address) other).value)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
 }
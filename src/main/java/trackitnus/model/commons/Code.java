@@ -3,6 +3,7 @@ package trackitnus.model.commons;
 import static java.util.Objects.requireNonNull;
 
 import trackitnus.commons.util.AppUtil;
+import trackitnus.commons.util.WeakInterner;
 
 /**
  * Represents a module code. Has form of AB1234 or ABC1234
@@ -15,7 +16,10 @@ public class Code {
 
     public static final String VALIDATION_REGEX = "^[A-Z]{2,3}[0-9]{4}[A-Z]?$";
 
+    private static final WeakInterner<Code> POOL = new WeakInterner<>(code -> code.code);
+
     public final String code;
+    private final int hash;
 
     /**
      * Constructs a {@code Code}.
@@ -26,8 +30,17 @@ public class Code {
         requireNonNull(code);
         AppUtil.checkArgument(isValidCode(code), MESSAGE_CONSTRAINTS);
         this.code = code;
+        hash = code.hashCode();
     }
 
+    /**
+     * Returns the {@code Code} of the given code, shared with every other user of the same code.
+     *
+     * @param code A valid code
+     */
+    public static Code of(String code) {
+        return POOL.intern(code, Code::new);
+    }
 
     /**
      * @param test the string to test
@@ -46,11 +59,12 @@ public class Code {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Code // instanceof handles nulls
+            && hash == ((Code) other).hash // cheap mismatch check
             && code.equals(((Code) other).code)); // state check
     }
 
     @Override
     public int hashCode() {
-        return code.hashCode();
+        return hash;
     }
 }
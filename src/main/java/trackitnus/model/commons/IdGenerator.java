@@ -0,0 +1,34 @@
+package trackitnus.model.commons;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the ids that identify contacts, modules, tasks and lessons across edits and across runs of the app.
+ * Ids are positive and are never handed out twice, including ids that were read from storage.
+ */
+public class IdGenerator {
+    public static final String MESSAGE_CONSTRAINTS = "Ids should be positive numbers";
+
+    private static final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Returns an id that has not been handed out or reserved before.
+     */
+    public static long next() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Makes sure that {@code id}, which is in use, is not handed out by {@link #next()}.
+     */
+    public static void reserve(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Returns true if {@code id} is a valid id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+}
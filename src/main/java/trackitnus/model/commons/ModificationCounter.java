@@ -0,0 +1,19 @@
+package trackitnus.model.commons;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the modification counts of the lists of the app data.
+ * Counts come from one counter shared by all lists, so a list has the same count at two points in time only if it
+ * had the same contents, and lists of different {@code TrackIter}s never share a count.
+ */
+public class ModificationCounter {
+    private static final AtomicLong lastCount = new AtomicLong();
+
+    /**
+     * Returns a count that has not been handed out before.
+     */
+    public static long next() {
+        return lastCount.incrementAndGet();
+    }
+}
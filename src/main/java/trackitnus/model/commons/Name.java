@@ -3,6 +3,7 @@ package trackitnus.model.commons;
 import static java.util.Objects.requireNonNull;
 
 import trackitnus.commons.util.AppUtil;
+import trackitnus.commons.util.WeakInterner;
 
 /**
  * Represents a Contact's name in the app.
@@ -19,7 +20,10 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[^/ ][^/]*";
 
+    private static final WeakInterner<Name> POOL = new WeakInterner<>(name -> name.value);
+
     public final String value;
+    private final int hash;
 
     /**
      * Constructs a {@code Name}.
@@ -30,6 +34,16 @@ public class Name {
         requireNonNull(name);
         AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         value = name;
+        hash = name.hashCode();
+    }
+
+    /**
+     * Returns the {@code Name} of the given name, shared with every other user of the same name.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return POOL.intern(name, Name::new);
     }
 
     /**
@@ -49,12 +63,13 @@ public class Name {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Name // instanceof handles nulls
+            && hash == ((Name) other).hash // cheap mismatch check
             && value.equals(((Name) other).value)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
 }
@@ -6,7 +6,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import trackitnus.commons.util.AppUtil;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 import trackitnus.model.tag.Tag;
 
@@ -17,23 +19,53 @@ import trackitnus.model.tag.Tag;
 public class Contact {
     public static final String TYPE = "C";
 
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final int hash;
 
     /**
      * Name and tags must be present and not null
      */
     public Contact(Name name, Phone phone, Email email, Set<Tag> tags) {
+        this(IdGenerator.next(), name, phone, email, tags);
+    }
+
+    /**
+     * Creates a contact with the given {@code id}, which must be valid.
+     * Name and tags must be present and not null
+     */
+    public Contact(long id, Name name, Phone phone, Email email, Set<Tag> tags) {
         CollectionUtil.requireAllNonNull(name, tags);
+        AppUtil.checkArgument(IdGenerator.isValidId(id), IdGenerator.MESSAGE_CONSTRAINTS);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        hash = computeHash();
+    }
+
+    /**
+     * Returns the id of this contact, which stays the same when the contact is edited. The id is not part of
+     * equality.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns this contact with its id replaced by {@code id}.
+     */
+    public Contact withId(long id) {
+        return new Contact(id, name, phone, email, tags);
     }
 
     public Name getName() {
@@ -53,23 +85,22 @@ public class Contact {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
      * Returns a Contact with {@code oldTag} replaced by {@code newTag}
      */
     public Contact setTag(Tag oldTag, Tag newTag) {
-        Set<Tag> oldTags = getTags();
         Set<Tag> newTags = new HashSet<>();
-        for (Tag tag : oldTags) {
+        for (Tag tag : tags) {
             if (tag.equals(oldTag)) {
                 newTags.add(newTag);
             } else {
                 newTags.add(tag);
             }
         }
-        return new Contact(name, phone, email, newTags);
+        return new Contact(id, name, phone, email, newTags);
     }
 
     /**
@@ -82,8 +113,8 @@ public class Contact {
         }
 
         return otherContact != null
-            && otherContact.getName().equals(getName())
-            && (otherContact.getPhone().equals(getPhone()) || otherContact.getEmail().equals(getEmail()));
+            && otherContact.name.equals(name)
+            && (Objects.equals(otherContact.phone, phone) || Objects.equals(otherContact.email, email));
     }
 
     /**
@@ -101,16 +132,29 @@ public class Contact {
         }
 
         Contact otherContact = (Contact) other;
-        return otherContact.getName().equals(getName())
-            && otherContact.getPhone().equals(getPhone())
-            && otherContact.getEmail().equals(getEmail())
-            && otherContact.getTags().equals(getTags());
+        return otherContact.hash == hash
+            && otherContact.name.equals(name)
+            && Objects.equals(otherContact.phone, phone)
+            && Objects.equals(otherContact.email, email)
+            && otherContact.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags);
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the fields, the same as {@code Objects.hash(name, phone, email, tags)} would but without
+     * allocating an array.
+     */
+    private int computeHash() {
+        int result = 1;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + Objects.hashCode(phone);
+        result = 31 * result + Objects.hashCode(email);
+        result = 31 * result + tags.hashCode();
+        return result;
     }
 
     @Override
@@ -2,12 +2,21 @@ package trackitnus.model.contact;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.commons.util.PersistentList;
+import trackitnus.model.commons.IdGenerator;
+import trackitnus.model.commons.ModificationCounter;
 import trackitnus.model.contact.exceptions.ContactNotFoundException;
 import trackitnus.model.contact.exceptions.DuplicateContactException;
 
@@ -20,6 +29,16 @@ import trackitnus.model.contact.exceptions.DuplicateContactException;
  * as to ensure that the contact with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The contents are also kept in a {@code PersistentList}, so a snapshot of the list can be taken in O(1)
+ * with {@link #getSnapshot()} and brought back later with {@link #restore(PersistentList, long)}.
+ * <p>
+ * The contacts are also kept by id, so they can be looked up by id in O(1) time. A contact keeps its id when it is
+ * edited, and a contact whose id is already taken by another contact in the list is given a new one.
+ * <p>
+ * The {@code PersistentList} is the actual content of the list. The {@code ObservableList} view replays its
+ * changes through a {@code ChangeCoalescer}, which applies them right away unless another one is set with
+ * {@link #setObservableListUpdates(ChangeCoalescer)}, e.g. to update the view in batches on the UI thread.
  *
  * @see Contact#isSameContact(Contact)
  */
@@ -28,13 +47,48 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Contact> contactById = new HashMap<>();
+    private PersistentList<Contact> snapshot = PersistentList.empty();
+    private ChangeCoalescer observableListUpdates = ChangeCoalescer.direct();
+    private long modificationCount = ModificationCounter.next();
+
+    /**
+     * Makes the {@code ObservableList} view replay the changes to this list through {@code updates}.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        observableListUpdates = updates;
+    }
+
+    /**
+     * Returns the modification count of this list, which changes whenever its contents change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Counts a modification, and submits {@code change}, which brings the {@code ObservableList} view up to date
+     * with the current contents of this list, to the {@code ObservableList} updates.
+     */
+    private void publish(Runnable change) {
+        modificationCount = ModificationCounter.next();
+        PersistentList<Contact> current = snapshot;
+        observableListUpdates.submit(internalList, change,
+            () -> ObservableListUtil.replaceChanged(internalList, current.toList()));
+    }
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (toCheck.isSameContact(snapshot.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -46,7 +100,17 @@ public class UniqueContactList implements Iterable<Contact> {
         if (contains(toAdd)) {
             throw new DuplicateContactException();
         }
-        internalList.add(toAdd);
+        Contact added = contactById.containsKey(toAdd.getId()) ? toAdd.withId(IdGenerator.next()) : toAdd;
+        contactById.put(added.getId(), added);
+        snapshot = snapshot.add(added);
+        publish(() -> internalList.add(added));
+    }
+
+    /**
+     * Returns the contact with the given {@code id}, if it is in the list.
+     */
+    public Optional<Contact> getById(long id) {
+        return Optional.ofNullable(contactById.get(id));
     }
 
     /**
@@ -57,7 +121,7 @@ public class UniqueContactList implements Iterable<Contact> {
     public void setContact(Contact target, Contact editedContact) {
         CollectionUtil.requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
+        int index = snapshot.indexOf(target);
         if (index == -1) {
             throw new ContactNotFoundException();
         }
@@ -66,7 +130,11 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        long id = snapshot.get(index).getId();
+        Contact stored = editedContact.getId() == id ? editedContact : editedContact.withId(id);
+        contactById.put(id, stored);
+        snapshot = snapshot.set(index, stored);
+        publish(() -> internalList.set(index, stored));
     }
 
     /**
@@ -75,14 +143,18 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = snapshot.indexOf(toRemove);
+        if (index == -1) {
             throw new ContactNotFoundException();
         }
+        contactById.remove(snapshot.get(index).getId());
+        snapshot = snapshot.remove(index);
+        publish(() -> internalList.remove(index));
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        restore(replacement.snapshot, ModificationCounter.next());
     }
 
     /**
@@ -95,7 +167,42 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.setAll(contacts);
+        List<Contact> stored = new ArrayList<>(contacts.size());
+        contactById.clear();
+        for (Contact contact : contacts) {
+            Contact storedOne = contactById.containsKey(contact.getId()) ? contact.withId(IdGenerator.next()) : contact;
+            contactById.put(storedOne.getId(), storedOne);
+            stored.add(storedOne);
+        }
+        snapshot = PersistentList.of(stored);
+        publish(() -> internalList.setAll(stored));
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned value.
+     */
+    public PersistentList<Contact> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which was returned by {@link #getSnapshot()} when
+     * the modification count was {@code modificationCount}.
+     */
+    public void restore(PersistentList<Contact> snapshot, long modificationCount) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            this.modificationCount = modificationCount;
+            return;
+        }
+        this.snapshot = snapshot;
+        List<Contact> stored = snapshot.toList();
+        contactById.clear();
+        for (Contact contact : stored) {
+            contactById.put(contact.getId(), contact);
+        }
+        publish(() -> internalList.setAll(stored));
+        this.modificationCount = modificationCount;
     }
 
     /**
@@ -107,19 +214,19 @@ public class UniqueContactList implements Iterable<Contact> {
 
     @Override
     public Iterator<Contact> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueContactList // instanceof handles nulls
-            && internalList.equals(((UniqueContactList) other).internalList));
+            && snapshot.equals(((UniqueContactList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
@@ -138,6 +245,6 @@ public class UniqueContactList implements Iterable<Contact> {
 
     @Override
     public String toString() {
-        return "UniqueContactList{" + "internalList=" + internalList + '}';
+        return "UniqueContactList{" + "internalList=" + snapshot + '}';
     }
 }
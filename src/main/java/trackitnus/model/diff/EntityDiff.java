@@ -0,0 +1,197 @@
+package trackitnus.model.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * The entities of one type that were added, removed or modified between two versions of a list.
+ * Entities are matched by id, so an entity that was edited is reported as modified. Entities whose ids do not
+ * match, e.g. because they were read again from storage, are then matched by value, so that an entity that only
+ * got a new id is not reported at all.
+ * Computing a diff takes O(n) expected time, as all matching is done with hash maps.
+ *
+ * @param <T> the type of the entities.
+ */
+public class EntityDiff<T> {
+    private final List<T> added;
+    private final List<T> removed;
+    private final List<Modification<T>> modified;
+
+    private EntityDiff(List<T> added, List<T> removed, List<Modification<T>> modified) {
+        this.added = added;
+        this.removed = removed;
+        this.modified = modified;
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, whose entities have the ids given by
+     * {@code idOf}. Neither list may contain two entities with the same id.
+     */
+    public static <T> EntityDiff<T> between(List<? extends T> before, List<? extends T> after,
+                                            ToLongFunction<T> idOf) {
+        requireNonNull(before);
+        requireNonNull(after);
+        requireNonNull(idOf);
+        Map<Long, T> unmatchedBefore = new LinkedHashMap<>();
+        for (T entity : before) {
+            unmatchedBefore.put(idOf.applyAsLong(entity), entity);
+        }
+        List<T> unmatchedAfter = new ArrayList<>();
+        List<Modification<T>> modified = new ArrayList<>();
+        for (T entity : after) {
+            T old = unmatchedBefore.remove(idOf.applyAsLong(entity));
+            if (old == null) {
+                unmatchedAfter.add(entity);
+            } else if (!old.equals(entity)) {
+                modified.add(new Modification<>(old, entity));
+            }
+        }
+
+        // what is left over is matched by value, counting equal entities so that duplicates cancel out one by one
+        Map<T, Integer> leftOver = new HashMap<>();
+        for (T entity : unmatchedBefore.values()) {
+            leftOver.merge(entity, 1, Integer::sum);
+        }
+        List<T> added = new ArrayList<>();
+        for (T entity : unmatchedAfter) {
+            if (!takeOne(leftOver, entity)) {
+                added.add(entity);
+            }
+        }
+        List<T> removed = new ArrayList<>();
+        for (T entity : unmatchedBefore.values()) {
+            if (takeOne(leftOver, entity)) {
+                removed.add(entity);
+            }
+        }
+        return new EntityDiff<>(added, removed, modified);
+    }
+
+    /**
+     * Removes one occurrence of {@code entity} from {@code counts}, returning false if there was none.
+     */
+    private static <T> boolean takeOne(Map<T, Integer> counts, T entity) {
+        Integer count = counts.get(entity);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            counts.remove(entity);
+        } else {
+            counts.put(entity, count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the entities that are only in the later version, in their order there.
+     */
+    public List<T> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Returns the entities that are only in the earlier version, in their order there.
+     */
+    public List<T> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Returns the entities that kept their id but changed, in their order in the later version.
+     */
+    public List<Modification<T>> getModified() {
+        return Collections.unmodifiableList(modified);
+    }
+
+    /**
+     * Returns the number of entities that were added, removed or modified.
+     */
+    public int size() {
+        return added.size() + removed.size() + modified.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EntityDiff)) {
+            return false;
+        }
+
+        EntityDiff<?> otherDiff = (EntityDiff<?>) other;
+        return otherDiff.added.equals(added)
+            && otherDiff.removed.equals(removed)
+            && otherDiff.modified.equals(modified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, modified);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityDiff{" + "added=" + added + ", removed=" + removed + ", modified=" + modified + '}';
+    }
+
+    /**
+     * An entity that kept its id but changed.
+     *
+     * @param <T> the type of the entity.
+     */
+    public static final class Modification<T> {
+        private final T before;
+        private final T after;
+
+        /**
+         * Creates a modification of {@code before} into {@code after}.
+         */
+        public Modification(T before, T after) {
+            requireNonNull(before);
+            requireNonNull(after);
+            this.before = before;
+            this.after = after;
+        }
+
+        public T getBefore() {
+            return before;
+        }
+
+        public T getAfter() {
+            return after;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof Modification // instanceof handles nulls
+                && before.equals(((Modification<?>) other).before)
+                && after.equals(((Modification<?>) other).after)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+
+        @Override
+        public String toString() {
+            return before + " -> " + after;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package trackitnus.model.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * The contacts, modules, tasks and lessons that changed between two versions of the app data.
+ * See {@link EntityDiff} for how entities are matched.
+ */
+public class TrackIterDiff {
+    public static final String MESSAGE_NO_CHANGES = "nothing changed";
+
+    private final EntityDiff<Contact> contactDiff;
+    private final EntityDiff<Module> moduleDiff;
+    private final EntityDiff<Task> taskDiff;
+    private final EntityDiff<Lesson> lessonDiff;
+
+    private TrackIterDiff(EntityDiff<Contact> contactDiff, EntityDiff<Module> moduleDiff, EntityDiff<Task> taskDiff,
+                          EntityDiff<Lesson> lessonDiff) {
+        this.contactDiff = contactDiff;
+        this.moduleDiff = moduleDiff;
+        this.taskDiff = taskDiff;
+        this.lessonDiff = lessonDiff;
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, in O(n) expected time.
+     */
+    public static TrackIterDiff between(ReadOnlyTrackIter before, ReadOnlyTrackIter after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        return new TrackIterDiff(
+            EntityDiff.between(before.getContactList(), after.getContactList(), Contact::getId),
+            EntityDiff.between(before.getModuleList(), after.getModuleList(), Module::getId),
+            EntityDiff.between(before.getTaskList(), after.getTaskList(), Task::getId),
+            EntityDiff.between(before.getLessonList(), after.getLessonList(), Lesson::getId));
+    }
+
+    public EntityDiff<Contact> getContactDiff() {
+        return contactDiff;
+    }
+
+    public EntityDiff<Module> getModuleDiff() {
+        return moduleDiff;
+    }
+
+    public EntityDiff<Task> getTaskDiff() {
+        return taskDiff;
+    }
+
+    public EntityDiff<Lesson> getLessonDiff() {
+        return lessonDiff;
+    }
+
+    /**
+     * Returns the number of entities that were added, removed or modified.
+     */
+    public int size() {
+        return contactDiff.size() + moduleDiff.size() + taskDiff.size() + lessonDiff.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a one-line description of the number of changes of each type, e.g.
+     * {@code "contacts: 2 added; tasks: 1 modified, 1 removed"}.
+     */
+    public String getSummary() {
+        List<String> sections = new ArrayList<>();
+        addSummary(sections, "contacts", contactDiff);
+        addSummary(sections, "modules", moduleDiff);
+        addSummary(sections, "tasks", taskDiff);
+        addSummary(sections, "lessons", lessonDiff);
+        return sections.isEmpty() ? MESSAGE_NO_CHANGES : String.join("; ", sections);
+    }
+
+    private static void addSummary(List<String> sections, String name, EntityDiff<?> diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
+        List<String> counts = new ArrayList<>();
+        addCount(counts, diff.getAdded().size(), "added");
+        addCount(counts, diff.getModified().size(), "modified");
+        addCount(counts, diff.getRemoved().size(), "removed");
+        sections.add(name + ": " + String.join(", ", counts));
+    }
+
+    private static void addCount(List<String> counts, int count, String change) {
+        if (count > 0) {
+            counts.add(count + " " + change);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TrackIterDiff)) {
+            return false;
+        }
+
+        TrackIterDiff otherDiff = (TrackIterDiff) other;
+        return otherDiff.contactDiff.equals(contactDiff)
+            && otherDiff.moduleDiff.equals(moduleDiff)
+            && otherDiff.taskDiff.equals(taskDiff)
+            && otherDiff.lessonDiff.equals(lessonDiff);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contactDiff, moduleDiff, taskDiff, lessonDiff);
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
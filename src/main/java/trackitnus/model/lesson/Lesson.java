@@ -1,11 +1,12 @@
 package trackitnus.model.lesson;
 
 import java.time.LocalTime;
-import java.util.Objects;
 
+import trackitnus.commons.util.AppUtil;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.model.commons.Address;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 
 /**
  * Represents a Lesson in the app.
@@ -13,20 +14,34 @@ import trackitnus.model.commons.Code;
 public class Lesson {
     public static final String TYPE = "L";
 
+    private final long id;
     private final Code code;
     private final Type type;
     private final LessonDateTime time;
     private final Address address;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
      */
     public Lesson(Code code, Type type, LessonDateTime time, Address address) {
+        this(IdGenerator.next(), code, type, time, address);
+    }
+
+    /**
+     * Creates a lesson with the given {@code id}, which must be valid.
+     * Every other field must be present and not null.
+     */
+    public Lesson(long id, Code code, Type type, LessonDateTime time, Address address) {
         CollectionUtil.requireAllNonNull(code, type, time, address);
+        AppUtil.checkArgument(IdGenerator.isValidId(id), IdGenerator.MESSAGE_CONSTRAINTS);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.code = code;
         this.time = time;
         this.type = type;
         this.address = address;
+        hash = computeHash();
     }
 
     @Override
@@ -40,7 +55,8 @@ public class Lesson {
         }
 
         Lesson otherLesson = (Lesson) other;
-        return otherLesson.code.equals(code)
+        return otherLesson.hash == hash
+            && otherLesson.code.equals(code)
             && otherLesson.type.equals(type)
             && otherLesson.time.equals(time)
             && otherLesson.address.equals(address);
@@ -48,7 +64,20 @@ public class Lesson {
 
     @Override
     public int hashCode() {
-        return Objects.hash(code, type, time, address);
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the fields, the same as {@code Objects.hash(code, type, time, address)} would but
+     * without allocating an array.
+     */
+    private int computeHash() {
+        int result = 1;
+        result = 31 * result + code.hashCode();
+        result = 31 * result + type.hashCode();
+        result = 31 * result + time.hashCode();
+        result = 31 * result + address.hashCode();
+        return result;
     }
 
     @Override
@@ -62,6 +91,20 @@ public class Lesson {
             + getAddress();
     }
 
+    /**
+     * Returns the id of this lesson, which stays the same when the lesson is edited. The id is not part of equality.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns this lesson with its id replaced by {@code id}.
+     */
+    public Lesson withId(long id) {
+        return new Lesson(id, code, type, time, address);
+    }
+
     public Code getCode() {
         return code;
     }
@@ -72,7 +115,7 @@ public class Lesson {
      */
     public Lesson setCode(Code newCode) {
         CollectionUtil.requireAllNonNull(newCode);
-        return new Lesson(newCode, type, time, address);
+        return new Lesson(id, newCode, type, time, address);
     }
 
     public Type getType() {
@@ -1,11 +1,29 @@
 package trackitnus.model.lesson;
 
+import java.time.LocalDate;
 import java.util.Comparator;
 
 /**
  * Compares 2 lessons in chronological order to facilitate sorting.
+ * The week is considered to start on the weekday given at construction, so the clock is read at most once per sort.
  */
 public class LessonComparator implements Comparator<Lesson> {
+    private final DayOfWeek currentWeekday;
+
+    /**
+     * Creates a comparator for a week starting today.
+     */
+    public LessonComparator() {
+        this(DayOfWeek.getLessonWeekDay(LocalDate.now(LessonDateTime.DEFAULT_TIME_ZONE)));
+    }
+
+    /**
+     * Creates a comparator for a week starting on {@code currentWeekday}.
+     */
+    public LessonComparator(DayOfWeek currentWeekday) {
+        this.currentWeekday = currentWeekday;
+    }
+
     /**
      * @param firstLesson  First lesson to compare.
      * @param secondLesson Second lesson to compare.
@@ -13,7 +31,7 @@ public class LessonComparator implements Comparator<Lesson> {
      */
     @Override
     public int compare(Lesson firstLesson, Lesson secondLesson) {
-        int res = firstLesson.getTime().compareTo(secondLesson.getTime());
+        int res = firstLesson.getTime().compareTo(secondLesson.getTime(), currentWeekday);
         if (res != 0) {
             return res;
         }
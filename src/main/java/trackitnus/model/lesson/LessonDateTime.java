@@ -19,6 +19,7 @@ public class LessonDateTime {
     private final DayOfWeek weekday;
     private final LocalTime startTime;
     private final LocalTime endTime;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -33,6 +34,7 @@ public class LessonDateTime {
         AppUtil.checkArgument(isValidTime(startTime, endTime), MESSAGE_CONSTRAINTS + " " + startTime + " " + endTime);
         this.startTime = startTime;
         this.endTime = endTime;
+        hash = 31 * (31 * (31 + weekday.ordinal()) + startTime.hashCode()) + endTime.hashCode();
     }
 
     private boolean isValidTime(LocalTime startTime, LocalTime endTime) {
@@ -52,24 +54,33 @@ public class LessonDateTime {
     }
 
     /**
-     * Compares this LessonDateTime with another LessonDateTime in chronological order.
+     * Compares this LessonDateTime with another LessonDateTime in chronological order, starting from today.
      *
      * @param other The other LessonDateTime to compare.
      * @return an int < 0 if this is "less than" other.
      */
     public int compareTo(LessonDateTime other) {
+        return compareTo(other, DayOfWeek.getLessonWeekDay(LocalDate.now(DEFAULT_TIME_ZONE)));
+    }
+
+    /**
+     * Compares this LessonDateTime with another LessonDateTime in chronological order, starting from
+     * {@code currentWeekday}.
+     *
+     * @param other          The other LessonDateTime to compare.
+     * @param currentWeekday The weekday that is considered the start of the week.
+     * @return an int < 0 if this is "less than" other.
+     */
+    public int compareTo(LessonDateTime other, DayOfWeek currentWeekday) {
         if (equals(other)) {
             return 0;
-        } else {
-            LocalDate currentDate = LocalDate.now(DEFAULT_TIME_ZONE);
-            DayOfWeek currentWeekday = DayOfWeek.getLessonWeekDay(currentDate);
-            Integer currentToThis = DayOfWeek.distanceBetweenTwoDay(currentWeekday, getWeekday());
-            Integer currentToOther = DayOfWeek.distanceBetweenTwoDay(currentWeekday, other.getWeekday());
-            int result = currentToThis.compareTo(currentToOther);
-            return result == 0
-                ? getStartTime().compareTo(other.getStartTime())
-                : result;
         }
+        Integer currentToThis = DayOfWeek.distanceBetweenTwoDay(currentWeekday, getWeekday());
+        Integer currentToOther = DayOfWeek.distanceBetweenTwoDay(currentWeekday, other.getWeekday());
+        int result = currentToThis.compareTo(currentToOther);
+        return result == 0
+            ? getStartTime().compareTo(other.getStartTime())
+            : result;
     }
 
     @Override
@@ -83,11 +94,17 @@ public class LessonDateTime {
         }
 
         LessonDateTime otherDate = (LessonDateTime) other;
-        return otherDate.weekday.equals(weekday)
+        return otherDate.hash == hash
+            && otherDate.weekday.equals(weekday)
             && otherDate.startTime.equals(startTime)
             && otherDate.endTime.equals(endTime);
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
         return weekday.name() + " "
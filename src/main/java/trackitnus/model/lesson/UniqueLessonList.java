@@ -2,12 +2,21 @@ package trackitnus.model.lesson;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.commons.util.PersistentList;
+import trackitnus.model.commons.IdGenerator;
+import trackitnus.model.commons.ModificationCounter;
 import trackitnus.model.lesson.exceptions.DuplicateLessonException;
 import trackitnus.model.lesson.exceptions.LessonNotFoundException;
 
@@ -20,6 +29,16 @@ import trackitnus.model.lesson.exceptions.LessonNotFoundException;
  * as to ensure that the lesson with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The contents are also kept in a {@code PersistentList}, so a snapshot of the list can be taken in O(1)
+ * with {@link #getSnapshot()} and brought back later with {@link #restore(PersistentList, long)}.
+ * <p>
+ * The lessons are also kept by id, so they can be looked up by id in O(1) time. A lesson keeps its id when it is
+ * edited, and a lesson whose id is already taken by another lesson in the list is given a new one.
+ * <p>
+ * The {@code PersistentList} is the actual content of the list. The {@code ObservableList} view replays its
+ * changes through a {@code ChangeCoalescer}, which applies them right away unless another one is set with
+ * {@link #setObservableListUpdates(ChangeCoalescer)}, e.g. to update the view in batches on the UI thread.
  *
  * @see Lesson#isSameLesson(Lesson)
  */
@@ -28,13 +47,48 @@ public class UniqueLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Lesson> lessonById = new HashMap<>();
+    private PersistentList<Lesson> snapshot = PersistentList.empty();
+    private ChangeCoalescer observableListUpdates = ChangeCoalescer.direct();
+    private long modificationCount = ModificationCounter.next();
+
+    /**
+     * Makes the {@code ObservableList} view replay the changes to this list through {@code updates}.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        observableListUpdates = updates;
+    }
+
+    /**
+     * Returns the modification count of this list, which changes whenever its contents change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Counts a modification, and submits {@code change}, which brings the {@code ObservableList} view up to date
+     * with the current contents of this list, to the {@code ObservableList} updates.
+     */
+    private void publish(Runnable change) {
+        modificationCount = ModificationCounter.next();
+        PersistentList<Lesson> current = snapshot;
+        observableListUpdates.submit(internalList, change,
+            () -> ObservableListUtil.replaceChanged(internalList, current.toList()));
+    }
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (toCheck.isSameLesson(snapshot.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -46,7 +100,17 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalList.add(toAdd);
+        Lesson added = lessonById.containsKey(toAdd.getId()) ? toAdd.withId(IdGenerator.next()) : toAdd;
+        lessonById.put(added.getId(), added);
+        snapshot = snapshot.add(added);
+        publish(() -> internalList.add(added));
+    }
+
+    /**
+     * Returns the lesson with the given {@code id}, if it is in the list.
+     */
+    public Optional<Lesson> getById(long id) {
+        return Optional.ofNullable(lessonById.get(id));
     }
 
     /**
@@ -57,7 +121,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         CollectionUtil.requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
+        int index = snapshot.indexOf(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -66,7 +130,11 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        long id = snapshot.get(index).getId();
+        Lesson stored = editedLesson.getId() == id ? editedLesson : editedLesson.withId(id);
+        lessonById.put(id, stored);
+        snapshot = snapshot.set(index, stored);
+        publish(() -> internalList.set(index, stored));
     }
 
     /**
@@ -75,14 +143,18 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = snapshot.indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        lessonById.remove(snapshot.get(index).getId());
+        snapshot = snapshot.remove(index);
+        publish(() -> internalList.remove(index));
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        restore(replacement.snapshot, ModificationCounter.next());
     }
 
     /**
@@ -95,7 +167,42 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.setAll(lessons);
+        List<Lesson> stored = new ArrayList<>(lessons.size());
+        lessonById.clear();
+        for (Lesson lesson : lessons) {
+            Lesson storedOne = lessonById.containsKey(lesson.getId()) ? lesson.withId(IdGenerator.next()) : lesson;
+            lessonById.put(storedOne.getId(), storedOne);
+            stored.add(storedOne);
+        }
+        snapshot = PersistentList.of(stored);
+        publish(() -> internalList.setAll(stored));
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned value.
+     */
+    public PersistentList<Lesson> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which was returned by {@link #getSnapshot()} when
+     * the modification count was {@code modificationCount}.
+     */
+    public void restore(PersistentList<Lesson> snapshot, long modificationCount) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            this.modificationCount = modificationCount;
+            return;
+        }
+        this.snapshot = snapshot;
+        List<Lesson> stored = snapshot.toList();
+        lessonById.clear();
+        for (Lesson lesson : stored) {
+            lessonById.put(lesson.getId(), lesson);
+        }
+        publish(() -> internalList.setAll(stored));
+        this.modificationCount = modificationCount;
     }
 
     /**
@@ -107,19 +214,19 @@ public class UniqueLessonList implements Iterable<Lesson> {
 
     @Override
     public Iterator<Lesson> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueLessonList // instanceof handles nulls
-            && internalList.equals(((UniqueLessonList) other).internalList));
+            && snapshot.equals(((UniqueLessonList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
@@ -136,12 +243,30 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return true;
     }
 
+    /**
+     * Sorts the list with {@code lessonComparator}. Does nothing if the list is already sorted.
+     */
     public void sort(LessonComparator lessonComparator) {
-        internalList.sort(lessonComparator);
+        if (isSorted(lessonComparator)) {
+            return;
+        }
+        List<Lesson> sorted = snapshot.toList();
+        sorted.sort(lessonComparator);
+        snapshot = PersistentList.of(sorted);
+        publish(() -> internalList.sort(lessonComparator));
+    }
+
+    private boolean isSorted(LessonComparator lessonComparator) {
+        for (int i = 1; i < snapshot.size(); i++) {
+            if (lessonComparator.compare(snapshot.get(i - 1), snapshot.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
-        return "UniqueLessonList{" + "internalList=" + internalList + '}';
+        return "UniqueLessonList{" + "internalList=" + snapshot + '}';
     }
 }
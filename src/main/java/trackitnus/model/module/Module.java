@@ -2,11 +2,12 @@ package trackitnus.model.module;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Objects;
 
 import javafx.scene.paint.Color;
+import trackitnus.commons.util.AppUtil;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 
 /**
@@ -19,16 +20,44 @@ public class Module {
         "#C082FF"), Color.web("#698AFF"), Color.web("#42B4D8"), Color.web("#3CAC84"), Color.web("#8DDB50"),
         Color.web("#B3CB1D"), Color.web("#FAD308"), Color.web("#F59525"), Color.web("#F95045")));
 
+    private final long id;
     private final Code code;
     private final Name name;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
      */
     public Module(Code code, Name name) {
+        this(IdGenerator.next(), code, name);
+    }
+
+    /**
+     * Creates a module with the given {@code id}, which must be valid.
+     * Every other field must be present and not null.
+     */
+    public Module(long id, Code code, Name name) {
         CollectionUtil.requireAllNonNull(code, name);
+        AppUtil.checkArgument(IdGenerator.isValidId(id), IdGenerator.MESSAGE_CONSTRAINTS);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.code = code;
         this.name = name;
+        hash = 31 * (31 + code.hashCode()) + name.hashCode();
+    }
+
+    /**
+     * Returns the id of this module, which stays the same when the module is edited. The id is not part of equality.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns this module with its id replaced by {@code id}.
+     */
+    public Module withId(long id) {
+        return new Module(id, code, name);
     }
 
     public Code getCode() {
@@ -50,14 +79,15 @@ public class Module {
         }
 
         Module otherModule = (Module) other;
-        return otherModule.code.equals(code)
+        return otherModule.hash == hash
+            && otherModule.code.equals(code)
             && otherModule.name.equals(name);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(code, name);
+        // the same as Objects.hash(code, name), computed once
+        return hash;
     }
 
     @Override
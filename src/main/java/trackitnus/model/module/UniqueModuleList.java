@@ -2,12 +2,21 @@ package trackitnus.model.module;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.commons.util.PersistentList;
+import trackitnus.model.commons.IdGenerator;
+import trackitnus.model.commons.ModificationCounter;
 import trackitnus.model.module.exceptions.DuplicateModuleException;
 import trackitnus.model.module.exceptions.ModuleNotFoundException;
 
@@ -20,6 +29,16 @@ import trackitnus.model.module.exceptions.ModuleNotFoundException;
  * as to ensure that the module with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The contents are also kept in a {@code PersistentList}, so a snapshot of the list can be taken in O(1)
+ * with {@link #getSnapshot()} and brought back later with {@link #restore(PersistentList, long)}.
+ * <p>
+ * The modules are also kept by id, so they can be looked up by id in O(1) time. A module keeps its id when it is
+ * edited, and a module whose id is already taken by another module in the list is given a new one.
+ * <p>
+ * The {@code PersistentList} is the actual content of the list. The {@code ObservableList} view replays its
+ * changes through a {@code ChangeCoalescer}, which applies them right away unless another one is set with
+ * {@link #setObservableListUpdates(ChangeCoalescer)}, e.g. to update the view in batches on the UI thread.
  *
  * @see Module#hasSameCode(Module)
  */
@@ -28,13 +47,48 @@ public class UniqueModuleList implements Iterable<Module> {
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
     private final ObservableList<Module> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Module> moduleById = new HashMap<>();
+    private PersistentList<Module> snapshot = PersistentList.empty();
+    private ChangeCoalescer observableListUpdates = ChangeCoalescer.direct();
+    private long modificationCount = ModificationCounter.next();
+
+    /**
+     * Makes the {@code ObservableList} view replay the changes to this list through {@code updates}.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        observableListUpdates = updates;
+    }
+
+    /**
+     * Returns the modification count of this list, which changes whenever its contents change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Counts a modification, and submits {@code change}, which brings the {@code ObservableList} view up to date
+     * with the current contents of this list, to the {@code ObservableList} updates.
+     */
+    private void publish(Runnable change) {
+        modificationCount = ModificationCounter.next();
+        PersistentList<Module> current = snapshot;
+        observableListUpdates.submit(internalList, change,
+            () -> ObservableListUtil.replaceChanged(internalList, current.toList()));
+    }
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameCode);
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (toCheck.hasSameCode(snapshot.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -46,7 +100,17 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
-        internalList.add(toAdd);
+        Module added = moduleById.containsKey(toAdd.getId()) ? toAdd.withId(IdGenerator.next()) : toAdd;
+        moduleById.put(added.getId(), added);
+        snapshot = snapshot.add(added);
+        publish(() -> internalList.add(added));
+    }
+
+    /**
+     * Returns the module with the given {@code id}, if it is in the list.
+     */
+    public Optional<Module> getById(long id) {
+        return Optional.ofNullable(moduleById.get(id));
     }
 
     /**
@@ -57,7 +121,7 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModule(Module target, Module editedModule) {
         CollectionUtil.requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
+        int index = snapshot.indexOf(target);
         if (index == -1) {
             throw new ModuleNotFoundException();
         }
@@ -66,7 +130,11 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.set(index, editedModule);
+        long id = snapshot.get(index).getId();
+        Module stored = editedModule.getId() == id ? editedModule : editedModule.withId(id);
+        moduleById.put(id, stored);
+        snapshot = snapshot.set(index, stored);
+        publish(() -> internalList.set(index, stored));
     }
 
     /**
@@ -75,14 +143,18 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public void remove(Module toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = snapshot.indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleNotFoundException();
         }
+        moduleById.remove(snapshot.get(index).getId());
+        snapshot = snapshot.remove(index);
+        publish(() -> internalList.remove(index));
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        restore(replacement.snapshot, ModificationCounter.next());
     }
 
     /**
@@ -95,7 +167,42 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.setAll(modules);
+        List<Module> stored = new ArrayList<>(modules.size());
+        moduleById.clear();
+        for (Module module : modules) {
+            Module storedOne = moduleById.containsKey(module.getId()) ? module.withId(IdGenerator.next()) : module;
+            moduleById.put(storedOne.getId(), storedOne);
+            stored.add(storedOne);
+        }
+        snapshot = PersistentList.of(stored);
+        publish(() -> internalList.setAll(stored));
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned value.
+     */
+    public PersistentList<Module> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which was returned by {@link #getSnapshot()} when
+     * the modification count was {@code modificationCount}.
+     */
+    public void restore(PersistentList<Module> snapshot, long modificationCount) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            this.modificationCount = modificationCount;
+            return;
+        }
+        this.snapshot = snapshot;
+        List<Module> stored = snapshot.toList();
+        moduleById.clear();
+        for (Module module : stored) {
+            moduleById.put(module.getId(), module);
+        }
+        publish(() -> internalList.setAll(stored));
+        this.modificationCount = modificationCount;
     }
 
     /**
@@ -107,19 +214,19 @@ public class UniqueModuleList implements Iterable<Module> {
 
     @Override
     public Iterator<Module> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueModuleList // instanceof handles nulls
-            && internalList.equals(((UniqueModuleList) other).internalList));
+            && snapshot.equals(((UniqueModuleList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
@@ -138,6 +245,6 @@ public class UniqueModuleList implements Iterable<Module> {
 
     @Override
     public String toString() {
-        return "UniqueModuleList{" + "internalList=" + internalList + '}';
+        return "UniqueModuleList{" + "internalList=" + snapshot + '}';
     }
 }
@@ -0,0 +1,121 @@
+package trackitnus.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Maps the words of a set of entries to the entries that contain them, so a query only looks at the entries
+ * that contain its words.
+ * The words of an entry, and how much each counts, are given by a function of the entry, so an entry can be
+ * removed again by recomputing its words; entries must therefore be immutable.
+ *
+ * @param <T> the type of the entries.
+ */
+public class InvertedIndex<T> {
+    private final Function<T, Map<String, Integer>> wordWeights;
+    /** Maps each word to the entries that contain it and the weight of the word in each of them. */
+    private final NavigableMap<String, Map<T, Integer>> postings = new TreeMap<>();
+    private int size;
+
+    /**
+     * Creates an empty index whose entries contain the words given by {@code wordWeights}, with the given weights.
+     */
+    public InvertedIndex(Function<T, Map<String, Integer>> wordWeights) {
+        requireNonNull(wordWeights);
+        this.wordWeights = wordWeights;
+    }
+
+    /**
+     * Adds {@code entry} to the index.
+     */
+    public void add(T entry) {
+        requireNonNull(entry);
+        wordWeights.apply(entry).forEach((word, weight) ->
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(entry, weight, Integer::sum));
+        size++;
+    }
+
+    /**
+     * Removes {@code entry}, which must have been added before, from the index.
+     */
+    public void remove(T entry) {
+        requireNonNull(entry);
+        wordWeights.apply(entry).forEach((word, weight) -> {
+            Map<T, Integer> entries = postings.get(word);
+            if (entries == null) {
+                return;
+            }
+            entries.computeIfPresent(entry, (unused, oldWeight) -> oldWeight > weight ? oldWeight - weight : null);
+            if (entries.isEmpty()) {
+                postings.remove(word);
+            }
+        });
+        size--;
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the entries that match {@code query}, best match first.
+     * An entry scores the weights of the matching words, with rare words counting more than common ones, summed
+     * over every term of every alternative of the query that it matches.
+     */
+    public List<T> search(SearchQuery query) {
+        requireNonNull(query);
+        Map<T, Double> scores = new HashMap<>();
+        for (List<SearchQuery.Term> clause : query.getClauses()) {
+            Map<T, Double> clauseScores = null;
+            for (SearchQuery.Term term : clause) {
+                Map<T, Double> termScores = match(term);
+                if (clauseScores == null) {
+                    clauseScores = termScores;
+                } else {
+                    clauseScores.keySet().retainAll(termScores.keySet());
+                    clauseScores.replaceAll((entry, score) -> score + termScores.get(entry));
+                }
+                if (clauseScores.isEmpty()) {
+                    break;
+                }
+            }
+            clauseScores.forEach((entry, score) -> scores.merge(entry, score, Double::sum));
+        }
+        List<Map.Entry<T, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<T, Double>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(entry -> entry.getKey().toString()));
+        List<T> entries = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> entries.add(entry.getKey()));
+        return entries;
+    }
+
+    /**
+     * Returns the score of every entry that contains a word matching {@code term}.
+     */
+    private Map<T, Double> match(SearchQuery.Term term) {
+        Map<String, Map<T, Integer>> matchingWords;
+        if (term.isPrefix()) {
+            matchingWords = postings.subMap(term.getWord(), true, term.getWord() + Character.MAX_VALUE, true);
+        } else {
+            Map<T, Integer> entries = postings.get(term.getWord());
+            matchingWords = entries == null ? Map.of() : Map.of(term.getWord(), entries);
+        }
+        Map<T, Double> scores = new HashMap<>();
+        for (Map<T, Integer> entries : matchingWords.values()) {
+            double rarity = Math.log(1 + (double) size / entries.size());
+            entries.forEach((entry, weight) -> scores.merge(entry, weight * rarity, Double::sum));
+        }
+        return scores;
+    }
+}
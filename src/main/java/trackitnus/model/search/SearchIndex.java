@@ -0,0 +1,194 @@
+package trackitnus.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * The full-text indexes of the contacts, modules, tasks and lessons of a {@code ReadOnlyTrackIter}, kept up to date
+ * with its changes.
+ * Indexed are contact names, emails and tags; module codes and names; task names and remarks; and lesson addresses.
+ * Whole words are looked up in an {@code InvertedIndex}, where names count more than the other fields, and parts of
+ * words, possibly misspelt, in a {@code TrigramIndex}.
+ * Tasks whose remarks are stored out of memory are only indexed by the first search after they are added, so that
+ * loading the data does not read all their remarks.
+ */
+public class SearchIndex {
+    private static final int NAME_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int OTHER_WEIGHT = 1;
+
+    private final InvertedIndex<Contact> contacts = new InvertedIndex<>(SearchIndex::getContactWords);
+    private final InvertedIndex<Module> modules = new InvertedIndex<>(SearchIndex::getModuleWords);
+    private final InvertedIndex<Task> tasks = new InvertedIndex<>(SearchIndex::getTaskWords);
+    private final InvertedIndex<Lesson> lessons = new InvertedIndex<>(SearchIndex::getLessonWords);
+    private final TrigramIndex<Contact> fuzzyContacts = new TrigramIndex<>(SearchIndex::getContactFields);
+    private final TrigramIndex<Module> fuzzyModules = new TrigramIndex<>(SearchIndex::getModuleFields);
+    private final TrigramIndex<Task> fuzzyTasks = new TrigramIndex<>(SearchIndex::getTaskFields);
+    private final TrigramIndex<Lesson> fuzzyLessons = new TrigramIndex<>(SearchIndex::getLessonFields);
+    /** The tasks whose remarks are stored out of memory, which are only read and indexed by the next search. */
+    private final Set<Task> unindexedTasks = new HashSet<>();
+
+    /**
+     * Creates an index of the entries of {@code trackIter}, which follows its later changes.
+     */
+    public SearchIndex(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        ObservableListUtil.follow(trackIter.getContactList(), contact -> {
+            contacts.add(contact);
+            fuzzyContacts.add(contact);
+        }, contact -> {
+            contacts.remove(contact);
+            fuzzyContacts.remove(contact);
+        });
+        ObservableListUtil.follow(trackIter.getModuleList(), module -> {
+            modules.add(module);
+            fuzzyModules.add(module);
+        }, module -> {
+            modules.remove(module);
+            fuzzyModules.remove(module);
+        });
+        ObservableListUtil.follow(trackIter.getTaskList(), task -> {
+            if (task.getStoredRemark().isPresent()) {
+                unindexedTasks.add(task);
+                return;
+            }
+            tasks.add(task);
+            fuzzyTasks.add(task);
+        }, task -> {
+            if (unindexedTasks.remove(task)) {
+                return;
+            }
+            tasks.remove(task);
+            fuzzyTasks.remove(task);
+        });
+        ObservableListUtil.follow(trackIter.getLessonList(), lesson -> {
+            lessons.add(lesson);
+            fuzzyLessons.add(lesson);
+        }, lesson -> {
+            lessons.remove(lesson);
+            fuzzyLessons.remove(lesson);
+        });
+    }
+
+    /**
+     * Returns the entries that match {@code query}.
+     */
+    public SearchResult search(SearchQuery query) {
+        requireNonNull(query);
+        indexStoredRemarks();
+        return new SearchResult(contacts.search(query), modules.search(query), tasks.search(query),
+            lessons.search(query));
+    }
+
+    /**
+     * Returns the entries whose text contains {@code query}, also inside words and with a few typos.
+     *
+     * @see TrigramIndex#search(String)
+     */
+    public SearchResult fuzzySearch(String query) {
+        requireNonNull(query);
+        indexStoredRemarks();
+        return new SearchResult(fuzzyContacts.search(query), fuzzyModules.search(query), fuzzyTasks.search(query),
+            fuzzyLessons.search(query));
+    }
+
+    private void indexStoredRemarks() {
+        for (Task task : unindexedTasks) {
+            tasks.add(task);
+            fuzzyTasks.add(task);
+        }
+        unindexedTasks.clear();
+    }
+
+    /**
+     * Splits {@code text} into lowercase words made of letters and digits; every other character separates words.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static List<String> getContactFields(Contact contact) {
+        List<String> fields = new ArrayList<>();
+        fields.add(contact.getName().value);
+        contact.getEmail().ifPresent(email -> fields.add(email.value));
+        contact.getTags().forEach(tag -> fields.add(tag.tagName));
+        return fields;
+    }
+
+    private static List<String> getModuleFields(Module module) {
+        return List.of(module.getCode().code, module.getName().value);
+    }
+
+    private static List<String> getTaskFields(Task task) {
+        return List.of(task.getName().value, task.getRemark());
+    }
+
+    private static List<String> getLessonFields(Lesson lesson) {
+        return List.of(lesson.getAddress().value);
+    }
+
+    private static Map<String, Integer> getContactWords(Contact contact) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, contact.getName().value, NAME_WEIGHT);
+        contact.getEmail().ifPresent(email -> addWords(words, email.value, OTHER_WEIGHT));
+        contact.getTags().forEach(tag -> addWords(words, tag.tagName, TAG_WEIGHT));
+        return words;
+    }
+
+    private static Map<String, Integer> getModuleWords(Module module) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, module.getCode().code, NAME_WEIGHT);
+        addWords(words, module.getName().value, NAME_WEIGHT);
+        return words;
+    }
+
+    /**
+     * Returns the words of {@code task} that a search matches, with how much each counts.
+     */
+    public static Map<String, Integer> getTaskWords(Task task) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, task.getName().value, NAME_WEIGHT);
+        addWords(words, task.getRemark(), OTHER_WEIGHT);
+        return words;
+    }
+
+    private static Map<String, Integer> getLessonWords(Lesson lesson) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, lesson.getAddress().value, OTHER_WEIGHT);
+        return words;
+    }
+
+    private static void addWords(Map<String, Integer> words, String text, int weight) {
+        for (String word : tokenize(text)) {
+            words.merge(word, weight, Integer::sum);
+        }
+    }
+}
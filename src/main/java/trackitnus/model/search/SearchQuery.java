@@ -0,0 +1,103 @@
+package trackitnus.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A full-text query: a list of alternatives, each of which requires all of its terms to match.
+ * E.g. {@code alex cs* OR quiz} is {@code (alex AND cs*) OR quiz}.
+ */
+public class SearchQuery {
+    private final List<List<Term>> clauses;
+
+    /**
+     * Creates a query that matches an entry if all the terms of at least one of {@code clauses} match it.
+     * Every clause must have at least one term.
+     */
+    public SearchQuery(List<List<Term>> clauses) {
+        requireNonNull(clauses);
+        List<List<Term>> copy = new ArrayList<>();
+        for (List<Term> clause : clauses) {
+            if (clause.isEmpty()) {
+                throw new IllegalArgumentException("A clause of a search query must have at least one term");
+            }
+            copy.add(List.copyOf(clause));
+        }
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("A search query must have at least one clause");
+        }
+        this.clauses = List.copyOf(copy);
+    }
+
+    public List<List<Term>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SearchQuery // instanceof handles nulls
+            && clauses.equals(((SearchQuery) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return clauses.toString();
+    }
+
+    /**
+     * A word to look for, which must already be in the form produced by {@link SearchIndex#tokenize}.
+     * A prefix term matches every word that starts with it.
+     */
+    public static final class Term {
+        private final String word;
+        private final boolean isPrefix;
+
+        /**
+         * Creates a term for {@code word}, which matches whole words only unless {@code isPrefix}.
+         */
+        public Term(String word, boolean isPrefix) {
+            requireNonNull(word);
+            this.word = word;
+            this.isPrefix = isPrefix;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public boolean isPrefix() {
+            return isPrefix;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Term)) {
+                return false;
+            }
+            Term otherTerm = (Term) other;
+            return word.equals(otherTerm.word) && isPrefix == otherTerm.isPrefix;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(word, isPrefix);
+        }
+
+        @Override
+        public String toString() {
+            return isPrefix ? word + "*" : word;
+        }
+    }
+}
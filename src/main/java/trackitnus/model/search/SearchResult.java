@@ -0,0 +1,72 @@
+package trackitnus.model.search;
+
+import static trackitnus.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * The entries that match a {@code SearchQuery}, grouped by type and best match first within each group.
+ */
+public class SearchResult {
+    private final List<Contact> contacts;
+    private final List<Module> modules;
+    private final List<Task> tasks;
+    private final List<Lesson> lessons;
+
+    /**
+     * Every list must be ranked, best match first.
+     */
+    public SearchResult(List<Contact> contacts, List<Module> modules, List<Task> tasks, List<Lesson> lessons) {
+        requireAllNonNull(contacts, modules, tasks, lessons);
+        this.contacts = List.copyOf(contacts);
+        this.modules = List.copyOf(modules);
+        this.tasks = List.copyOf(tasks);
+        this.lessons = List.copyOf(lessons);
+    }
+
+    public List<Contact> getContacts() {
+        return contacts;
+    }
+
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the number of matching entries of all types.
+     */
+    public int size() {
+        return contacts.size() + modules.size() + tasks.size() + lessons.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SearchResult)) {
+            return false;
+        }
+        SearchResult otherResult = (SearchResult) other;
+        return contacts.equals(otherResult.contacts) && modules.equals(otherResult.modules)
+            && tasks.equals(otherResult.tasks) && lessons.equals(otherResult.lessons);
+    }
+
+    @Override
+    public int hashCode() {
+        return List.of(contacts, modules, tasks, lessons).hashCode();
+    }
+}
@@ -0,0 +1,211 @@
+package trackitnus.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Finds the entries whose text contains a query, anywhere in a word and allowing for typos.
+ * Every entry is indexed by the three-character sequences (trigrams) of its words. A query first collects the
+ * entries that share enough trigrams with it, then checks at most {@link #MAX_VERIFIED_CANDIDATES} of them, those
+ * sharing the most trigrams first, against the actual text.
+ * Like {@link InvertedIndex}, the text of an entry is given by a function of the entry, which must be immutable.
+ *
+ * @param <T> the type of the entries.
+ */
+public class TrigramIndex<T> {
+    public static final int MAX_VERIFIED_CANDIDATES = 1000;
+
+    private final Function<T, List<String>> fields;
+    private final Map<Long, Set<T>> postings = new HashMap<>();
+    private final Map<T, String> texts = new HashMap<>();
+
+    /**
+     * Creates an empty index whose entries have the text fields given by {@code fields}.
+     */
+    public TrigramIndex(Function<T, List<String>> fields) {
+        requireNonNull(fields);
+        this.fields = fields;
+    }
+
+    /**
+     * Adds {@code entry} to the index.
+     */
+    public void add(T entry) {
+        requireNonNull(entry);
+        String text = getText(entry);
+        texts.put(entry, text);
+        for (long trigram : getWordTrigrams(text)) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Removes {@code entry}, which must have been added before, from the index.
+     */
+    public void remove(T entry) {
+        requireNonNull(entry);
+        String text = texts.remove(entry);
+        if (text == null) {
+            return;
+        }
+        for (long trigram : getWordTrigrams(text)) {
+            Set<T> entries = postings.get(trigram);
+            if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the entries whose text contains {@code query} with at most {@link #getMaxEdits} typos, ignoring case
+     * and punctuation, closest match first.
+     * Queries shorter than three characters only match the start of words.
+     */
+    public List<T> search(String query) {
+        requireNonNull(query);
+        String pattern = normalize(query);
+        Set<Long> queryTrigrams = getQueryTrigrams(pattern);
+        if (queryTrigrams.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<T, Integer> sharedCounts = new HashMap<>();
+        for (long trigram : queryTrigrams) {
+            for (T entry : postings.getOrDefault(trigram, Set.of())) {
+                sharedCounts.merge(entry, 1, Integer::sum);
+            }
+        }
+
+        int maxEdits = getMaxEdits(pattern);
+        // an edit changes at most three of the trigrams of the query
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+        List<Map.Entry<T, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<T, Integer> candidate : sharedCounts.entrySet()) {
+            if (candidate.getValue() >= minShared) {
+                candidates.add(candidate);
+            }
+        }
+        candidates.sort(Map.Entry.<T, Integer>comparingByValue().reversed());
+
+        Map<T, Integer> distances = new HashMap<>();
+        for (int i = 0; i < candidates.size() && i < MAX_VERIFIED_CANDIDATES; i++) {
+            T entry = candidates.get(i).getKey();
+            int distance = getSubstringDistance(pattern, texts.get(entry));
+            if (distance <= maxEdits) {
+                distances.put(entry, distance);
+            }
+        }
+        List<T> matches = new ArrayList<>(distances.keySet());
+        matches.sort(Comparator.comparingInt((T entry) -> distances.get(entry))
+            .thenComparing(entry -> -sharedCounts.get(entry))
+            .thenComparing(Object::toString));
+        return matches;
+    }
+
+    /**
+     * Returns the number of typos allowed in {@code pattern}: none in short patterns, where a typo would match too
+     * much, and up to two in long ones.
+     */
+    static int getMaxEdits(String pattern) {
+        if (pattern.length() <= 4) {
+            return 0;
+        }
+        return pattern.length() <= 8 ? 1 : 2;
+    }
+
+    /**
+     * Returns the least number of single character insertions, deletions and substitutions that turn
+     * {@code pattern} into some substring of {@code text}.
+     */
+    static int getSubstringDistance(String pattern, String text) {
+        int[] previous = new int[pattern.length() + 1];
+        int[] current = new int[pattern.length() + 1];
+        for (int i = 0; i <= pattern.length(); i++) {
+            previous[i] = i;
+        }
+        int best = previous[pattern.length()];
+        for (int j = 0; j < text.length() && best > 0; j++) {
+            char c = text.charAt(j);
+            // a match may start anywhere in the text, so the empty prefix of the pattern costs nothing
+            current[0] = 0;
+            for (int i = 1; i <= pattern.length(); i++) {
+                int substitution = previous[i - 1] + (pattern.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            best = Math.min(best, current[pattern.length()]);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return best;
+    }
+
+    private String getText(T entry) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields.apply(entry)) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(normalize(field));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns {@code text} in lowercase, with every run of characters other than letters and digits replaced by a
+     * single space.
+     */
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (String word : SearchIndex.tokenize(text)) {
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(word);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the trigrams of every word of {@code text}, padded so that the start of a word has trigrams of its own.
+     */
+    private static Set<Long> getWordTrigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String word : text.split(" ")) {
+            String padded = "  " + word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(pack(padded, i));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the trigrams that a text containing {@code pattern} must mostly have: those inside each word of
+     * the pattern, or for words shorter than three characters, those at the start of the word.
+     */
+    private static Set<Long> getQueryTrigrams(String pattern) {
+        Set<Long> trigrams = new HashSet<>();
+        if (pattern.isEmpty()) {
+            return trigrams;
+        }
+        for (String word : pattern.split(" ")) {
+            String padded = word.length() < 3 ? "  " + word : word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(pack(padded, i));
+            }
+        }
+        return trigrams;
+    }
+
+    private static long pack(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
@@ -3,6 +3,7 @@ package trackitnus.model.tag;
 import static java.util.Objects.requireNonNull;
 
 import trackitnus.commons.util.AppUtil;
+import trackitnus.commons.util.WeakInterner;
 
 /**
  * Represents a Tag in the app.
@@ -13,7 +14,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakInterner<Tag> POOL = new WeakInterner<>(tag -> tag.tagName);
+
     public final String tagName;
+    private final int hash;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,6 +28,16 @@ public class Tag {
         requireNonNull(tagName);
         AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        hash = tagName.hashCode();
+    }
+
+    /**
+     * Returns the {@code Tag} of the given name, shared with every other user of the same tag.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName, Tag::new);
     }
 
     /**
@@ -37,12 +51,13 @@ public class Tag {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Tag // instanceof handles nulls
+            && hash == ((Tag) other).hash // cheap mismatch check
             && tagName.equals(((Tag) other).tagName)); // state check
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return hash;
     }
 
     /**
@@ -0,0 +1,157 @@
+package trackitnus.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+
+/**
+ * A task remark that is kept on disk rather than in memory, as long remarks are only needed when the task is
+ * shown or searched. The text is read from its {@code Source} the first time it is needed, and kept only as long
+ * as memory allows.
+ * The hash of the text is known without reading it, so a task with a stored remark can be put in hash-based
+ * collections without reading the remark. A text read that does not have that hash is taken as unreadable.
+ */
+public final class StoredRemark {
+
+    static final String MESSAGE_CHANGED = "The remark stored at %d is not the one the task was saved with";
+
+    private static final Logger logger = LogsCenter.getLogger(StoredRemark.class);
+
+    /**
+     * Where stored remarks are read from.
+     */
+    public interface Source {
+        /**
+         * Returns the remark stored in {@code length} bytes at {@code offset}.
+         *
+         * @throws IOException if the remark could not be read.
+         */
+        String read(long offset, int length) throws IOException;
+    }
+
+    private final Source source;
+    private final long offset;
+    private final int length;
+    private final int hash;
+    private SoftReference<String> text = new SoftReference<>(null);
+
+    /**
+     * Creates a remark stored in {@code length} bytes at {@code offset} of {@code source}, whose text has the
+     * hash {@code hash}.
+     */
+    public StoredRemark(Source source, long offset, int length, int hash) {
+        requireNonNull(source);
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.hash = hash;
+    }
+
+    /**
+     * Creates a remark stored in {@code length} bytes at {@code offset} of {@code source}, whose text is
+     * {@code text}, which is kept until memory runs short.
+     */
+    public StoredRemark(Source source, long offset, int length, String text) {
+        this(source, offset, length, text.hashCode());
+        this.text = new SoftReference<>(text);
+    }
+
+    /**
+     * Returns the text of the remark, reading it from its source if it is not in memory.
+     *
+     * @throws IOException if the remark could not be read, or what was read is not the text it was stored with.
+     */
+    public synchronized String read() throws IOException {
+        String cached = text.get();
+        if (cached != null) {
+            return cached;
+        }
+        cached = source.read(offset, length);
+        if (cached.hashCode() != hash) {
+            throw new IOException(String.format(MESSAGE_CHANGED, offset));
+        }
+        text = new SoftReference<>(cached);
+        return cached;
+    }
+
+    /**
+     * Returns the text of the remark like {@link #read()}, but logs a remark that cannot be read and returns it as
+     * empty, so that the rest of its task can still be shown. The text returned must not be saved, as it would
+     * replace the remark.
+     */
+    public String get() {
+        String read = readOrNull();
+        return read != null ? read : "";
+    }
+
+    /**
+     * Returns true if the text of the remark is {@code other}. A remark that cannot be read has no text.
+     */
+    public boolean hasText(String other) {
+        return other.hashCode() == hash && other.equals(readOrNull());
+    }
+
+    private String readOrNull() {
+        try {
+            return read();
+        } catch (IOException e) {
+            logger.warning("Failed to read the remark stored at " + offset + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns true if both remarks are stored in the same place, and so have the same text.
+     */
+    public boolean isSameStorage(StoredRemark other) {
+        return other.source == source && other.offset == offset && other.length == length;
+    }
+
+    /**
+     * Returns the hash of the text of the remark, the same as {@code get().hashCode()}.
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StoredRemark)) {
+            return false;
+        }
+        StoredRemark otherRemark = (StoredRemark) other;
+        if (otherRemark.hash != hash) {
+            return false;
+        }
+        if (isSameStorage(otherRemark)) {
+            return true;
+        }
+        String otherText = otherRemark.readOrNull();
+        return otherText != null && hasText(otherText);
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+}
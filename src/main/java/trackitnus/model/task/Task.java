@@ -1,11 +1,16 @@
 package trackitnus.model.task;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.Optional;
 
+import trackitnus.commons.util.AppUtil;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 
 
@@ -15,20 +20,71 @@ import trackitnus.model.commons.Name;
 public class Task {
     public static final String TYPE = "T";
 
+    private final long id;
     private final Name name;
     private final LocalDate date;
     private final Code code;
+    /** The remark, or null if it is stored out of memory as {@code storedRemark}. */
     private final String remark;
+    private final StoredRemark storedRemark;
+    private final int hash;
 
     /**
      * name, date & remark must be present and not null
      */
     public Task(Name name, LocalDate date, Code code, String remark) {
-        CollectionUtil.requireAllNonNull(name, date, remark);
+        this(IdGenerator.next(), name, date, code, remark);
+    }
+
+    /**
+     * Creates a task with the given {@code id}, which must be valid.
+     * name, date & remark must be present and not null
+     */
+    public Task(long id, Name name, LocalDate date, Code code, String remark) {
+        this(id, name, date, code, requireNonNull(remark), null);
+    }
+
+    /**
+     * Creates a task whose remark is stored out of memory, and only read when it is needed.
+     * name, date & remark must be present and not null
+     */
+    public Task(Name name, LocalDate date, Code code, StoredRemark remark) {
+        this(IdGenerator.next(), name, date, code, remark);
+    }
+
+    /**
+     * Creates a task with the given {@code id}, which must be valid, whose remark is stored out of memory.
+     * name, date & remark must be present and not null
+     */
+    public Task(long id, Name name, LocalDate date, Code code, StoredRemark remark) {
+        this(id, name, date, code, null, requireNonNull(remark));
+    }
+
+    private Task(long id, Name name, LocalDate date, Code code, String remark, StoredRemark storedRemark) {
+        CollectionUtil.requireAllNonNull(name, date);
+        AppUtil.checkArgument(IdGenerator.isValidId(id), IdGenerator.MESSAGE_CONSTRAINTS);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.date = date;
         this.code = code;
         this.remark = remark;
+        this.storedRemark = storedRemark;
+        hash = computeHash();
+    }
+
+    /**
+     * Returns the id of this task, which stays the same when the task is edited. The id is not part of equality.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns this task with its id replaced by {@code id}.
+     */
+    public Task withId(long id) {
+        return new Task(id, name, date, code, remark, storedRemark);
     }
 
     public LocalDate getDate() {
@@ -36,11 +92,32 @@ public class Task {
     }
 
     public boolean belongsToModule(Code code) {
-        return getCode().isPresent() && getCode().get().equals(code);
+        return this.code != null && this.code.equals(code);
     }
 
+    /**
+     * Returns the remark, which is read from where it is stored if it is not in memory.
+     * A stored remark that cannot be read is returned as empty, so this is for showing the task; use
+     * {@link #readRemark()} to save it.
+     */
     public String getRemark() {
-        return remark;
+        return remark != null ? remark : storedRemark.get();
+    }
+
+    /**
+     * Returns the remark, which is read from where it is stored if it is not in memory.
+     *
+     * @throws IOException if the remark is stored and could not be read.
+     */
+    public String readRemark() throws IOException {
+        return remark != null ? remark : storedRemark.read();
+    }
+
+    /**
+     * Returns the remark if it is stored out of memory, in which case reading it may be slow.
+     */
+    public Optional<StoredRemark> getStoredRemark() {
+        return Optional.ofNullable(storedRemark);
     }
 
     public Optional<Code> getCode() {
@@ -48,7 +125,7 @@ public class Task {
     }
 
     public Task setCode(Code newCode) {
-        return new Task(name, date, newCode, remark);
+        return new Task(id, name, date, newCode, remark, storedRemark);
     }
 
     public Name getName() {
@@ -66,16 +143,45 @@ public class Task {
         }
 
         Task otherTask = (Task) other;
-        return otherTask.name.equals(name)
+        return otherTask.hash == hash
+            && otherTask.name.equals(name)
             && otherTask.date.equals(date)
-            && otherTask.getCode().equals(getCode())
-            && otherTask.getRemark().equals(getRemark());
+            && Objects.equals(otherTask.code, code)
+            && isSameRemark(otherTask);
+    }
+
+    /**
+     * Returns true if both tasks have the same remark, without reading remarks stored in the same place.
+     */
+    private boolean isSameRemark(Task otherTask) {
+        if (storedRemark != null && otherTask.storedRemark != null) {
+            return storedRemark.equals(otherTask.storedRemark);
+        }
+        if (storedRemark != null) {
+            return storedRemark.hasText(otherTask.remark);
+        }
+        if (otherTask.storedRemark != null) {
+            return otherTask.storedRemark.hasText(remark);
+        }
+        return otherTask.remark.equals(remark);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, date, code, remark);
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the fields, the same as {@code Objects.hash(name, date, code, remark)} would but without
+     * allocating an array, or reading a stored remark.
+     */
+    private int computeHash() {
+        int result = 1;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + date.hashCode();
+        result = 31 * result + Objects.hashCode(code);
+        result = 31 * result + (remark != null ? remark.hashCode() : storedRemark.hashCode());
+        return result;
     }
 
     @Override
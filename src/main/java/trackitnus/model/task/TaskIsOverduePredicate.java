@@ -4,18 +4,25 @@ import java.time.LocalDate;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Task}'s {@code date} is before today
+ * Tests that a {@code Task}'s {@code date} is before a given {@code today}
  */
 public class TaskIsOverduePredicate implements Predicate<Task> {
 
+    private final LocalDate today;
+
+    public TaskIsOverduePredicate(LocalDate today) {
+        this.today = today;
+    }
+
     @Override
     public boolean test(Task task) {
-        LocalDate today = LocalDate.now();
         return task.getDate().isBefore(today);
     }
 
     @Override
     public boolean equals(Object other) {
-        return (other instanceof TaskIsOverduePredicate); // instanceof handles nulls
+        return other == this // short circuit if same object
+            || (other instanceof TaskIsOverduePredicate // instanceof handles nulls
+            && today.equals(((TaskIsOverduePredicate) other).today)); // state check
     }
 }
@@ -2,12 +2,21 @@ package trackitnus.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.commons.util.ObservableListUtil;
+import trackitnus.commons.util.PersistentList;
+import trackitnus.model.commons.IdGenerator;
+import trackitnus.model.commons.ModificationCounter;
 import trackitnus.model.task.exceptions.DuplicateTaskException;
 import trackitnus.model.task.exceptions.TaskNotFoundException;
 
@@ -20,6 +29,16 @@ import trackitnus.model.task.exceptions.TaskNotFoundException;
  * as to ensure that the task with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The contents are also kept in a {@code PersistentList}, so a snapshot of the list can be taken in O(1)
+ * with {@link #getSnapshot()} and brought back later with {@link #restore(PersistentList, long)}.
+ * <p>
+ * The tasks are also kept by id, so they can be looked up by id in O(1) time. A task keeps its id when it is
+ * edited, and a task whose id is already taken by another task in the list is given a new one.
+ * <p>
+ * The {@code PersistentList} is the actual content of the list. The {@code ObservableList} view replays its
+ * changes through a {@code ChangeCoalescer}, which applies them right away unless another one is set with
+ * {@link #setObservableListUpdates(ChangeCoalescer)}, e.g. to update the view in batches on the UI thread.
  *
  * @see Task#isSameTask(Task)
  */
@@ -28,13 +47,48 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Task> taskById = new HashMap<>();
+    private PersistentList<Task> snapshot = PersistentList.empty();
+    private ChangeCoalescer observableListUpdates = ChangeCoalescer.direct();
+    private long modificationCount = ModificationCounter.next();
+
+    /**
+     * Makes the {@code ObservableList} view replay the changes to this list through {@code updates}.
+     */
+    public void setObservableListUpdates(ChangeCoalescer updates) {
+        requireNonNull(updates);
+        observableListUpdates = updates;
+    }
+
+    /**
+     * Returns the modification count of this list, which changes whenever its contents change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Counts a modification, and submits {@code change}, which brings the {@code ObservableList} view up to date
+     * with the current contents of this list, to the {@code ObservableList} updates.
+     */
+    private void publish(Runnable change) {
+        modificationCount = ModificationCounter.next();
+        PersistentList<Task> current = snapshot;
+        observableListUpdates.submit(internalList, change,
+            () -> ObservableListUtil.replaceChanged(internalList, current.toList()));
+    }
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (toCheck.isSameTask(snapshot.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -46,7 +100,17 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        Task added = taskById.containsKey(toAdd.getId()) ? toAdd.withId(IdGenerator.next()) : toAdd;
+        taskById.put(added.getId(), added);
+        snapshot = snapshot.add(added);
+        publish(() -> internalList.add(added));
+    }
+
+    /**
+     * Returns the task with the given {@code id}, if it is in the list.
+     */
+    public Optional<Task> getById(long id) {
+        return Optional.ofNullable(taskById.get(id));
     }
 
     /**
@@ -57,7 +121,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         CollectionUtil.requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = snapshot.indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -66,7 +130,11 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        long id = snapshot.get(index).getId();
+        Task stored = editedTask.getId() == id ? editedTask : editedTask.withId(id);
+        taskById.put(id, stored);
+        snapshot = snapshot.set(index, stored);
+        publish(() -> internalList.set(index, stored));
     }
 
     /**
@@ -75,14 +143,18 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = snapshot.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        taskById.remove(snapshot.get(index).getId());
+        snapshot = snapshot.remove(index);
+        publish(() -> internalList.remove(index));
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        restore(replacement.snapshot, ModificationCounter.next());
     }
 
     /**
@@ -95,7 +167,42 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        List<Task> stored = new ArrayList<>(tasks.size());
+        taskById.clear();
+        for (Task task : tasks) {
+            Task storedOne = taskById.containsKey(task.getId()) ? task.withId(IdGenerator.next()) : task;
+            taskById.put(storedOne.getId(), storedOne);
+            stored.add(storedOne);
+        }
+        snapshot = PersistentList.of(stored);
+        publish(() -> internalList.setAll(stored));
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned value.
+     */
+    public PersistentList<Task> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which was returned by {@link #getSnapshot()} when
+     * the modification count was {@code modificationCount}.
+     */
+    public void restore(PersistentList<Task> snapshot, long modificationCount) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            this.modificationCount = modificationCount;
+            return;
+        }
+        this.snapshot = snapshot;
+        List<Task> stored = snapshot.toList();
+        taskById.clear();
+        for (Task task : stored) {
+            taskById.put(task.getId(), task);
+        }
+        publish(() -> internalList.setAll(stored));
+        this.modificationCount = modificationCount;
     }
 
     /**
@@ -107,19 +214,19 @@ public class UniqueTaskList implements Iterable<Task> {
 
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueTaskList // instanceof handles nulls
-            && internalList.equals(((UniqueTaskList) other).internalList));
+            && snapshot.equals(((UniqueTaskList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
@@ -136,12 +243,30 @@ public class UniqueTaskList implements Iterable<Task> {
         return true;
     }
 
+    /**
+     * Sorts the list with {@code taskComparator}. Does nothing if the list is already sorted.
+     */
     public void sort(TaskComparator taskComparator) {
-        internalList.sort(taskComparator);
+        if (isSorted(taskComparator)) {
+            return;
+        }
+        List<Task> sorted = snapshot.toList();
+        sorted.sort(taskComparator);
+        snapshot = PersistentList.of(sorted);
+        publish(() -> internalList.sort(taskComparator));
+    }
+
+    private boolean isSorted(TaskComparator taskComparator) {
+        for (int i = 1; i < snapshot.size(); i++) {
+            if (taskComparator.compare(snapshot.get(i - 1), snapshot.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
-        return "UniqueTaskList{" + "internalList=" + internalList + '}';
+        return "UniqueTaskList{" + "internalList=" + snapshot + '}';
     }
 }
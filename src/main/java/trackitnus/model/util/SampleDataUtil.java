@@ -29,94 +29,94 @@ import trackitnus.model.task.Task;
 public class SampleDataUtil {
     public static Contact[] getSampleContacts() {
         return new Contact[]{
-            new Contact(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@gmail.com"),
+            new Contact(Name.of("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@gmail.com"),
                 getTagSet("friends", "MA1101R")),
-            new Contact(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@gmail.com"),
+            new Contact(Name.of("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@gmail.com"),
                 getTagSet("colleagues", "friends")),
-            new Contact(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@gmail.com"),
+            new Contact(Name.of("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@gmail.com"),
                 getTagSet("neighbours")),
-            new Contact(new Name("David Li"), new Phone("91031282"), new Email("lidavid@gmail.com"),
+            new Contact(Name.of("David Li"), new Phone("91031282"), new Email("lidavid@gmail.com"),
                 getTagSet("family", "CS2100")),
-            new Contact(new Name("Uncle Soo"), new Phone("65162100"), new Email("dcssooyj@nus.edu.sg"),
+            new Contact(Name.of("Uncle Soo"), new Phone("65162100"), new Email("dcssooyj@nus.edu.sg"),
                 getTagSet("Professor", "CS2100")),
-            new Contact(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@gmail.com"),
+            new Contact(Name.of("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@gmail.com"),
                 getTagSet("classmates", "CS2103T")),
-            new Contact(new Name("Jeffry Lum"), new Phone("91122334"), new Email("jeffry@u.nus.edu"),
+            new Contact(Name.of("Jeffry Lum"), new Phone("91122334"), new Email("jeffry@u.nus.edu"),
                 getTagSet("TA", "CS2103T")),
-            new Contact(new Name("Prof Damith"), new Phone("65162103"), new Email("dcsdcr@nus.edu.sg"),
+            new Contact(Name.of("Prof Damith"), new Phone("65162103"), new Email("dcsdcr@nus.edu.sg"),
                 getTagSet("Professor", "CS2103T")),
-            new Contact(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@gmail.com"),
+            new Contact(Name.of("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@gmail.com"),
                 getTagSet("colleagues")),
-            new Contact(new Name("Henry Chia Wai Kit"), new Phone("65161556"), new Email("hchia@comp.nus.edu.sg"),
+            new Contact(Name.of("Henry Chia Wai Kit"), new Phone("65161556"), new Email("hchia@comp.nus.edu.sg"),
                 getTagSet("Professor", "CS2030S")),
-            new Contact(new Name("Kor Ming Soon"), new Phone("91223345"), new Email("e0012345@u.nus.edu"),
+            new Contact(Name.of("Kor Ming Soon"), new Phone("91223345"), new Email("e0012345@u.nus.edu"),
                 getTagSet("TA", "CS2030S"))
         };
     }
 
     public static Module[] getSampleModules() {
         return new Module[]{
-            new Module(new Code("CS1101S"), new Name("Programming Methodology")),
-            new Module(new Code("CS2100"), new Name("Computer Organisation")),
-            new Module(new Code("CS2103T"), new Name("Software Engineering")),
-            new Module(new Code("MA1101R"), new Name("Linear Algebra")),
-            new Module(new Code("GER1000H"), new Name("Quantitative Reasoning")),
-            new Module(new Code("CS2030S"), new Name("Programming Methodology"))
+            new Module(Code.of("CS1101S"), Name.of("Programming Methodology")),
+            new Module(Code.of("CS2100"), Name.of("Computer Organisation")),
+            new Module(Code.of("CS2103T"), Name.of("Software Engineering")),
+            new Module(Code.of("MA1101R"), Name.of("Linear Algebra")),
+            new Module(Code.of("GER1000H"), Name.of("Quantitative Reasoning")),
+            new Module(Code.of("CS2030S"), Name.of("Programming Methodology"))
         };
     }
 
     public static Lesson[] getSampleLessons() {
         return new Lesson[]{
-            new Lesson(new Code("CS1101S"), Type.LEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.minusHours(4),
-                LocalTime.NOON.minusHours(2)), new Address("TP-SR2")),
-            new Lesson(new Code("CS1101S"), Type.TUT, new LessonDateTime(DayOfWeek.Mon, LocalTime.NOON.plusHours(2),
-                LocalTime.NOON.plusHours(4)), new Address("COM1-0208")),
-            new Lesson(new Code("CS2100"), Type.LEC, new LessonDateTime(DayOfWeek.Tue, LocalTime.NOON.plusHours(4),
-                LocalTime.NOON.plusHours(6)), new Address("E-learning")),
-            new Lesson(new Code("CS2100"), Type.LAB, new LessonDateTime(DayOfWeek.Mon, LocalTime.MIDNIGHT.plusHours(9),
-                LocalTime.MIDNIGHT.plusHours(10)), new Address("E-learning")),
-            new Lesson(new Code("CS2103T"), Type.LEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.plusHours(2),
-                LocalTime.NOON.plusHours(4)), new Address("E-learning")),
-            new Lesson(new Code("CS2103T"), Type.TUT, new LessonDateTime(DayOfWeek.Thu, LocalTime.NOON.plusHours(2),
-                LocalTime.NOON.plusHours(3)), new Address("E-learning")),
-            new Lesson(new Code("MA1101R"), Type.LEC, new LessonDateTime(DayOfWeek.Thu, LocalTime.NOON.plusHours(4),
-                LocalTime.NOON.plusHours(6)), new Address("LT27")),
-            new Lesson(new Code("MA1101R"), Type.SEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.minusHours(2),
-                LocalTime.NOON.minusHours(1)), new Address("E-learning")),
-            new Lesson(new Code("GER1000H"), Type.LEC, new LessonDateTime(DayOfWeek.Tue, LocalTime.NOON,
-                LocalTime.NOON.plusHours(2)), new Address("E-learning")),
-            new Lesson(new Code("GER1000H"), Type.SEC, new LessonDateTime(DayOfWeek.Fri, LocalTime.NOON.plusHours(2),
-                LocalTime.NOON.plusHours(4)), new Address("PGPH-FR4")),
-            new Lesson(new Code("CS2030S"), Type.LEC, new LessonDateTime(DayOfWeek.Mon, LocalTime.NOON.minusHours(1),
-                LocalTime.NOON), new Address("E-learning")),
-            new Lesson(new Code("CS2030S"), Type.REC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON,
-                LocalTime.NOON.plusHours(1)), new Address("LT19")),
-            new Lesson(new Code("CS2030S"), Type.LAB, new LessonDateTime(DayOfWeek.Fri, LocalTime.NOON,
-                LocalTime.NOON.plusHours(2)), new Address("E-learning")),
+            new Lesson(Code.of("CS1101S"), Type.LEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.minusHours(4),
+                LocalTime.NOON.minusHours(2)), Address.of("TP-SR2")),
+            new Lesson(Code.of("CS1101S"), Type.TUT, new LessonDateTime(DayOfWeek.Mon, LocalTime.NOON.plusHours(2),
+                LocalTime.NOON.plusHours(4)), Address.of("COM1-0208")),
+            new Lesson(Code.of("CS2100"), Type.LEC, new LessonDateTime(DayOfWeek.Tue, LocalTime.NOON.plusHours(4),
+                LocalTime.NOON.plusHours(6)), Address.of("E-learning")),
+            new Lesson(Code.of("CS2100"), Type.LAB, new LessonDateTime(DayOfWeek.Mon, LocalTime.MIDNIGHT.plusHours(9),
+                LocalTime.MIDNIGHT.plusHours(10)), Address.of("E-learning")),
+            new Lesson(Code.of("CS2103T"), Type.LEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.plusHours(2),
+                LocalTime.NOON.plusHours(4)), Address.of("E-learning")),
+            new Lesson(Code.of("CS2103T"), Type.TUT, new LessonDateTime(DayOfWeek.Thu, LocalTime.NOON.plusHours(2),
+                LocalTime.NOON.plusHours(3)), Address.of("E-learning")),
+            new Lesson(Code.of("MA1101R"), Type.LEC, new LessonDateTime(DayOfWeek.Thu, LocalTime.NOON.plusHours(4),
+                LocalTime.NOON.plusHours(6)), Address.of("LT27")),
+            new Lesson(Code.of("MA1101R"), Type.SEC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON.minusHours(2),
+                LocalTime.NOON.minusHours(1)), Address.of("E-learning")),
+            new Lesson(Code.of("GER1000H"), Type.LEC, new LessonDateTime(DayOfWeek.Tue, LocalTime.NOON,
+                LocalTime.NOON.plusHours(2)), Address.of("E-learning")),
+            new Lesson(Code.of("GER1000H"), Type.SEC, new LessonDateTime(DayOfWeek.Fri, LocalTime.NOON.plusHours(2),
+                LocalTime.NOON.plusHours(4)), Address.of("PGPH-FR4")),
+            new Lesson(Code.of("CS2030S"), Type.LEC, new LessonDateTime(DayOfWeek.Mon, LocalTime.NOON.minusHours(1),
+                LocalTime.NOON), Address.of("E-learning")),
+            new Lesson(Code.of("CS2030S"), Type.REC, new LessonDateTime(DayOfWeek.Wed, LocalTime.NOON,
+                LocalTime.NOON.plusHours(1)), Address.of("LT19")),
+            new Lesson(Code.of("CS2030S"), Type.LAB, new LessonDateTime(DayOfWeek.Fri, LocalTime.NOON,
+                LocalTime.NOON.plusHours(2)), Address.of("E-learning")),
         };
     }
 
     public static Task[] getSampleTasks() {
         return new Task[]{
-            new Task(new Name("Plan for Alex's birthday"), ParserUtil.parseValidDate("12/12/2020"),
+            new Task(Name.of("Plan for Alex's birthday"), ParserUtil.parseValidDate("12/12/2020"),
                 null, "Buy a cake"),
-            new Task(new Name("Buy Mooncakes for Mum"), LocalDate.now().plusDays(3), null, ""),
-            new Task(new Name("Do Tutorial"), LocalDate.now().plusDays(5),
-                new Code("CS2100"), ""),
-            new Task(new Name("Catch up on Pipelining webcast"), LocalDate.now().plusDays(-2),
-                new Code("CS2100"), "focus on latency and data forwarding"),
-            new Task(new Name("Do this week's Mission"), LocalDate.now().plusDays(3),
-                new Code("CS1101S"), "Recursion"),
-            new Task(new Name("Work on the final report"), LocalDate.now().plusDays(0),
-                new Code("GER1000H"), "min 500 words"),
-            new Task(new Name("Study for Final Exam"), ParserUtil.parseValidDate("05/11/2020"),
-                new Code("MA1101R"), "Focus on Diagonalisation"),
-            new Task(new Name("Prepare for v1.4 Demo"), LocalDate.now().plusDays(0),
-                new Code("CS2103T"), "Ensure app runs smoothly"),
-            new Task(new Name("Practical Exam on week 13"), LocalDate.now().plusDays(5),
-                new Code("CS2103T"), "remember to upgrade to the latest CATCHER"),
-            new Task(new Name("Code Project 2"), ParserUtil.parseValidDate("20/11/2020"),
-                new Code("CS2030S"),
+            new Task(Name.of("Buy Mooncakes for Mum"), LocalDate.now().plusDays(3), null, ""),
+            new Task(Name.of("Do Tutorial"), LocalDate.now().plusDays(5),
+                Code.of("CS2100"), ""),
+            new Task(Name.of("Catch up on Pipelining webcast"), LocalDate.now().plusDays(-2),
+                Code.of("CS2100"), "focus on latency and data forwarding"),
+            new Task(Name.of("Do this week's Mission"), LocalDate.now().plusDays(3),
+                Code.of("CS1101S"), "Recursion"),
+            new Task(Name.of("Work on the final report"), LocalDate.now().plusDays(0),
+                Code.of("GER1000H"), "min 500 words"),
+            new Task(Name.of("Study for Final Exam"), ParserUtil.parseValidDate("05/11/2020"),
+                Code.of("MA1101R"), "Focus on Diagonalisation"),
+            new Task(Name.of("Prepare for v1.4 Demo"), LocalDate.now().plusDays(0),
+                Code.of("CS2103T"), "Ensure app runs smoothly"),
+            new Task(Name.of("Practical Exam on week 13"), LocalDate.now().plusDays(5),
+                Code.of("CS2103T"), "remember to upgrade to the latest CATCHER"),
+            new Task(Name.of("Code Project 2"), ParserUtil.parseValidDate("20/11/2020"),
+                Code.of("CS2030S"),
                 "(deadline is at the end of reading week)")
         };
     }
@@ -143,7 +143,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(Tag::of)
             .collect(Collectors.toSet());
     }
 
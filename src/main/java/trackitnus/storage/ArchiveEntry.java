@@ -0,0 +1,89 @@
+package trackitnus.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An archived task as seen by the archive index: where its line is in the archive file and the words a search
+ * matches in it. The task itself is only read when a search returns it.
+ * In the index file, an entry is a line of its offset, its length and its words with their weights, e.g.
+ * {@code 1024 187 quiz:3 week:3 chapter:1}.
+ */
+class ArchiveEntry {
+    private static final String FIELD_SEPARATOR = " ";
+    private static final String WEIGHT_SEPARATOR = ":";
+
+    private final long offset;
+    private final int length;
+    private final Map<String, Integer> words;
+
+    ArchiveEntry(long offset, int length, Map<String, Integer> words) {
+        this.offset = offset;
+        this.length = length;
+        this.words = words;
+    }
+
+    /**
+     * Returns the entry written as {@code line} in the index file, or nothing if the line is malformed, e.g.
+     * because a write to the index file was cut short.
+     */
+    static Optional<ArchiveEntry> parse(String line) {
+        String[] fields = line.trim().split(FIELD_SEPARATOR);
+        if (fields.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            long offset = Long.parseLong(fields[0]);
+            int length = Integer.parseInt(fields[1]);
+            if (offset < 0 || length <= 0) {
+                return Optional.empty();
+            }
+            Map<String, Integer> words = new HashMap<>();
+            for (int i = 2; i < fields.length; i++) {
+                int separator = fields[i].lastIndexOf(WEIGHT_SEPARATOR);
+                if (separator <= 0) {
+                    return Optional.empty();
+                }
+                words.put(fields[i].substring(0, separator), Integer.parseInt(fields[i].substring(separator + 1)));
+            }
+            return Optional.of(new ArchiveEntry(offset, length, words));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the line of this entry in the index file, without the line separator.
+     */
+    String toIndexLine() {
+        StringBuilder line = new StringBuilder().append(offset).append(FIELD_SEPARATOR).append(length);
+        words.forEach((word, weight) -> line.append(FIELD_SEPARATOR).append(word).append(WEIGHT_SEPARATOR)
+            .append(weight));
+        return line.toString();
+    }
+
+    long getOffset() {
+        return offset;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the offset just past the line of the task, including its line separator.
+     */
+    long getEnd() {
+        return offset + length + 1;
+    }
+
+    Map<String, Integer> getWords() {
+        return words;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(offset);
+    }
+}
@@ -0,0 +1,109 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+import trackitnus.commons.util.FileUtil;
+
+/**
+ * An advisory lock on the data files at a path, taken by every instance of TrackIter that uses them, so that one
+ * does not read the files while another writes them, nor two write them at once.
+ * The lock is held on a lock file next to the data file (e.g. {@code data/trackIter.lock} for
+ * {@code data/trackIter.json}), which is only created by writers; programs that do not take the lock, such as
+ * text editors, are not stopped by it.
+ */
+class DataFileLock {
+
+    private static final String DATA_FILE_EXTENSION = ".json";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    /** Taken before a lock file, as file locks held by one program must not overlap, even shared ones. */
+    private static final ReentrantLock HOLDS_IN_THIS_PROGRAM = new ReentrantLock();
+
+    private final Path lockFilePath;
+
+    /**
+     * Creates the lock of the data file at {@code filePath}.
+     */
+    DataFileLock(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        String stem = fileName.endsWith(DATA_FILE_EXTENSION)
+            ? fileName.substring(0, fileName.length() - DATA_FILE_EXTENSION.length())
+            : fileName;
+        lockFilePath = filePath.resolveSibling(stem + LOCK_FILE_SUFFIX);
+    }
+
+    Path getLockFilePath() {
+        return lockFilePath;
+    }
+
+    /**
+     * Waits until no other program reads or writes the data files, and returns a hold of the lock for writing
+     * them, which is released when it is closed.
+     */
+    Hold lockForWriting() throws IOException {
+        FileUtil.createParentDirsOfFile(lockFilePath);
+        return lock(false, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Waits until no other program writes the data files, and returns a hold of the lock for reading them, which
+     * is released when it is closed.
+     * Without a lock file, no program has written the files under the lock, so nothing is locked.
+     */
+    Hold lockForReading() throws IOException {
+        try {
+            return lock(true, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return new Hold(null);
+        }
+    }
+
+    private Hold lock(boolean isShared, OpenOption... options) throws IOException {
+        HOLDS_IN_THIS_PROGRAM.lock();
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(lockFilePath, options);
+            channel.lock(0, Long.MAX_VALUE, isShared);
+            return new Hold(channel);
+        } catch (IOException | RuntimeException e) {
+            HOLDS_IN_THIS_PROGRAM.unlock();
+            if (channel != null) {
+                channel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A hold of the lock, released when it is closed.
+     */
+    static final class Hold implements AutoCloseable {
+        /** The channel of the lock file, or null if nothing is locked. */
+        private final FileChannel channel;
+
+        private Hold(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel == null) {
+                return;
+            }
+            try {
+                // closing the channel releases the lock
+                channel.close();
+            } finally {
+                HOLDS_IN_THIS_PROGRAM.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.model.ReadOnlyTrackIter;
+
+/**
+ * Watches the files of a {@link TrackIterStorage} for changes made by other programs, such as a text editor or a
+ * second instance of TrackIter, and hands the data reloaded after each change to a listener.
+ * A burst of changes is reloaded once, after the files have been quiet for a moment. The storage only reads the
+ * files that changed, so the changes TrackIter makes itself are noticed but not read again.
+ */
+public class DataFileWatcher {
+
+    /** How long the files must be quiet after a change before they are reloaded. */
+    static final long QUIET_PERIOD_MILLIS = 100;
+    /** How often to look for the directories of the data while none of them exists. */
+    static final long MISSING_DIRECTORY_RETRY_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+    private static final String DATA_FILE_EXTENSION = ".json";
+
+    private final TrackIterStorage storage;
+    private final Executor reloadExecutor;
+    private final Consumer<ReadOnlyTrackIter> listener;
+    private WatchService watchService;
+
+    /**
+     * Creates a watcher of the files of {@code storage}, which reloads them on {@code reloadExecutor} and hands
+     * the data to {@code listener} there.
+     */
+    public DataFileWatcher(TrackIterStorage storage, Executor reloadExecutor, Consumer<ReadOnlyTrackIter> listener) {
+        requireNonNull(storage);
+        requireNonNull(reloadExecutor);
+        requireNonNull(listener);
+        this.storage = storage;
+        this.reloadExecutor = reloadExecutor;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the files on a background thread. Does nothing if the watcher is already started.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        WatchService service = storage.getTrackIterFilePath().getFileSystem().newWatchService();
+        Set<Path> watchedDirectories = new HashSet<>();
+        watchDirectories(service, watchedDirectories);
+        Thread thread = new Thread(() -> watch(service, watchedDirectories), "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        watchService = service;
+    }
+
+    /**
+     * Stops watching the files. A reload already handed to the executor still runs.
+     */
+    public synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data files: " + e.getMessage());
+        }
+        watchService = null;
+    }
+
+    /**
+     * Reloads the files that changed, and hands the data to the listener if any did.
+     * A changed file that cannot be read is logged, and the data in memory is kept.
+     */
+    void reload() {
+        try {
+            Optional<ReadOnlyTrackIter> data = storage.reloadTrackIter();
+            data.ifPresent(listener);
+        } catch (DataConversionException e) {
+            logger.warning("The data file was changed by another program but is not in the correct format; "
+                + "keeping the data in memory: " + e.getMessage());
+        } catch (IOException e) {
+            logger.warning("Failed to reload the data file: " + e.getMessage());
+        }
+    }
+
+    private void watch(WatchService service, Set<Path> watchedDirectories) {
+        try {
+            while (true) {
+                WatchKey key = watchedDirectories.isEmpty()
+                    ? service.poll(MISSING_DIRECTORY_RETRY_MILLIS, TimeUnit.MILLISECONDS)
+                    : service.take();
+                boolean isDataChanged = false;
+                while (key != null) {
+                    isDataChanged |= pollEvents(key, watchedDirectories);
+                    key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                // files may have been written to a directory before it was watched
+                isDataChanged |= watchDirectories(service, watchedDirectories);
+                if (isDataChanged) {
+                    reloadExecutor.execute(this::reload);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching the data files");
+        } catch (IOException e) {
+            logger.warning("Stopped watching the data files: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the events of {@code key} may be changes to the data files.
+     */
+    private static boolean pollEvents(WatchKey key, Set<Path> watchedDirectories) {
+        boolean isDataChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isDataChanged |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                || event.context().toString().endsWith(DATA_FILE_EXTENSION);
+        }
+        if (!key.reset()) {
+            // the directory is gone, so it is watched again if it comes back
+            watchedDirectories.remove((Path) key.watchable());
+            isDataChanged = true;
+        }
+        return isDataChanged;
+    }
+
+    /**
+     * Watches the directories of the data that exist and are not watched yet, and returns true if there were any.
+     */
+    private boolean watchDirectories(WatchService service, Set<Path> watchedDirectories) throws IOException {
+        boolean isAnyAdded = false;
+        for (Path directory : storage.getTrackIterDirectories()) {
+            if (!watchedDirectories.contains(directory) && Files.isDirectory(directory)) {
+                directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectories.add(directory);
+                isAnyAdded = true;
+            }
+        }
+        return isAnyAdded;
+    }
+}
@@ -0,0 +1,87 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import trackitnus.commons.util.FileUtil;
+
+/**
+ * The versions of the data files as this instance of TrackIter last read or wrote them, to tell the changes made
+ * by other programs from its own.
+ * A file whose size and modification time are as recorded is taken to be unchanged without reading it; otherwise
+ * its content is compared with the recorded one by hash.
+ */
+class FileVersions {
+
+    static final String MESSAGE_CHANGED_ELSEWHERE = "%s was changed by another program since TrackIter last read "
+        + "it. Its changes are loaded as soon as it is valid; please try again then.";
+
+    private final Map<Path, Version> versions = new HashMap<>();
+
+    /**
+     * Records that the file at {@code path} has {@code content}, as just read or written.
+     */
+    void record(Path path, String content) throws IOException {
+        versions.put(path, new Version(Files.size(path), Files.getLastModifiedTime(path), content.hashCode()));
+    }
+
+    /**
+     * Forgets the file at {@code path}, e.g. after deleting it.
+     */
+    void forget(Path path) {
+        versions.remove(path);
+    }
+
+    /**
+     * Returns true if the file at {@code path} is not as last read or written: its content changed, it was created,
+     * or it was deleted.
+     */
+    boolean isChanged(Path path) throws IOException {
+        Version known = versions.get(path);
+        if (!Files.exists(path)) {
+            return known != null;
+        }
+        if (known == null) {
+            return true;
+        }
+        long size = Files.size(path);
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        if (size == known.size && lastModified.equals(known.lastModified)) {
+            return false;
+        }
+        String content = FileUtil.readFromFile(path);
+        if (content.hashCode() != known.hash) {
+            return true;
+        }
+        // only touched, so the next check need not read it again
+        versions.put(path, new Version(size, lastModified, known.hash));
+        return false;
+    }
+
+    /**
+     * Throws an {@code IOException} if the file at {@code path} was changed by another program since it was last
+     * read or written, as writing it would lose that program's changes.
+     * A file that was never read nor written, or that is no longer there, may be written.
+     */
+    void checkUnchanged(Path path) throws IOException {
+        if (versions.containsKey(path) && Files.exists(path) && isChanged(path)) {
+            throw new IOException(String.format(MESSAGE_CHANGED_ELSEWHERE, path));
+        }
+    }
+
+    private static final class Version {
+        private final long size;
+        private final FileTime lastModified;
+        private final int hash;
+
+        private Version(long size, FileTime lastModified, int hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+}
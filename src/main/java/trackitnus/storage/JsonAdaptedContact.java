@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.contact.Email;
@@ -23,18 +24,28 @@ class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedContact} with the given contact details and no id.
+     */
+    public JsonAdaptedContact(String name, String phone, String email, List<JsonAdaptedTag> tagged) {
+        this(null, name, phone, email, tagged);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contact details.
+     * A contact without an id, e.g. from an older data file, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                              @JsonProperty("email") String email,
+    public JsonAdaptedContact(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
                               @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -47,6 +58,7 @@ class JsonAdaptedContact {
      * Converts a given {@code Contact} into this class for Jackson use.
      */
     public JsonAdaptedContact(Contact source) {
+        id = source.getId();
         name = source.getName().value;
         phone = source.getPhone().isPresent() ? source.getPhone().get().value : null;
         email = source.getEmail().isPresent() ? source.getEmail().get().value : null;
@@ -61,9 +73,24 @@ class JsonAdaptedContact {
      * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
      */
     public Contact toModelType() throws IllegalValueException {
+        return toModelType(id, name, phone, email,
+            tagged.stream().map(JsonAdaptedTag::getTagName).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts the given contact details, as read from JSON, into the model's {@code Contact} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the contact details.
+     */
+    static Contact toModelType(Long id, String name, String phone, String email, List<String> tagNames)
+        throws IllegalValueException {
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(IdGenerator.MESSAGE_CONSTRAINTS);
+        }
+
         final List<Tag> contactTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tagged) {
-            contactTags.add(tag.toModelType());
+        for (String tagName : tagNames) {
+            contactTags.add(JsonAdaptedTag.toModelType(tagName));
         }
 
         if (name == null) {
@@ -72,7 +99,7 @@ class JsonAdaptedContact {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         final Phone modelPhone;
         if (phone == null) {
@@ -93,7 +120,9 @@ class JsonAdaptedContact {
         }
 
         final Set<Tag> modelTags = new HashSet<>(contactTags);
-        return new Contact(modelName, modelPhone, modelEmail, modelTags);
+        return id == null
+            ? new Contact(modelName, modelPhone, modelEmail, modelTags)
+            : new Contact(id, modelName, modelPhone, modelEmail, modelTags);
     }
 
 }
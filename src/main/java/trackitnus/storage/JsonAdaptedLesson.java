@@ -10,6 +10,7 @@ import trackitnus.logic.parser.ParserUtil;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.commons.Address;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.lesson.LessonDateTime;
 import trackitnus.model.lesson.Type;
@@ -21,17 +22,28 @@ public class JsonAdaptedLesson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
 
+    private final Long id;
     private final String code;
     private final String type;
     private final String date;
     private final String address;
 
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details and no id.
+     */
+    public JsonAdaptedLesson(String code, String type, String date, String address) {
+        this(null, code, type, date, address);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * A lesson without an id, e.g. from an older data file, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedLesson(@JsonProperty("code") String code, @JsonProperty("type") String type,
-                             @JsonProperty("date") String date, @JsonProperty("address") String address) {
+    public JsonAdaptedLesson(@JsonProperty("id") Long id, @JsonProperty("code") String code,
+                             @JsonProperty("type") String type, @JsonProperty("date") String date,
+                             @JsonProperty("address") String address) {
+        this.id = id;
         this.code = code;
         this.type = type;
         this.date = date;
@@ -42,6 +54,7 @@ public class JsonAdaptedLesson {
      * Converts a given {@code Lesson} into this class for Jackson use.
      */
     public JsonAdaptedLesson(Lesson source) {
+        id = source.getId();
         code = source.getCode().code;
         type = source.getTypeStr();
         date = source.getTime().toString();
@@ -54,6 +67,19 @@ public class JsonAdaptedLesson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
      */
     public Lesson toModelType() throws IllegalValueException {
+        return toModelType(id, code, type, date, address);
+    }
+
+    /**
+     * Converts the given lesson details, as read from JSON, into the model's {@code Lesson} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the lesson details.
+     */
+    static Lesson toModelType(Long id, String code, String type, String date, String address)
+        throws IllegalValueException {
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(IdGenerator.MESSAGE_CONSTRAINTS);
+        }
 
         if (code == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Code.class.getSimpleName()));
@@ -61,7 +87,7 @@ public class JsonAdaptedLesson {
         if (!Code.isValidCode(code)) {
             throw new IllegalValueException(Code.MESSAGE_CONSTRAINTS);
         }
-        final Code modelCode = new Code(code);
+        final Code modelCode = Code.of(code);
 
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
@@ -90,6 +116,8 @@ public class JsonAdaptedLesson {
         }
         final Address modelAddress = ParserUtil.parseAddress(address);
 
-        return new Lesson(modelCode, modelType, modelTime, modelAddress);
+        return id == null
+            ? new Lesson(modelCode, modelType, modelTime, modelAddress)
+            : new Lesson(id, modelCode, modelType, modelTime, modelAddress);
     }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import trackitnus.commons.exceptions.IllegalValueException;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 import trackitnus.model.module.Module;
 
@@ -15,14 +16,25 @@ public class JsonAdaptedModule {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Module's %s field is missing!";
 
+    private final Long id;
     private final String code;
     private final String name;
 
+    /**
+     * Constructs a {@code JsonAdaptedModule} with the given module details and no id.
+     */
+    public JsonAdaptedModule(String code, String name) {
+        this(null, code, name);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedModule} with the given module details.
+     * A module without an id, e.g. from an older data file, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedModule(@JsonProperty("code") String code, @JsonProperty("name") String name) {
+    public JsonAdaptedModule(@JsonProperty("id") Long id, @JsonProperty("code") String code,
+                             @JsonProperty("name") String name) {
+        this.id = id;
         this.code = code;
         this.name = name;
     }
@@ -31,6 +43,7 @@ public class JsonAdaptedModule {
      * Converts a given {@code Module} into this class for Jackson use.
      */
     public JsonAdaptedModule(Module source) {
+        id = source.getId();
         code = source.getCode().code;
         name = source.getName().value;
     }
@@ -41,6 +54,18 @@ public class JsonAdaptedModule {
      * @throws IllegalValueException if there were any data constraints violated in the adapted module.
      */
     public Module toModelType() throws IllegalValueException {
+        return toModelType(id, code, name);
+    }
+
+    /**
+     * Converts the given module details, as read from JSON, into the model's {@code Module} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the module details.
+     */
+    static Module toModelType(Long id, String code, String name) throws IllegalValueException {
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(IdGenerator.MESSAGE_CONSTRAINTS);
+        }
 
         if (code == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Code.class.getSimpleName()));
@@ -48,7 +73,7 @@ public class JsonAdaptedModule {
         if (!Code.isValidCode(code)) {
             throw new IllegalValueException(Code.MESSAGE_CONSTRAINTS);
         }
-        final Code modelCode = new Code(code);
+        final Code modelCode = Code.of(code);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -56,9 +81,9 @@ public class JsonAdaptedModule {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
-        return new Module(modelCode, modelName);
+        return id == null ? new Module(modelCode, modelName) : new Module(id, modelCode, modelName);
     }
 
 }
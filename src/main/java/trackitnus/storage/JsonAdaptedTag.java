@@ -39,10 +39,19 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        return toModelType(tagName);
+    }
+
+    /**
+     * Converts the given tag name, as read from JSON, into the model's {@code Tag} object.
+     *
+     * @throws IllegalValueException if the tag name is invalid.
+     */
+    static Tag toModelType(String tagName) throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
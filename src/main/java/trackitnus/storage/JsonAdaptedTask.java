@@ -10,7 +10,9 @@ import trackitnus.commons.exceptions.IllegalValueException;
 import trackitnus.logic.parser.ParserUtil;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
+import trackitnus.model.task.StoredRemark;
 import trackitnus.model.task.Task;
 
 /**
@@ -20,17 +22,28 @@ public class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String date;
     private final String code;
     private final String remark;
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given task details and no id.
+     */
+    public JsonAdaptedTask(String name, String date, String code, String remark) {
+        this(null, name, date, code, remark);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * A task without an id, e.g. from an older data file, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("name") String name, @JsonProperty("date") String date,
-                           @JsonProperty("code") String code, @JsonProperty("remark") String remark) {
+    public JsonAdaptedTask(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                           @JsonProperty("date") String date, @JsonProperty("code") String code,
+                           @JsonProperty("remark") String remark) {
+        this.id = id;
         this.name = name;
         this.date = date;
         this.code = code;
@@ -41,6 +54,7 @@ public class JsonAdaptedTask {
      * Converts a given {@code Task} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        id = source.getId();
         name = source.getName().value;
         date = source.getDate().format(ParserUtil.DATE_PATTERN);
         code = source.getCode().isPresent() ? source.getCode().get().code : null;
@@ -53,6 +67,30 @@ public class JsonAdaptedTask {
      * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
      */
     public Task toModelType() throws IllegalValueException {
+        return toModelType(id, name, date, code, remark);
+    }
+
+    /**
+     * Converts the given task details, as read from JSON, into the model's {@code Task} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the task details.
+     */
+    static Task toModelType(Long id, String name, String date, String code, String remark)
+        throws IllegalValueException {
+        return toModelType(id, name, date, code, remark, null);
+    }
+
+    /**
+     * Converts the given task details, as read from JSON, into the model's {@code Task} object.
+     * If {@code storedRemark} is given, the remark is stored out of memory, and {@code remark} is ignored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the task details.
+     */
+    static Task toModelType(Long id, String name, String date, String code, String remark,
+                            StoredRemark storedRemark) throws IllegalValueException {
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(IdGenerator.MESSAGE_CONSTRAINTS);
+        }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -60,7 +98,7 @@ public class JsonAdaptedTask {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -74,15 +112,22 @@ public class JsonAdaptedTask {
             throw new IllegalValueException(Messages.DATE_MESSAGE_CONSTRAINTS);
         }
 
-        if (remark == null) {
+        if (remark == null && storedRemark == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Remark"));
         }
 
         if (code != null && !Code.isValidCode(code)) {
             throw new IllegalValueException(Code.MESSAGE_CONSTRAINTS);
         }
-        final Code modelCode = code == null ? null : new Code(code);
+        final Code modelCode = code == null ? null : Code.of(code);
 
-        return new Task(modelName, modelDate, modelCode, remark);
+        if (storedRemark != null) {
+            return id == null
+                ? new Task(modelName, modelDate, modelCode, storedRemark)
+                : new Task(id, modelName, modelDate, modelCode, storedRemark);
+        }
+        return id == null
+            ? new Task(modelName, modelDate, modelCode, remark)
+            : new Task(id, modelName, modelDate, modelCode, remark);
     }
 }
@@ -0,0 +1,63 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.contact.Contact;
+
+/**
+ * Reads a {@link Contact} from JSON in the format of {@link JsonAdaptedContact}, validating it as it is read.
+ */
+class JsonContactDeserializer extends StdDeserializer<Contact> {
+
+    public JsonContactDeserializer() {
+        super(Contact.class);
+    }
+
+    @Override
+    public Contact deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Long id = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        List<String> tagged = List.of();
+        JsonModelModule.startObject(p, ctxt, Contact.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "id":
+                id = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "name":
+                name = JsonModelModule.readString(p, ctxt);
+                break;
+            case "phone":
+                phone = JsonModelModule.readString(p, ctxt);
+                break;
+            case "email":
+                email = JsonModelModule.readString(p, ctxt);
+                break;
+            case "tagged":
+                List<String> tagNames = JsonModelModule.readStrings(p, ctxt);
+                tagged = tagNames == null ? List.of() : tagNames;
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        try {
+            return JsonAdaptedContact.toModelType(id, name, phone, email, tagged);
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+}
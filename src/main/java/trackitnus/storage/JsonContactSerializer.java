@@ -0,0 +1,35 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import trackitnus.model.contact.Contact;
+import trackitnus.model.tag.Tag;
+
+/**
+ * Writes a {@link Contact} as JSON in the format of {@link JsonAdaptedContact}.
+ */
+class JsonContactSerializer extends StdSerializer<Contact> {
+
+    public JsonContactSerializer() {
+        super(Contact.class);
+    }
+
+    @Override
+    public void serialize(Contact contact, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", contact.getId());
+        gen.writeStringField("name", contact.getName().value);
+        gen.writeStringField("phone", contact.getPhone().isPresent() ? contact.getPhone().get().value : null);
+        gen.writeStringField("email", contact.getEmail().isPresent() ? contact.getEmail().get().value : null);
+        gen.writeArrayFieldStart("tagged");
+        for (Tag tag : contact.getTags()) {
+            gen.writeString(tag.tagName);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,61 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.lesson.Lesson;
+
+/**
+ * Reads a {@link Lesson} from JSON in the format of {@link JsonAdaptedLesson}, validating it as it is read.
+ */
+class JsonLessonDeserializer extends StdDeserializer<Lesson> {
+
+    public JsonLessonDeserializer() {
+        super(Lesson.class);
+    }
+
+    @Override
+    public Lesson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Long id = null;
+        String code = null;
+        String type = null;
+        String date = null;
+        String address = null;
+        JsonModelModule.startObject(p, ctxt, Lesson.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "id":
+                id = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "code":
+                code = JsonModelModule.readString(p, ctxt);
+                break;
+            case "type":
+                type = JsonModelModule.readString(p, ctxt);
+                break;
+            case "date":
+                date = JsonModelModule.readString(p, ctxt);
+                break;
+            case "address":
+                address = JsonModelModule.readString(p, ctxt);
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        try {
+            return JsonAdaptedLesson.toModelType(id, code, type, date, address);
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+}
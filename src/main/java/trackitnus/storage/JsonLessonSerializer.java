@@ -0,0 +1,30 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import trackitnus.model.lesson.Lesson;
+
+/**
+ * Writes a {@link Lesson} as JSON in the format of {@link JsonAdaptedLesson}.
+ */
+class JsonLessonSerializer extends StdSerializer<Lesson> {
+
+    public JsonLessonSerializer() {
+        super(Lesson.class);
+    }
+
+    @Override
+    public void serialize(Lesson lesson, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", lesson.getId());
+        gen.writeStringField("code", lesson.getCode().code);
+        gen.writeStringField("type", lesson.getTypeStr());
+        gen.writeStringField("date", lesson.getTime().toString());
+        gen.writeStringField("address", lesson.getAddress().toString());
+        gen.writeEndObject();
+    }
+}
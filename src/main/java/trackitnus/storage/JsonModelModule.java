@@ -0,0 +1,196 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.DataSection;
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * Jackson serializers and deserializers that convert the model classes to and from JSON directly, in the same
+ * format as the {@code JsonAdapted} classes but without building them in between.
+ * Values are validated as they are read, with the same checks and messages as the {@code JsonAdapted} classes.
+ */
+class JsonModelModule extends SimpleModule {
+
+    private static final ObjectMapper objectMapper = JsonUtil.newObjectMapper().registerModule(new JsonModelModule());
+
+    /**
+     * Creates the module with the serializers and deserializers of all the model classes.
+     */
+    public JsonModelModule() {
+        super("JsonModelModule");
+        addSerializer(Contact.class, new JsonContactSerializer());
+        addSerializer(Module.class, new JsonModuleSerializer());
+        addSerializer(Task.class, new JsonTaskSerializer());
+        addSerializer(Lesson.class, new JsonLessonSerializer());
+        addDeserializer(Contact.class, new JsonContactDeserializer());
+        addDeserializer(Module.class, new JsonModuleDeserializer());
+        addDeserializer(Task.class, new JsonTaskDeserializer());
+        addDeserializer(Lesson.class, new JsonLessonDeserializer());
+        addDeserializer(TrackIter.class, new JsonTrackIterDeserializer());
+    }
+
+    /**
+     * Converts the TrackIter data in {@code json} into the model's {@code TrackIter} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IOException if {@code json} is not in the expected format.
+     */
+    static TrackIter readTrackIter(String json) throws IOException, IllegalValueException {
+        return readValue(json, TrackIter.class);
+    }
+
+    /**
+     * Similar to {@link #readTrackIter(String)}, with the long remarks referred to by {@code json} stored in
+     * {@code remarkBlobFile}.
+     */
+    static TrackIter readTrackIter(String json, RemarkBlobFile remarkBlobFile)
+        throws IOException, IllegalValueException {
+        return readValue(objectMapper.readerFor(TrackIter.class).withAttribute(RemarkBlobFile.class, remarkBlobFile),
+            json);
+    }
+
+    /**
+     * Converts {@code json} into an instance of {@code type}, which may be a model class.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IOException if {@code json} is not in the expected format.
+     */
+    static <T> T readValue(String json, Class<T> type) throws IOException, IllegalValueException {
+        return readValue(objectMapper.readerFor(type), json);
+    }
+
+    private static <T> T readValue(ObjectReader reader, String json) throws IOException, IllegalValueException {
+        try {
+            return reader.readValue(json);
+        } catch (JsonMappingException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Converts {@code instance}, which may hold model objects, into its JSON string representation, formatted as
+     * by {@link JsonUtil#toJsonString}.
+     */
+    static String toJsonString(Object instance) throws JsonProcessingException {
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+    }
+
+    /**
+     * Similar to {@link #toJsonString(Object)}, but stores the long remarks of tasks in {@code remarkBlobFile} and
+     * refers to them there.
+     */
+    static String toJsonString(Object instance, RemarkBlobFile remarkBlobFile) throws JsonProcessingException {
+        return objectMapper.writerWithDefaultPrettyPrinter().withAttribute(RemarkBlobFile.class, remarkBlobFile)
+            .writeValueAsString(instance);
+    }
+
+    /**
+     * Converts {@code instance}, which may hold model objects, into its JSON string representation on a single line.
+     */
+    static String toCompactJsonString(Object instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts the given sections into a JSON document in the format of {@link JsonSerializableTrackIter}, with the
+     * long remarks of tasks stored in {@code remarkBlobFile}. Missing sections are written as empty lists.
+     */
+    static String toJsonDocument(Map<DataSection, List<?>> sections, RemarkBlobFile remarkBlobFile)
+        throws IOException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (DataSection section : DataSection.values()) {
+            String json = toJsonString(sections.getOrDefault(section, List.of()), remarkBlobFile);
+            fields.put(JsonSerializableTrackIter.getFieldName(section), JsonUtil.indentNested(json, 1));
+        }
+        return JsonUtil.toJsonObjectString(fields);
+    }
+
+    /**
+     * Moves {@code p} from the start of an object to its first field, or to its end if it has none.
+     * Reports an error if {@code p} is not at an object of {@code type}.
+     */
+    static void startObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            p.nextToken();
+        } else if (!p.hasToken(JsonToken.FIELD_NAME)) {
+            throw unexpectedToken(p, type);
+        }
+    }
+
+    /**
+     * Reads the string value {@code p} is at, which may be null.
+     */
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, String.class);
+    }
+
+    /**
+     * Reads the integer value {@code p} is at, which may be null.
+     */
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, Long.class);
+    }
+
+    /**
+     * Reads the array of strings {@code p} is at, which may be null.
+     */
+    static List<String> readStrings(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            throw unexpectedToken(p, List.class);
+        }
+        List<String> strings = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(readString(p, ctxt));
+        }
+        return strings;
+    }
+
+    /**
+     * Returns an exception for the token {@code p} is at, which cannot start a value of {@code type}.
+     */
+    private static JsonMappingException unexpectedToken(JsonParser p, Class<?> type) {
+        return JsonMappingException.from(p, "Unexpected token " + p.getCurrentToken() + " for a "
+            + type.getSimpleName());
+    }
+
+    /**
+     * Returns an exception for the constraint violation {@code e} found in the value {@code p} has just read.
+     */
+    static JsonMappingException invalidValue(JsonParser p, IllegalValueException e) {
+        return JsonMappingException.from(p, e.getMessage(), e);
+    }
+}
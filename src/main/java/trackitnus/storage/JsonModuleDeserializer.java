@@ -0,0 +1,53 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.module.Module;
+
+/**
+ * Reads a {@link Module} from JSON in the format of {@link JsonAdaptedModule}, validating it as it is read.
+ */
+class JsonModuleDeserializer extends StdDeserializer<Module> {
+
+    public JsonModuleDeserializer() {
+        super(Module.class);
+    }
+
+    @Override
+    public Module deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Long id = null;
+        String code = null;
+        String name = null;
+        JsonModelModule.startObject(p, ctxt, Module.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "id":
+                id = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "code":
+                code = JsonModelModule.readString(p, ctxt);
+                break;
+            case "name":
+                name = JsonModelModule.readString(p, ctxt);
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        try {
+            return JsonAdaptedModule.toModelType(id, code, name);
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+}
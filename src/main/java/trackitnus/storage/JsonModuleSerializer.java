@@ -0,0 +1,28 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import trackitnus.model.module.Module;
+
+/**
+ * Writes a {@link Module} as JSON in the format of {@link JsonAdaptedModule}.
+ */
+class JsonModuleSerializer extends StdSerializer<Module> {
+
+    public JsonModuleSerializer() {
+        super(Module.class);
+    }
+
+    @Override
+    public void serialize(Module module, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", module.getId());
+        gen.writeStringField("code", module.getCode().code);
+        gen.writeStringField("name", module.getName().value);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,96 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.DataSection;
+import trackitnus.model.ReadOnlyTrackIter;
+
+/**
+ * Keeps the JSON of each section of the last TrackIter data it converted, so that converting the data again
+ * re-encodes only the sections that changed in between and splices in the others as they are.
+ * Sections are encoded straight from the model objects by the serializers of {@link JsonModelModule}.
+ * A section is known to be unchanged when its modification count is the same as when it was encoded; sections
+ * whose changes are not tracked are always re-encoded.
+ * Without a {@link RemarkBlobFile}, the result is the same as
+ * {@code JsonUtil.toJsonString(new JsonSerializableTrackIter(trackIter))}.
+ */
+class JsonSectionCache {
+    private final RemarkBlobFile remarkBlobFile;
+    private final long[] modificationCounts = new long[DataSection.values().length];
+    private final String[] fragments = new String[DataSection.values().length];
+    private long encodedCount;
+
+    /**
+     * Creates a cache that writes the remarks of tasks in the JSON.
+     */
+    JsonSectionCache() {
+        this(null);
+    }
+
+    /**
+     * Creates a cache that stores the long remarks of tasks in {@code remarkBlobFile}, or writes them in the JSON if
+     * it is null.
+     */
+    JsonSectionCache(RemarkBlobFile remarkBlobFile) {
+        this.remarkBlobFile = remarkBlobFile;
+    }
+
+    /**
+     * Converts {@code trackIter} into its JSON string representation, reusing the sections that are unchanged.
+     */
+    public synchronized String toJsonString(ReadOnlyTrackIter trackIter) throws IOException {
+        requireNonNull(trackIter);
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (DataSection section : DataSection.values()) {
+            fields.put(JsonSerializableTrackIter.getFieldName(section), getFragment(trackIter, section));
+        }
+        return JsonUtil.toJsonObjectString(fields);
+    }
+
+    /**
+     * Returns the number of sections encoded so far, as opposed to taken from the cache.
+     */
+    public synchronized long getEncodedCount() {
+        return encodedCount;
+    }
+
+    private String getFragment(ReadOnlyTrackIter trackIter, DataSection section) throws IOException {
+        int index = section.ordinal();
+        long modificationCount = trackIter.getModificationCount(section);
+        if (modificationCount != ReadOnlyTrackIter.UNTRACKED && fragments[index] != null
+            && modificationCounts[index] == modificationCount) {
+            return fragments[index];
+        }
+
+        List<?> entities = getEntities(trackIter, section);
+        // reading a section may sort it, so the count is taken again for the order that was encoded
+        modificationCounts[index] = trackIter.getModificationCount(section);
+        String json = remarkBlobFile == null
+            ? JsonModelModule.toJsonString(entities)
+            : JsonModelModule.toJsonString(entities, remarkBlobFile);
+        fragments[index] = JsonUtil.indentNested(json, 1);
+        encodedCount++;
+        return fragments[index];
+    }
+
+    private static List<?> getEntities(ReadOnlyTrackIter trackIter, DataSection section) {
+        switch (section) {
+        case CONTACTS:
+            return trackIter.getContactList();
+        case MODULES:
+            return trackIter.getModuleList();
+        case TASKS:
+            return trackIter.getTaskList();
+        case LESSONS:
+            return trackIter.getLessonList();
+        default:
+            throw new AssertionError(section);
+        }
+    }
+}
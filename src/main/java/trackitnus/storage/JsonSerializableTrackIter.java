@@ -2,6 +2,7 @@ package trackitnus.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.DataSection;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.TrackIter;
 import trackitnus.model.contact.Contact;
@@ -58,36 +60,65 @@ class JsonSerializableTrackIter {
         lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the name of the field that holds {@code section}.
+     */
+    static String getFieldName(DataSection section) {
+        return section.name().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Converts this TrackIter into the model's {@code TrackIter} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TrackIter toModelType() throws IllegalValueException {
-        TrackIter trackIter = new TrackIter();
+        List<Contact> modelContacts = new ArrayList<>();
         for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
+            modelContacts.add(jsonAdaptedContact.toModelType());
+        }
+        List<Task> modelTasks = new ArrayList<>();
+        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
+            modelTasks.add(jsonAdaptedTask.toModelType());
+        }
+        List<Module> modelModules = new ArrayList<>();
+        for (JsonAdaptedModule jsonAdaptedModule : modules) {
+            modelModules.add(jsonAdaptedModule.toModelType());
+        }
+        List<Lesson> modelLessons = new ArrayList<>();
+        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
+            modelLessons.add(jsonAdaptedLesson.toModelType());
+        }
+        return toModelType(modelContacts, modelModules, modelTasks, modelLessons);
+    }
+
+    /**
+     * Puts the given contacts, modules, tasks and lessons together into the model's {@code TrackIter} object.
+     *
+     * @throws IllegalValueException if any of the lists contains duplicates.
+     */
+    static TrackIter toModelType(List<Contact> contacts, List<Module> modules, List<Task> tasks,
+                                 List<Lesson> lessons) throws IllegalValueException {
+        TrackIter trackIter = new TrackIter();
+        for (Contact contact : contacts) {
             if (trackIter.hasContact(contact)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
             }
             trackIter.addContact(contact);
         }
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
+        for (Task task : tasks) {
             if (trackIter.hasTask(task)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
             trackIter.addTask(task);
         }
-        for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
+        for (Module module : modules) {
             if (trackIter.hasModule(module)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
             }
             trackIter.addModule(module);
         }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
+        for (Lesson lesson : lessons) {
             if (trackIter.hasLesson(lesson)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
             }
@@ -0,0 +1,389 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.model.DataSection;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.model.commons.Code;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * A class to access TrackIter data stored as json files on the hard disk, split by module.
+ * The root file holds the contacts, the modules and the tasks without a module. The tasks and lessons of each
+ * module are in a shard file of their own, named after the module code, in a directory next to the root file
+ * (e.g. {@code data/trackIter-modules/CS2103T.json} for {@code data/trackIter.json}). All the files have the
+ * format of a single-file data file, so a data file from {@link JsonTrackIterStorage} is read as a root file
+ * whose shards are still in it, and moved into shards by the next save.
+ * Saving writes only the files whose entities changed since they were last read or written, and deletes the
+ * shards of modules that no longer have tasks or lessons.
+ * Long task remarks of all the files are stored in one {@link RemarkBlobFile} next to the root file.
+ * Reads and saves take the {@link DataFileLock} of the root file, and a save does not overwrite a file that another
+ * program changed since it was last read or saved; {@link #reloadTrackIter()} reads only the files that changed.
+ */
+public class JsonShardedTrackIterStorage implements TrackIterStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonShardedTrackIterStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = "-modules";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+    private final RemarkBlobFile remarkBlobFile;
+    /** The sections last read from or written to each file, to tell whether the file needs writing or reading. */
+    private final Map<Path, Map<DataSection, List<?>>> fileSections = new HashMap<>();
+    private final FileVersions fileVersions = new FileVersions();
+
+    /**
+     * Creates a storage for the root file at {@code filePath}, whose long task remarks are kept in a file next to
+     * it.
+     */
+    public JsonShardedTrackIterStorage(Path filePath) {
+        this.filePath = filePath;
+        remarkBlobFile = new RemarkBlobFile(filePath);
+    }
+
+    @Override
+    public Path getTrackIterFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory of the shards that belong with the root file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String stem = fileName.endsWith(SHARD_FILE_EXTENSION)
+            ? fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length())
+            : fileName;
+        return filePath.resolveSibling(stem + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTrackIter> readTrackIter() throws DataConversionException {
+        return readTrackIter(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTrackIter()}.
+     *
+     * @param filePath location of the root file. Cannot be null.
+     * @throws DataConversionException if any of the files is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForReading()) {
+            return Optional.of(readFiles(filePath, path -> true));
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The files that did not change are not read again; their entities are those last read or written.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTrackIter> reloadTrackIter() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForReading()) {
+            Set<Path> paths = new LinkedHashSet<>(listShards(filePath));
+            Path shardDirectory = getShardDirectory(filePath);
+            fileSections.keySet().stream().filter(path -> path.startsWith(shardDirectory)).forEach(paths::add);
+            paths.add(filePath);
+            Set<Path> changedPaths = new HashSet<>();
+            for (Path path : paths) {
+                if (fileVersions.isChanged(path)) {
+                    changedPaths.add(path);
+                }
+            }
+            if (changedPaths.isEmpty()) {
+                return Optional.empty();
+            }
+            logger.info("Reloading " + changedPaths + ", which were changed by another program");
+            return Optional.of(readFiles(filePath, changedPaths::contains));
+        }
+    }
+
+    @Override
+    public List<Path> getTrackIterDirectories() {
+        Path absolutePath = filePath.toAbsolutePath();
+        return List.of(absolutePath.getParent(), getShardDirectory(absolutePath));
+    }
+
+    /**
+     * Returns the data of the root file at {@code filePath} and its shards, reading the files that
+     * {@code isToBeRead} accepts and taking the others as last read or written.
+     * The versions read are only recorded once all the files are read, so that files that cannot be read, and the
+     * files read with them, stay changed: they are read again on the next reload, and not overwritten until then.
+     */
+    private TrackIter readFiles(Path filePath, Predicate<Path> isToBeRead)
+        throws IOException, DataConversionException {
+        List<Path> paths = new ArrayList<>(listShards(filePath));
+        paths.add(filePath);
+        Map<Path, Map<DataSection, List<?>>> files = new LinkedHashMap<>();
+        Map<Path, String> contentsRead = new HashMap<>();
+        RemarkBlobFile remarkBlobFile = getRemarkBlobFile(filePath);
+        for (Path path : paths) {
+            Map<DataSection, List<?>> sections = isToBeRead.test(path) ? null : fileSections.get(path);
+            if (sections == null) {
+                String json = FileUtil.readFromFile(path);
+                sections = toSections(parseFile(path, json, remarkBlobFile));
+                contentsRead.put(path, json);
+            }
+            files.put(path, sections);
+        }
+        TrackIter trackIter = combine(files, filePath);
+        for (Map.Entry<Path, String> contentRead : contentsRead.entrySet()) {
+            fileVersions.record(contentRead.getKey(), contentRead.getValue());
+        }
+
+        Path shardDirectory = getShardDirectory(filePath);
+        for (Path path : new ArrayList<>(fileSections.keySet())) {
+            if (path.startsWith(shardDirectory) && !files.containsKey(path)) {
+                fileSections.remove(path);
+                fileVersions.forget(path);
+            }
+        }
+        fileSections.putAll(files);
+        return trackIter;
+    }
+
+    /**
+     * Returns the data of the root file at {@code filePath} and its shards, whose sections are {@code files}.
+     */
+    private static TrackIter combine(Map<Path, Map<DataSection, List<?>>> files, Path filePath)
+        throws DataConversionException {
+        List<Contact> contacts = new ArrayList<>();
+        List<Module> modules = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Lesson> lessons = new ArrayList<>();
+        for (Map<DataSection, List<?>> file : files.values()) {
+            contacts.addAll(getSection(file, DataSection.CONTACTS));
+            modules.addAll(getSection(file, DataSection.MODULES));
+            tasks.addAll(getSection(file, DataSection.TASKS));
+            lessons.addAll(getSection(file, DataSection.LESSONS));
+        }
+        // a save that stopped while moving a single data file into shards leaves the moved tasks and lessons in
+        // both the root file and their shard; as shards are written first, the copies in the root file are extra
+        Map<DataSection, List<?>> root = files.get(filePath);
+        int rootTaskCount = getSection(root, DataSection.TASKS).size();
+        int rootLessonCount = getSection(root, DataSection.LESSONS).size();
+        Set<Object> inShards = new HashSet<>(tasks.subList(0, tasks.size() - rootTaskCount));
+        inShards.addAll(lessons.subList(0, lessons.size() - rootLessonCount));
+        tasks.subList(tasks.size() - rootTaskCount, tasks.size()).removeIf(inShards::contains);
+        lessons.subList(lessons.size() - rootLessonCount, lessons.size()).removeIf(inShards::contains);
+        try {
+            return JsonSerializableTrackIter.toModelType(contacts, modules, tasks, lessons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found across the files of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
+        saveTrackIter(trackIter, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTrackIter(ReadOnlyTrackIter)}.
+     *
+     * @param filePath location of the root file. Cannot be null.
+     * @throws IOException if a file to be written or deleted was changed by another program since it was last read
+     *                     or saved; no file is then written.
+     */
+    @Override
+    public synchronized void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+        requireNonNull(trackIter);
+        requireNonNull(filePath);
+
+        Map<Path, Map<DataSection, List<?>>> files = split(trackIter, filePath);
+        RemarkBlobFile remarkBlobFile = getRemarkBlobFile(filePath);
+        try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForWriting()) {
+            Map<Path, Map<DataSection, List<?>>> filesToWrite = new LinkedHashMap<>();
+            for (Map.Entry<Path, Map<DataSection, List<?>>> file : files.entrySet()) {
+                Map<DataSection, List<?>> previous = fileSections.get(file.getKey());
+                if (previous == null || !isSameEntities(toEntities(previous), toEntities(file.getValue()))
+                    || !Files.exists(file.getKey())) {
+                    filesToWrite.put(file.getKey(), file.getValue());
+                }
+            }
+            List<Path> shardsToDelete = listShards(filePath).stream()
+                .filter(shardPath -> !files.containsKey(shardPath))
+                .collect(Collectors.toList());
+            for (Path path : filesToWrite.keySet()) {
+                fileVersions.checkUnchanged(path);
+            }
+            for (Path path : shardsToDelete) {
+                fileVersions.checkUnchanged(path);
+            }
+
+            for (Map.Entry<Path, Map<DataSection, List<?>>> file : filesToWrite.entrySet()) {
+                String json = JsonModelModule.toJsonDocument(file.getValue(), remarkBlobFile);
+                FileUtil.createIfMissing(file.getKey());
+                FileUtil.writeToFile(file.getKey(), json);
+                fileVersions.record(file.getKey(), json);
+                fileSections.put(file.getKey(), copyOf(file.getValue()));
+            }
+            for (Path shardPath : shardsToDelete) {
+                Files.delete(shardPath);
+                fileSections.remove(shardPath);
+                fileVersions.forget(shardPath);
+            }
+        }
+    }
+
+    /**
+     * Splits {@code trackIter} into the sections of the root file at {@code filePath} and those of its shards.
+     */
+    private static Map<Path, Map<DataSection, List<?>>> split(ReadOnlyTrackIter trackIter, Path filePath) {
+        Map<DataSection, List<?>> root = new EnumMap<>(DataSection.class);
+        root.put(DataSection.CONTACTS, trackIter.getContactList());
+        root.put(DataSection.MODULES, trackIter.getModuleList());
+        root.put(DataSection.TASKS, trackIter.getTaskList().stream()
+            .filter(task -> task.getCode().isEmpty())
+            .collect(Collectors.toList()));
+
+        Map<Code, List<Task>> tasksByCode = new LinkedHashMap<>();
+        for (Task task : trackIter.getTaskList()) {
+            task.getCode().ifPresent(code -> tasksByCode.computeIfAbsent(code, unused -> new ArrayList<>()).add(task));
+        }
+        Map<Code, List<Lesson>> lessonsByCode = new LinkedHashMap<>();
+        for (Lesson lesson : trackIter.getLessonList()) {
+            lessonsByCode.computeIfAbsent(lesson.getCode(), unused -> new ArrayList<>()).add(lesson);
+        }
+
+        // the shards are written before the root file, so that no task or lesson is only in a file not yet written
+        Map<Path, Map<DataSection, List<?>>> files = new LinkedHashMap<>();
+        Path shardDirectory = getShardDirectory(filePath);
+        for (Code code : Stream.concat(tasksByCode.keySet().stream(), lessonsByCode.keySet().stream())
+            .distinct().collect(Collectors.toList())) {
+            Map<DataSection, List<?>> shard = new EnumMap<>(DataSection.class);
+            shard.put(DataSection.TASKS, tasksByCode.getOrDefault(code, List.of()));
+            shard.put(DataSection.LESSONS, lessonsByCode.getOrDefault(code, List.of()));
+            files.put(shardDirectory.resolve(code.code + SHARD_FILE_EXTENSION), shard);
+        }
+        files.put(filePath, root);
+        return files;
+    }
+
+    private static Map<DataSection, List<?>> toSections(ReadOnlyTrackIter file) {
+        Map<DataSection, List<?>> sections = new EnumMap<>(DataSection.class);
+        sections.put(DataSection.CONTACTS, List.copyOf(file.getContactList()));
+        sections.put(DataSection.MODULES, List.copyOf(file.getModuleList()));
+        sections.put(DataSection.TASKS, List.copyOf(file.getTaskList()));
+        sections.put(DataSection.LESSONS, List.copyOf(file.getLessonList()));
+        return sections;
+    }
+
+    /**
+     * Returns a copy of {@code sections} that later changes to their lists do not affect.
+     */
+    private static Map<DataSection, List<?>> copyOf(Map<DataSection, List<?>> sections) {
+        Map<DataSection, List<?>> copy = new EnumMap<>(DataSection.class);
+        sections.forEach((section, entities) -> copy.put(section, List.copyOf(entities)));
+        return copy;
+    }
+
+    /**
+     * Returns the entities of {@code section} in {@code sections}, which are of the type of that section.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> getSection(Map<DataSection, List<?>> sections, DataSection section) {
+        return (List<T>) sections.getOrDefault(section, List.of());
+    }
+
+    /**
+     * Returns the entities in {@code sections}, in the order they are written.
+     */
+    private static List<Object> toEntities(Map<DataSection, List<?>> sections) {
+        List<Object> entities = new ArrayList<>();
+        for (DataSection section : DataSection.values()) {
+            entities.addAll(sections.getOrDefault(section, List.of()));
+        }
+        return entities;
+    }
+
+    /**
+     * Returns true if both lists hold the same instances in the same order. As entities are immutable, a file
+     * whose entities are the same instances as when it was last written does not need writing again.
+     */
+    private static boolean isSameEntities(List<Object> previous, List<Object> current) {
+        if (previous == null || previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (previous.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the file of the long task remarks of the root file at {@code filePath} and its shards.
+     */
+    private RemarkBlobFile getRemarkBlobFile(Path filePath) {
+        return filePath.equals(this.filePath) ? remarkBlobFile : new RemarkBlobFile(filePath);
+    }
+
+    /**
+     * Parses {@code json}, the content of the file at {@code path}.
+     */
+    private TrackIter parseFile(Path path, String json, RemarkBlobFile remarkBlobFile)
+        throws IOException, DataConversionException {
+        try {
+            return JsonModelModule.readTrackIter(json, remarkBlobFile);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + path + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static List<Path> listShards(Path filePath) throws IOException {
+        Path shardDirectory = getShardDirectory(filePath);
+        if (!Files.isDirectory(shardDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(shardDirectory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(SHARD_FILE_EXTENSION))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
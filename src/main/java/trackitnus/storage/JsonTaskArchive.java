@@ -0,0 +1,258 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.model.archive.TaskArchive;
+import trackitnus.model.search.InvertedIndex;
+import trackitnus.model.search.SearchIndex;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.task.Task;
+
+/**
+ * A task archive stored on the hard disk next to the data file, as an append-only file of tasks in JSON, one per
+ * line, and an append-only index file with the offset and the words of each of them
+ * (e.g. {@code data/trackIter-archive.jsonl} and {@code data/trackIter-archive.idx} for {@code data/trackIter.json}).
+ * Nothing is read until the first search, which loads only the index; the tasks a search returns are then read
+ * from their offsets.
+ * Tasks are stored before they are indexed, so a write cut short can only leave tasks that are not indexed yet;
+ * they are found by scanning the parts of the archive file that the index does not cover when it is loaded.
+ * Tasks are archived under the lock of the data file, so that instances of TrackIter that archive at the same
+ * time do not write over each other's tasks.
+ */
+public class JsonTaskArchive implements TaskArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskArchive.class);
+
+    private static final String DATA_FILE_EXTENSION = ".json";
+    private static final String ARCHIVE_FILE_SUFFIX = "-archive.jsonl";
+    private static final String INDEX_FILE_SUFFIX = "-archive.idx";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path archiveFilePath;
+    private final Path indexFilePath;
+    private final DataFileLock dataFileLock;
+    /** The index of the archived tasks, or null until the first search. */
+    private InvertedIndex<ArchiveEntry> index;
+
+    /**
+     * Creates an archive for the data file at {@code filePath}, stored next to it.
+     */
+    public JsonTaskArchive(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        String stem = fileName.endsWith(DATA_FILE_EXTENSION)
+            ? fileName.substring(0, fileName.length() - DATA_FILE_EXTENSION.length())
+            : fileName;
+        this.archiveFilePath = filePath.resolveSibling(stem + ARCHIVE_FILE_SUFFIX);
+        this.indexFilePath = filePath.resolveSibling(stem + INDEX_FILE_SUFFIX);
+        this.dataFileLock = new DataFileLock(filePath);
+    }
+
+    public Path getArchiveFilePath() {
+        return archiveFilePath;
+    }
+
+    public Path getIndexFilePath() {
+        return indexFilePath;
+    }
+
+    @Override
+    public synchronized void archive(List<Task> tasks) throws IOException {
+        requireNonNull(tasks);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> lines = new ArrayList<>();
+        for (Task task : tasks) {
+            lines.add(JsonModelModule.toCompactJsonString(task).getBytes(StandardCharsets.UTF_8));
+        }
+        List<ArchiveEntry> entries = new ArrayList<>();
+        // other instances of TrackIter archive to the same files, so the offsets are only valid under the lock
+        try (DataFileLock.Hold hold = dataFileLock.lockForWriting()) {
+            long offset = appendLines(archiveFilePath, lines, true);
+            for (int i = 0; i < tasks.size(); i++) {
+                ArchiveEntry entry = new ArchiveEntry(offset, lines.get(i).length,
+                    SearchIndex.getTaskWords(tasks.get(i)));
+                entries.add(entry);
+                offset = entry.getEnd();
+            }
+            appendIndex(entries);
+        }
+        if (index != null) {
+            entries.forEach(index::add);
+        }
+        logger.fine("Archived " + tasks.size() + " tasks to " + archiveFilePath);
+    }
+
+    @Override
+    public synchronized List<Task> search(SearchQuery query) throws IOException {
+        requireNonNull(query);
+        if (index == null) {
+            index = loadIndex();
+        }
+        List<ArchiveEntry> entries = index.search(query);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        // a task moved again after the data file it was removed from failed to save is in the archive twice
+        Set<Task> tasks = new LinkedHashSet<>();
+        try (RandomAccessFile file = new RandomAccessFile(archiveFilePath.toFile(), "r")) {
+            for (ArchiveEntry entry : entries) {
+                readTask(file, entry).ifPresent(tasks::add);
+            }
+        }
+        return new ArrayList<>(tasks);
+    }
+
+    /**
+     * Reads the index file, and indexes the tasks of the archive file that it does not cover.
+     */
+    private InvertedIndex<ArchiveEntry> loadIndex() throws IOException {
+        List<ArchiveEntry> entries = new ArrayList<>();
+        if (Files.exists(indexFilePath)) {
+            for (String line : Files.readAllLines(indexFilePath, StandardCharsets.UTF_8)) {
+                ArchiveEntry.parse(line).ifPresent(entries::add);
+            }
+        }
+        entries.sort(Comparator.comparingLong(ArchiveEntry::getOffset));
+
+        List<ArchiveEntry> missing = new ArrayList<>();
+        if (Files.exists(archiveFilePath)) {
+            try (RandomAccessFile file = new RandomAccessFile(archiveFilePath.toFile(), "r")) {
+                long covered = 0;
+                for (ArchiveEntry entry : entries) {
+                    if (entry.getOffset() > covered) {
+                        missing.addAll(scan(file, covered, entry.getOffset()));
+                    }
+                    covered = Math.max(covered, entry.getEnd());
+                }
+                missing.addAll(scan(file, covered, file.length()));
+            }
+        }
+        if (!missing.isEmpty()) {
+            logger.info("Indexing " + missing.size() + " archived tasks missing from " + indexFilePath);
+            appendIndex(missing);
+        }
+
+        InvertedIndex<ArchiveEntry> loaded = new InvertedIndex<>(ArchiveEntry::getWords);
+        entries.forEach(loaded::add);
+        missing.forEach(loaded::add);
+        logger.fine("Loaded the index of " + loaded.size() + " archived tasks from " + indexFilePath);
+        return loaded;
+    }
+
+    /**
+     * Returns the entries of the complete, valid task lines between {@code start} and {@code end} of {@code file}.
+     */
+    private static List<ArchiveEntry> scan(RandomAccessFile file, long start, long end) throws IOException {
+        byte[] bytes = new byte[Math.toIntExact(end - start)];
+        file.seek(start);
+        file.readFully(bytes);
+
+        List<ArchiveEntry> entries = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != LINE_SEPARATOR) {
+                continue;
+            }
+            if (i > lineStart) {
+                String json = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                long offset = start + lineStart;
+                parseTask(json, offset).ifPresent(task ->
+                    entries.add(new ArchiveEntry(offset, json.getBytes(StandardCharsets.UTF_8).length,
+                        SearchIndex.getTaskWords(task))));
+            }
+            lineStart = i + 1;
+        }
+        return entries;
+    }
+
+    private Optional<Task> readTask(RandomAccessFile file, ArchiveEntry entry) throws IOException {
+        if (entry.getEnd() > file.length()) {
+            logger.warning("Archived task at " + entry.getOffset() + " is past the end of " + archiveFilePath);
+            return Optional.empty();
+        }
+        byte[] bytes = new byte[entry.getLength()];
+        file.seek(entry.getOffset());
+        file.readFully(bytes);
+        return parseTask(new String(bytes, StandardCharsets.UTF_8), entry.getOffset());
+    }
+
+    private static Optional<Task> parseTask(String json, long offset) {
+        try {
+            return Optional.of(JsonModelModule.readValue(json, Task.class));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping the invalid archived task at " + offset + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void appendIndex(List<ArchiveEntry> entries) throws IOException {
+        List<byte[]> lines = new ArrayList<>();
+        for (ArchiveEntry entry : entries) {
+            lines.add(entry.toIndexLine().getBytes(StandardCharsets.UTF_8));
+        }
+        appendLines(indexFilePath, lines, false);
+    }
+
+    /**
+     * Appends {@code lines} to the file at {@code path}, creating it if needed, and returns the offset of the first
+     * one. If the file does not end with a line separator, as after a write cut short, one is added first so that
+     * the partial line stays apart from the new ones.
+     *
+     * @param isDurable whether to wait until the lines are on the storage device.
+     */
+    private static long appendLines(Path path, List<byte[]> lines, boolean isDurable) throws IOException {
+        FileUtil.createParentDirsOfFile(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            int length = 0;
+            for (byte[] line : lines) {
+                length += line.length + 1;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(length + 1);
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, size - 1);
+                if (last.get(0) != LINE_SEPARATOR) {
+                    buffer.put(LINE_SEPARATOR);
+                }
+            }
+            long offset = size + buffer.position();
+            for (byte[] line : lines) {
+                buffer.put(line).put(LINE_SEPARATOR);
+            }
+            buffer.flip();
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            if (isDurable) {
+                channel.force(true);
+            }
+            return offset;
+        }
+    }
+}
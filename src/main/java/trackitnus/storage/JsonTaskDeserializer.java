@@ -0,0 +1,111 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+
+/**
+ * Reads a {@link Task} from JSON in the format of {@link JsonAdaptedTask}, validating it as it is read.
+ * A {@code storedRemark} reference is resolved against the {@link RemarkBlobFile} given as the
+ * {@code RemarkBlobFile.class} attribute, without reading the remark.
+ */
+class JsonTaskDeserializer extends StdDeserializer<Task> {
+
+    public JsonTaskDeserializer() {
+        super(Task.class);
+    }
+
+    @Override
+    public Task deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Long id = null;
+        String name = null;
+        String date = null;
+        String code = null;
+        String remark = null;
+        StoredRemark storedRemark = null;
+        JsonModelModule.startObject(p, ctxt, Task.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "id":
+                id = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "name":
+                name = JsonModelModule.readString(p, ctxt);
+                break;
+            case "date":
+                date = JsonModelModule.readString(p, ctxt);
+                break;
+            case "code":
+                code = JsonModelModule.readString(p, ctxt);
+                break;
+            case "remark":
+                remark = JsonModelModule.readString(p, ctxt);
+                break;
+            case "storedRemark":
+                storedRemark = readStoredRemark(p, ctxt);
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        try {
+            return JsonAdaptedTask.toModelType(id, name, date, code, remark, storedRemark);
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+
+    /**
+     * Reads the reference to a remark in the {@link RemarkBlobFile} given as the {@code RemarkBlobFile.class}
+     * attribute, which {@code p} is at. The remark itself is not read.
+     */
+    private static StoredRemark readStoredRemark(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        Long offset = null;
+        Long length = null;
+        Long hash = null;
+        JsonModelModule.startObject(p, ctxt, StoredRemark.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "offset":
+                offset = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "length":
+                length = JsonModelModule.readLong(p, ctxt);
+                break;
+            case "hash":
+                hash = JsonModelModule.readLong(p, ctxt);
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        RemarkBlobFile remarkBlobFile = (RemarkBlobFile) ctxt.getAttribute(RemarkBlobFile.class);
+        try {
+            if (remarkBlobFile == null || offset == null || length == null || hash == null
+                || length > Integer.MAX_VALUE) {
+                throw new IllegalValueException(RemarkBlobFile.MESSAGE_INVALID_REFERENCE);
+            }
+            return remarkBlobFile.refer(offset, length.intValue(), hash.intValue());
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+}
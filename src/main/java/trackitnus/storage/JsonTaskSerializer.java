@@ -0,0 +1,49 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import trackitnus.logic.parser.ParserUtil;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+
+/**
+ * Writes a {@link Task} as JSON in the format of {@link JsonAdaptedTask}.
+ * If a {@link RemarkBlobFile} is given as the {@code RemarkBlobFile.class} attribute, a long remark is stored
+ * there, and written as a {@code storedRemark} reference to it instead.
+ * A stored remark that cannot be read fails the writing, rather than being written as empty.
+ */
+class JsonTaskSerializer extends StdSerializer<Task> {
+
+    public JsonTaskSerializer() {
+        super(Task.class);
+    }
+
+    @Override
+    public void serialize(Task task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", task.getId());
+        gen.writeStringField("name", task.getName().value);
+        gen.writeStringField("date", task.getDate().format(ParserUtil.DATE_PATTERN));
+        gen.writeStringField("code", task.getCode().isPresent() ? task.getCode().get().code : null);
+        RemarkBlobFile remarkBlobFile = (RemarkBlobFile) provider.getAttribute(RemarkBlobFile.class);
+        Optional<StoredRemark> storedRemark = remarkBlobFile == null
+            ? Optional.empty()
+            : remarkBlobFile.store(task);
+        if (storedRemark.isPresent()) {
+            gen.writeNullField("remark");
+            gen.writeObjectFieldStart("storedRemark");
+            gen.writeNumberField("offset", storedRemark.get().getOffset());
+            gen.writeNumberField("length", storedRemark.get().getLength());
+            gen.writeNumberField("hash", storedRemark.get().hashCode());
+            gen.writeEndObject();
+        } else {
+            gen.writeStringField("remark", task.readRemark());
+        }
+        gen.writeEndObject();
+    }
+}
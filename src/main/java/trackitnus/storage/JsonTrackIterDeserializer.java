@@ -0,0 +1,91 @@
+package trackitnus.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * Reads a {@link TrackIter} from JSON in the format of {@link JsonSerializableTrackIter}, with the entities in
+ * each of its lists read directly by the deserializers of {@link JsonModelModule}.
+ */
+class JsonTrackIterDeserializer extends StdDeserializer<TrackIter> {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "TrackIter's %s field is missing!";
+
+    public JsonTrackIterDeserializer() {
+        super(TrackIter.class);
+    }
+
+    @Override
+    public TrackIter deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        List<Contact> contacts = null;
+        List<Module> modules = null;
+        List<Task> tasks = null;
+        List<Lesson> lessons = null;
+        JsonModelModule.startObject(p, ctxt, TrackIter.class);
+        for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "contacts":
+                contacts = readList(p, ctxt, Contact.class);
+                break;
+            case "modules":
+                modules = readList(p, ctxt, Module.class);
+                break;
+            case "tasks":
+                tasks = readList(p, ctxt, Task.class);
+                break;
+            case "lessons":
+                lessons = readList(p, ctxt, Lesson.class);
+                break;
+            default:
+                p.skipChildren();
+                break;
+            }
+        }
+
+        requireField(p, contacts, "contacts");
+        requireField(p, modules, "modules");
+        requireField(p, tasks, "tasks");
+        requireField(p, lessons, "lessons");
+        try {
+            return JsonSerializableTrackIter.toModelType(contacts, modules, tasks, lessons);
+        } catch (IllegalValueException e) {
+            throw JsonModelModule.invalidValue(p, e);
+        }
+    }
+
+    private static <T> List<T> readList(JsonParser p, DeserializationContext ctxt, Class<T> elementType)
+        throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        JavaType listType = ctxt.getTypeFactory().constructCollectionType(List.class, elementType);
+        List<T> list = ctxt.readValue(p, listType);
+        if (list.contains(null)) {
+            throw JsonMappingException.from(p, String.format("TrackIter's %s field contains null",
+                elementType.getSimpleName()));
+        }
+        return list;
+    }
+
+    private static void requireField(JsonParser p, List<?> list, String fieldName) throws JsonMappingException {
+        if (list == null) {
+            throw JsonMappingException.from(p, String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
@@ -3,7 +3,9 @@ package trackitnus.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,20 +13,32 @@ import trackitnus.commons.core.LogsCenter;
 import trackitnus.commons.exceptions.DataConversionException;
 import trackitnus.commons.exceptions.IllegalValueException;
 import trackitnus.commons.util.FileUtil;
-import trackitnus.commons.util.JsonUtil;
 import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
 
 /**
  * A class to access TrackIter data stored as a json file on the hard disk.
+ * Long task remarks are stored in a {@link RemarkBlobFile} next to the data file, and only read when needed.
+ * Reads and saves take the {@link DataFileLock} of the data file, and a save does not overwrite a data file that
+ * another program changed since it was last read or saved; {@link #reloadTrackIter()} reads such changes.
  */
 public class JsonTrackIterStorage implements TrackIterStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTrackIterStorage.class);
 
     private final Path filePath;
+    private final RemarkBlobFile remarkBlobFile;
+    private final JsonSectionCache sectionCache;
+    private final FileVersions fileVersions = new FileVersions();
 
+    /**
+     * Creates a storage for the data file at {@code filePath}, whose long task remarks are kept in a file next to
+     * it.
+     */
     public JsonTrackIterStorage(Path filePath) {
         this.filePath = filePath;
+        remarkBlobFile = new RemarkBlobFile(filePath);
+        sectionCache = new JsonSectionCache(remarkBlobFile);
     }
 
     public Path getTrackIterFilePath() {
@@ -42,21 +56,43 @@ public class JsonTrackIterStorage implements TrackIterStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException {
+    public synchronized Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTrackIter> jsonTrackIter = JsonUtil.readJsonFile(
-            filePath, JsonSerializableTrackIter.class);
-        if (jsonTrackIter.isEmpty()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonTrackIter.get().toModelType());
+            try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForReading()) {
+                String json = FileUtil.readFromFile(filePath);
+                TrackIter trackIter = JsonModelModule.readTrackIter(json, getRemarkBlobFile(filePath));
+                // only once it is read, so that a file that cannot be read stays changed and is not overwritten
+                fileVersions.record(filePath, json);
+                return Optional.of(trackIter);
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTrackIter> reloadTrackIter() throws DataConversionException, IOException {
+        if (!Files.exists(filePath) || !fileVersions.isChanged(filePath)) {
+            return Optional.empty();
         }
+        logger.info("Reloading " + filePath + ", which was changed by another program");
+        return readTrackIter(filePath);
+    }
+
+    @Override
+    public List<Path> getTrackIterDirectories() {
+        return List.of(filePath.toAbsolutePath().getParent());
     }
 
     @Override
@@ -66,15 +102,32 @@ public class JsonTrackIterStorage implements TrackIterStorage {
 
     /**
      * Similar to {@link #saveTrackIter(ReadOnlyTrackIter)}.
+     * Only the sections of {@code trackIter} that changed since the last save are encoded again.
      *
      * @param filePath location of the data. Cannot be null.
+     * @throws IOException if the file was changed by another program since it was last read or saved.
      */
-    public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+    public synchronized void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
         requireNonNull(trackIter);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTrackIter(trackIter), filePath);
+        JsonSectionCache cache = filePath.equals(this.filePath)
+            ? sectionCache
+            : new JsonSectionCache(getRemarkBlobFile(filePath));
+        try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForWriting()) {
+            fileVersions.checkUnchanged(filePath);
+            String json = cache.toJsonString(trackIter);
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, json);
+            fileVersions.record(filePath, json);
+        }
+    }
+
+    /**
+     * Returns the file of the long task remarks of the data file at {@code filePath}.
+     */
+    private RemarkBlobFile getRemarkBlobFile(Path filePath) {
+        return filePath.equals(this.filePath) ? remarkBlobFile : new RemarkBlobFile(filePath);
     }
 
 }
@@ -0,0 +1,126 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+
+/**
+ * An append-only file of the long task remarks of a data file, which refers to them by offset, so that they are
+ * only read when they are needed (e.g. {@code data/trackIter-remarks.blob} for {@code data/trackIter.json}).
+ * The remarks are stored as UTF-8 bytes one after the other, without separators.
+ * A remark that is no longer used stays in the file.
+ */
+class RemarkBlobFile implements StoredRemark.Source {
+
+    /** Remarks of at least this many characters are stored in the blob file rather than in the data file. */
+    static final int MIN_STORED_LENGTH = 1024;
+    static final String MESSAGE_INVALID_REFERENCE = "Task's stored remark is not in the remarks file";
+
+    private static final String DATA_FILE_EXTENSION = ".json";
+    private static final String BLOB_FILE_SUFFIX = "-remarks.blob";
+
+    private final Path blobFilePath;
+    /** A length the file is known to have, as long as nothing but this instance writes to it. */
+    private long knownLength;
+    /** The remarks stored by this instance, so that a remark is not stored again each time its task is saved. */
+    private final Map<String, StoredRemark> storedTexts = new WeakHashMap<>();
+
+    /**
+     * Creates the blob file of the data file at {@code filePath}, stored next to it.
+     */
+    RemarkBlobFile(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        String stem = fileName.endsWith(DATA_FILE_EXTENSION)
+            ? fileName.substring(0, fileName.length() - DATA_FILE_EXTENSION.length())
+            : fileName;
+        blobFilePath = filePath.resolveSibling(stem + BLOB_FILE_SUFFIX);
+    }
+
+    Path getBlobFilePath() {
+        return blobFilePath;
+    }
+
+    /**
+     * Returns where the remark of {@code task} is stored in this file, storing it first if it is long and not
+     * stored here yet, or nothing if the remark is short enough to be kept in the data file.
+     * A remark is on the storage device once this returns, so the data file can refer to it.
+     *
+     * @throws IOException if the remark could not be stored, or is stored elsewhere and could not be read.
+     */
+    synchronized Optional<StoredRemark> store(Task task) throws IOException {
+        Optional<StoredRemark> storedRemark = task.getStoredRemark();
+        if (storedRemark.isPresent() && storedRemark.get().getSource() == this) {
+            return storedRemark;
+        }
+        String remark = task.readRemark();
+        if (remark.length() < MIN_STORED_LENGTH) {
+            return Optional.empty();
+        }
+        StoredRemark stored = storedTexts.get(remark);
+        if (stored != null) {
+            return Optional.of(stored);
+        }
+
+        byte[] bytes = remark.getBytes(StandardCharsets.UTF_8);
+        long offset;
+        FileUtil.createParentDirsOfFile(blobFilePath);
+        try (FileChannel channel = FileChannel.open(blobFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+            offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        knownLength = offset + bytes.length;
+        stored = new StoredRemark(this, offset, bytes.length, remark);
+        storedTexts.put(remark, stored);
+        return Optional.of(stored);
+    }
+
+    /**
+     * Returns the remark stored in {@code length} bytes at {@code offset}, as referred to by the data file, whose
+     * text has the hash {@code hash}. The remark is not read.
+     *
+     * @throws IllegalValueException if this file does not have these bytes.
+     */
+    synchronized StoredRemark refer(long offset, int length, int hash) throws IOException, IllegalValueException {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        if (offset + length > knownLength) {
+            knownLength = Files.exists(blobFilePath) ? Files.size(blobFilePath) : 0;
+            if (offset + length > knownLength) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+        }
+        return new StoredRemark(this, offset, length, hash);
+    }
+
+    @Override
+    public synchronized String read(long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        try (RandomAccessFile file = new RandomAccessFile(blobFilePath.toFile(), "r")) {
+            file.seek(offset);
+            file.readFully(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -2,6 +2,7 @@ package trackitnus.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -61,10 +62,20 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return trackIterStorage.readTrackIter(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyTrackIter> reloadTrackIter() throws DataConversionException, IOException {
+        return trackIterStorage.reloadTrackIter();
+    }
+
+    @Override
+    public List<Path> getTrackIterDirectories() {
+        return trackIterStorage.getTrackIterDirectories();
+    }
+
     @Override
     public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
         saveTrackIter(trackIter, trackIterStorage.getTrackIterFilePath());
@@ -72,7 +83,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         trackIterStorage.saveTrackIter(trackIter, filePath);
     }
 
@@ -2,6 +2,7 @@ package trackitnus.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import trackitnus.commons.exceptions.DataConversionException;
@@ -32,6 +33,21 @@ public interface TrackIterStorage {
      */
     Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the data again if any of its files was changed by another program since this storage last read or
+     * saved it. Only the files that changed are read.
+     * Returns {@code Optional.empty()} if no file changed.
+     *
+     * @throws DataConversionException if a changed file is not in the expected format.
+     * @throws IOException             if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyTrackIter> reloadTrackIter() throws DataConversionException, IOException;
+
+    /**
+     * Returns the directories that hold the files of the data, where changes by other programs are watched for.
+     */
+    List<Path> getTrackIterDirectories();
+
     /**
      * Saves the given {@link ReadOnlyTrackIter} to the storage.
      *
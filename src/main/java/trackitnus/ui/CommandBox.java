@@ -1,12 +1,21 @@
 package trackitnus.ui;
 
+import java.util.List;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import trackitnus.logic.Logic;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.completion.CommandCompleter;
 import trackitnus.logic.parser.exceptions.ParseException;
 
 /**
@@ -18,18 +27,32 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final ContextMenu suggestions = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests completions of the
+     * command being typed from {@code commandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestSuggestions(newText);
+        });
+        // Tab accepts the first suggestion instead of moving the focus
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && suggestions.isShowing() && !suggestions.getItems().isEmpty()) {
+                suggestions.getItems().get(0).fire();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -37,6 +60,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        suggestions.hide();
         try {
             String command = commandTextField.getText();
             commandExecutor.execute(command);
@@ -46,6 +70,42 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Looks up the completions of {@code text} off the JavaFX thread.
+     * Completions that arrive after the text has changed again are discarded.
+     */
+    private void requestSuggestions(String text) {
+        if (text.isBlank()) {
+            suggestions.hide();
+            return;
+        }
+        commandCompleter.requestCompletions(text, completions ->
+            Platform.runLater(() -> showSuggestions(text, completions)));
+    }
+
+    private void showSuggestions(String text, List<String> completions) {
+        if (!text.equals(commandTextField.getText())) {
+            return;
+        }
+        if (completions.isEmpty()) {
+            suggestions.hide();
+            return;
+        }
+        suggestions.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> {
+                commandTextField.setText(completion);
+                commandTextField.positionCaret(completion.length());
+            });
+            suggestions.getItems().add(item);
+        }
+        if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
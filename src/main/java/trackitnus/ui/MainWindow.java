@@ -19,6 +19,8 @@ import trackitnus.commons.core.Messages;
 import trackitnus.logic.Logic;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.metrics.CommandMetrics;
+import trackitnus.logic.metrics.CommandMetrics.Phase;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.module.Module;
@@ -149,8 +151,24 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTrackIterFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getCommandCompleter());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.addDayChangeListener(unused -> handleDayChange());
+    }
+
+    /**
+     * Redraws the Upcoming tab, if it is open, so that its days and overdue/future sections follow the new date.
+     */
+    private void handleDayChange() {
+        if (!tabInContext.equals(UpcomingPanel.TYPE)) {
+            return;
+        }
+        try {
+            switchTab(new ArrayList<>(Arrays.asList((Object) UpcomingPanel.TYPE)));
+        } catch (CommandException e) {
+            logger.warning("Failed to refresh the Upcoming tab after the day rolled over: " + e.getMessage());
+        }
     }
 
     private void switchTab(ArrayList<Object> tabValues) throws CommandException {
@@ -175,7 +193,7 @@ public class MainWindow extends UiPart<Stage> {
             tabPanelPlaceholder.getChildren().add(modulePanel.getRoot());
             break;
         case Contact.TYPE:
-            ContactPanel contactPanel = new ContactPanel(logic.getAllContacts());
+            ContactPanel contactPanel = new ContactPanel(logic.getAllContacts(), logic::updateContactSearchFilter);
             tabPanelPlaceholder.getChildren().add(contactPanel.getRoot());
             break;
         case HelpPanel.TYPE:
@@ -223,6 +241,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
+            long refreshStart = System.nanoTime();
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -246,6 +265,8 @@ public class MainWindow extends UiPart<Stage> {
                 switchTab(new ArrayList<>(Arrays.asList((Object) HelpPanel.TYPE)));
             }
 
+            logic.getCommandMetrics().record(CommandMetrics.getCommandKey(commandText), Phase.UI_REFRESH,
+                System.nanoTime() - refreshStart);
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
@@ -12,6 +12,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
@@ -39,6 +40,9 @@ public class SidePanel extends UiPart<Region> {
     @FXML
     private ListView<Module> moduleListView;
 
+    @FXML
+    private TextField moduleSearchField;
+
     @FXML
     private Button helpButton;
 
@@ -53,6 +57,12 @@ public class SidePanel extends UiPart<Region> {
         this.tabConsumer = tabConsumer;
         this.logic = logic;
         initialize();
+        if (logic != null) {
+            // the search field starts empty, so a search made in an earlier side panel is cleared
+            logic.updateModuleSearchFilter(moduleSearchField.getText());
+            moduleSearchField.textProperty().addListener((unused1, unused2, text) ->
+                logic.updateModuleSearchFilter(text));
+        }
     }
 
     /**
@@ -1,10 +1,12 @@
 package trackitnus.ui.contact;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import trackitnus.commons.core.LogsCenter;
@@ -19,12 +21,18 @@ public class ContactPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(ContactPanel.class);
     @FXML
     private StackPane contactListPanelPlaceholder;
+    @FXML
+    private TextField searchField;
 
     /**
-     * Creates a {@code ContactListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ContactListPanel} with the given {@code ObservableList}, which is filtered by passing the
+     * text of the search field to {@code searchFilterUpdater} as the user types.
+     * The search field starts empty, so a search made in an earlier panel is cleared.
      */
-    public ContactPanel(ObservableList<Contact> contactList) {
+    public ContactPanel(ObservableList<Contact> contactList, Consumer<String> searchFilterUpdater) {
         super(FXML);
+        searchFilterUpdater.accept(searchField.getText());
+        searchField.textProperty().addListener((unused1, unused2, text) -> searchFilterUpdater.accept(text));
 
         // Allow height of lists to update automatically
         contactListPanelPlaceholder.prefHeightProperty().bind(Bindings.size(contactList)
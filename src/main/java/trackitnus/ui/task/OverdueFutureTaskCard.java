@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import trackitnus.model.Today;
 import trackitnus.model.task.Task;
 
 /**
@@ -17,14 +18,14 @@ public class OverdueFutureTaskCard extends TaskCard {
     private Label code;
 
     /**
-     * Creates a {@code OverdueFutureTaskCard} with the given {@code Task} and index to display.
+     * Creates a {@code OverdueFutureTaskCard} with the given {@code Task} and index to display,
+     * coloured according to {@code today}.
      */
-    public OverdueFutureTaskCard(Task task, int displayedIndex) {
+    public OverdueFutureTaskCard(Task task, int displayedIndex, LocalDate today) {
         super(task, displayedIndex);
         code.setText(task.getCode().isPresent() ? task.getCode().get().code + " " : "");
 
-        LocalDate today = LocalDate.now();
-        if (task.getDate().isAfter(today.plusDays(7))) {
+        if (task.getDate().isAfter(today.plusDays(Today.UPCOMING_DAYS))) {
             date.setStyle("-fx-text-fill: #68C2E8");
         } else {
             date.setStyle("-fx-text-fill: #d53636");
@@ -32,7 +32,7 @@ public class UpcomingPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = logic.getToday();
         getDatesForTheWeek(today);
         calendarView.setItems(calendarDates);
         calendarView.setCellFactory(listView -> new SectionListViewCell());
@@ -79,7 +79,8 @@ public class UpcomingSectionCard extends UiPart<Region> {
                 setText(null);
             } else {
                 try {
-                    setGraphic(new OverdueFutureTaskCard(task, logic.getTaskIndex(task).getOneBased()).getRoot());
+                    setGraphic(new OverdueFutureTaskCard(task, logic.getTaskIndex(task).getOneBased(),
+                        logic.getToday()).getRoot());
                 } catch (CommandException e) {
                     e.printStackTrace();
                 }
@@ -1,7 +1,5 @@
 package trackitnus.ui.upcoming;
 
-import java.time.LocalDate;
-
 import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -50,7 +48,7 @@ public class UpcomingSectionDayCard extends UiPart<Region> {
         this.section = section;
         this.logic = logic;
 
-        if (section.getDate().equals(LocalDate.now())) {
+        if (section.getDate().equals(logic.getToday())) {
             date.setText("Today - " + section.getTitle());
         } else {
             date.setText(section.getTitle());
@@ -37,6 +37,19 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validImportPath_success() {
+        parametersStub.namedParameters.put("import", "semester.txt");
+        expected.setImportPath(Paths.get("semester.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidImportPath_success() {
+        parametersStub.namedParameters.put("import", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private final Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,79 @@
+package trackitnus.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AppExecutorsTest {
+    private final List<Runnable> fxTasks = Collections.synchronizedList(new ArrayList<>());
+    private final AppExecutors executors = new AppExecutors(2, 1, fxTasks::add);
+
+    @AfterEach
+    public void tearDown() {
+        executors.shutdown(1000);
+    }
+
+    @Test
+    public void supplyIo_runsInSubmissionOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Integer> first = executors.supplyIo(() -> order.add(1) ? 1 : 0);
+        CompletableFuture<Integer> second = executors.supplyIo(() -> order.add(2) ? 2 : 0);
+        assertEquals(Integer.valueOf(2), second.get(5, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(1), first.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2), order);
+        // a task's stats are recorded after its future completes, but before the lane starts the next task
+        CompletableFuture<Long> completedBefore = executors.supplyIo(() -> executors.getIoStats().getCompletedCount());
+        assertEquals(Long.valueOf(2), completedBefore.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void supplyIo_queueFull_failsFuture() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executors.supplyIo(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executors.supplyIo(() -> null);
+        assertEquals(1, executors.getIoQueueDepth());
+
+        CompletableFuture<Object> rejected = executors.supplyIo(() -> null);
+        assertTrue(rejected.isCompletedExceptionally());
+        assertTrue(rejected.handle((unused, e) -> e).get() instanceof RejectedExecutionException);
+        release.countDown();
+    }
+
+    @Test
+    public void onFxThread_handsResultToFxExecutor() throws Exception {
+        List<String> results = new ArrayList<>();
+        CompletableFuture<Void> done = executors.onFxThread(executors.supplyCpu(() -> "result"), results::add);
+        executors.supplyCpu(() -> null).get(5, TimeUnit.SECONDS);
+        for (long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+             fxTasks.isEmpty() && System.nanoTime() < deadline;) {
+            Thread.onSpinWait();
+        }
+
+        // nothing reaches the results before the FX thread runs the hand-over
+        assertTrue(results.isEmpty());
+        assertEquals(1, fxTasks.size());
+        fxTasks.get(0).run();
+        assertEquals(List.of("result"), results);
+        assertTrue(done.isDone());
+    }
+}
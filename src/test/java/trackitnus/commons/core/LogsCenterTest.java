@@ -0,0 +1,20 @@
+package trackitnus.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void getLogger_sameName_returnsConfiguredInstance() {
+        Logger first = LogsCenter.getLogger(LogsCenterTest.class);
+        Logger second = LogsCenter.getLogger(LogsCenterTest.class);
+
+        assertSame(first, second);
+        assertEquals(2, second.getHandlers().length);
+    }
+}
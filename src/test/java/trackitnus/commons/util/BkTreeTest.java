@@ -0,0 +1,88 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance_editCounts() {
+        assertEquals(0, BkTree.distance("help", "help"));
+        assertEquals(2, BkTree.distance("hlep", "help"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "exit"));
+    }
+
+    @Test
+    public void search_closestFirstIgnoringCase() {
+        BkTree tree = new BkTree();
+        tree.add("CS2103T");
+        tree.add("CS2101");
+        tree.add("CS1231");
+        tree.add("MA1521");
+
+        assertEquals(List.of("CS2101", "CS2103T"), tree.search("cs2102", 2, 5));
+        assertEquals(List.of("CS2101"), tree.search("cs2102", 2, 1));
+        assertEquals(List.of("CS2101"), tree.searchClosest("cs2102", 2, 5));
+        assertTrue(tree.search("GEQ1000", 2, 5).isEmpty());
+    }
+
+    @Test
+    public void remove_hidesWordButKeepsOthersReachable() {
+        BkTree tree = new BkTree();
+        tree.add("add");
+        tree.add("edit");
+        tree.add("exit");
+        tree.add("edit");
+
+        tree.remove("add");
+        tree.remove("EDIT");
+        assertEquals(List.of("edit", "exit"), tree.search("edat", 2, 5));
+        tree.remove("edit");
+        assertEquals(List.of("exit"), tree.search("edat", 2, 5));
+        assertTrue(tree.search("add", 0, 5).isEmpty());
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_randomWords_matchesLinearScan() {
+        Random random = new Random(34);
+        BkTree tree = new BkTree();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            tree.add(word);
+            if (!words.contains(word)) {
+                words.add(word);
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            List<String> expected = new ArrayList<>();
+            for (String word : words) {
+                if (BkTree.distance(query, word) <= 2) {
+                    expected.add(word);
+                }
+            }
+            expected.sort(Comparator.comparingInt((String word) -> BkTree.distance(query, word))
+                .thenComparing(word -> word));
+            assertEquals(expected, tree.search(query, 2, Integer.MAX_VALUE));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeCoalescerTest {
+
+    @Test
+    public void submit_direct_appliesEachChange() {
+        ChangeCoalescer coalescer = ChangeCoalescer.direct();
+        List<String> log = new ArrayList<>();
+        coalescer.submit("a", () -> log.add("a1"), () -> log.add("a resync"));
+        coalescer.submit("a", () -> log.add("a2"), () -> log.add("a resync"));
+
+        assertEquals(List.of("a1", "a2"), log);
+        assertEquals(2, coalescer.getEmittedCount());
+        assertEquals(2, coalescer.getAppliedCount());
+    }
+
+    @Test
+    public void flush_severalChangesPerTarget_resyncsOnce() {
+        Deque<Runnable> scheduled = new ArrayDeque<>();
+        ChangeCoalescer coalescer = new ChangeCoalescer(scheduled::add, () -> true);
+        List<String> log = new ArrayList<>();
+        coalescer.submit("a", () -> log.add("a1"), () -> log.add("a resync 1"));
+        coalescer.submit("b", () -> log.add("b1"), () -> log.add("b resync 1"));
+        coalescer.submit("a", () -> log.add("a2"), () -> log.add("a resync 2"));
+
+        // a single flush is scheduled for the whole batch
+        assertEquals(1, scheduled.size());
+        assertTrue(log.isEmpty());
+        scheduled.pop().run();
+
+        assertEquals(List.of("a resync 2", "b1"), log);
+        assertEquals(3, coalescer.getEmittedCount());
+        assertEquals(2, coalescer.getAppliedCount());
+    }
+
+    @Test
+    public void flush_offApplyThread_doesNothing() {
+        Deque<Runnable> scheduled = new ArrayDeque<>();
+        ChangeCoalescer coalescer = new ChangeCoalescer(scheduled::add, () -> false);
+        List<String> log = new ArrayList<>();
+        coalescer.submit("a", () -> log.add("a1"), () -> log.add("a resync"));
+        coalescer.flush();
+        scheduled.pop().run();
+        assertTrue(log.isEmpty());
+        assertEquals(0, coalescer.getAppliedCount());
+    }
+
+    @Test
+    public void flush_changeSubmittedWhileFlushing_appliedInSameFlush() {
+        ChangeCoalescer coalescer = ChangeCoalescer.direct();
+        List<String> log = new ArrayList<>();
+        coalescer.submit("a", () -> {
+            log.add("a1");
+            coalescer.submit("b", () -> log.add("b1"), () -> log.add("b resync"));
+            log.add("a1 done");
+        }, () -> log.add("a resync"));
+
+        assertEquals(List.of("a1", "a1 done", "b1"), log);
+    }
+}
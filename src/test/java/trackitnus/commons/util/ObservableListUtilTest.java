@@ -0,0 +1,31 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ObservableListUtilTest {
+
+    @Test
+    public void replaceChanged_changedRange_matchesTarget() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        List<String> target = new ArrayList<>(List.of(list.get(0), "x", "y", list.get(4)));
+        ObservableListUtil.replaceChanged(list, target);
+        assertEquals(target, list);
+
+        target = new ArrayList<>(list);
+        target.set(2, "z");
+        ObservableListUtil.replaceChanged(list, target);
+        assertEquals(target, list);
+
+        ObservableListUtil.replaceChanged(list, List.of());
+        assertTrue(list.isEmpty());
+    }
+}
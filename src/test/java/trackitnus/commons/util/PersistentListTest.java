@@ -0,0 +1,69 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_keepsOrder() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "b", "c"), list.toList());
+        assertEquals("b", list.get(1));
+        assertEquals(2, list.indexOf("c"));
+        assertEquals(-1, list.indexOf("d"));
+    }
+
+    @Test
+    public void updates_oldVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> replaced = original.set(0, "y");
+        PersistentList<String> removed = original.remove(2);
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("a", "x", "b", "c"), added.toList());
+        assertEquals(List.of("y", "b", "c"), replaced.toList());
+        assertEquals(List.of("a", "b"), removed.toList());
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.of(List.of(1)).remove(1));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.equals(PersistentList.of(expected)));
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+}
@@ -0,0 +1,46 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void complete_ignoresCaseAndKeepsFirstSpelling() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("CS2103T");
+        trie.add("CS2101");
+        trie.add("cs2103t");
+        trie.add("MA1521");
+
+        assertEquals(List.of("CS2101", "CS2103T"), trie.complete("cs21", 10));
+        assertEquals(List.of("CS2101"), trie.complete("CS", 1));
+        assertEquals(List.of("CS2103T"), trie.complete("cs2103t", 10));
+        assertTrue(trie.complete("x", 10).isEmpty());
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_keepsWordUntilLastOccurrence() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("family");
+
+        trie.remove("FRIENDS");
+        assertTrue(trie.contains("friends"));
+        trie.remove("friends");
+        assertFalse(trie.contains("friends"));
+        assertEquals(List.of("family"), trie.complete("f", 10));
+
+        // removing a missing word or a prefix of a word does nothing
+        trie.remove("friends");
+        trie.remove("fam");
+        assertEquals(1, trie.size());
+    }
+}
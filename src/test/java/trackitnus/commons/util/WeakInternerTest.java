@@ -0,0 +1,47 @@
+package trackitnus.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<Value> interner = new WeakInterner<>(value -> value.key);
+
+    @Test
+    public void intern_sameKey_createsOnce() {
+        AtomicInteger created = new AtomicInteger();
+        Function<String, Value> factory = key -> {
+            created.incrementAndGet();
+            return new Value(key);
+        };
+        Value first = interner.intern("CS2103T", factory);
+        assertSame(first, interner.intern(new String("CS2103T"), factory));
+        Value second = interner.intern("CS2100", factory);
+        assertNotSame(first, second);
+        assertEquals(2, created.get());
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("bad", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, interner.size());
+    }
+
+    private static final class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package trackitnus.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.Assert.assertThrows;
 import static trackitnus.testutil.typical.TypicalContacts.AMY;
 
@@ -16,6 +17,8 @@ import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.ContactCommandTestUtil;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.metrics.CommandMetrics;
+import trackitnus.logic.metrics.CommandMetrics.Phase;
 import trackitnus.logic.parser.ParserUtil;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.Model;
@@ -52,6 +55,14 @@ public class LogicManagerTest {
         assertParseException(invalidCommand, Messages.MESSAGE_UNKNOWN_COMMAND);
     }
 
+    @Test
+    public void execute_misspeltCommand_suggestsCorrection() {
+        assertParseException("hlep", Messages.MESSAGE_UNKNOWN_COMMAND + "\n"
+            + String.format(Messages.MESSAGE_DID_YOU_MEAN, "help"));
+        assertParseException("c add n/Amy", Messages.MESSAGE_UNKNOWN_COMMAND + "\n"
+            + String.format(Messages.MESSAGE_DID_YOU_MEAN, "C add"));
+    }
+
     @Test
     public void execute_commandExecutionError_throwsCommandException() {
         String deleteCommand = Contact.TYPE + " " + "delete 9";
@@ -78,6 +89,48 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_dataUnchanged_notSaved() throws Exception {
+        JsonTrackIterSaveCountingStub trackIterStorage =
+            new JsonTrackIterSaveCountingStub(temporaryFolder.resolve("countingTrackIter.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+            new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackIterStorage, userPrefsStorage));
+
+        // the data as given is taken to be saved already
+        logic.execute("help");
+        assertEquals(0, trackIterStorage.saveCount);
+
+        String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
+            + ContactCommandTestUtil.PHONE_DESC_AMY + ContactCommandTestUtil.EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, trackIterStorage.saveCount);
+
+        // read-only and failed commands leave the data unchanged
+        logic.execute("help");
+        assertThrows(CommandException.class, () -> logic.execute(Contact.TYPE + " delete 9"));
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+        assertEquals(1, trackIterStorage.saveCount);
+
+        logic.execute(Contact.TYPE + " delete 1");
+        assertEquals(2, trackIterStorage.saveCount);
+    }
+
+    @Test
+    public void execute_commands_recordedInMetrics() throws Exception {
+        String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
+            + ContactCommandTestUtil.PHONE_DESC_AMY + ContactCommandTestUtil.EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandMetrics metrics = logic.getCommandMetrics();
+        String addKey = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD;
+        assertEquals(1, metrics.getCount(addKey));
+        assertEquals(1, metrics.getHistogram(addKey, Phase.PERSIST).getCount());
+        assertEquals(1, metrics.getCount(CommandMetrics.INVALID_COMMAND));
+        assertTrue(metrics.getReport().contains("contacts: 1"));
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -167,6 +220,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class that counts the calls to the save method.
+     */
+    private static class JsonTrackIterSaveCountingStub extends JsonTrackIterStorage {
+        private int saveCount;
+
+        private JsonTrackIterSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+            saveCount++;
+            super.saveTrackIter(trackIter, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
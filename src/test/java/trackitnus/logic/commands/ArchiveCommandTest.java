@@ -0,0 +1,46 @@
+package trackitnus.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.model.ModelManager;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+import trackitnus.model.task.Task;
+import trackitnus.storage.JsonTaskArchive;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class ArchiveCommandTest {
+
+    private final ModelManager model = new ModelManager();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_archivedMatch_listed() throws Exception {
+        Task quiz = new TaskBuilder().withName("Old quiz").withDate("01/01/2020").build();
+        model.setTaskArchive(new JsonTaskArchive(testFolder.resolve("trackIter.json")));
+        model.addTask(quiz);
+        model.archiveTasksBefore(quiz.getDate().plusDays(1));
+
+        CommandResult result = new ArchiveCommand("quiz", query("quiz")).execute(model);
+        String expected = String.format(ArchiveCommand.MESSAGE_SUCCESS, 1, "quiz") + "\nTasks (1):\n  1. " + quiz;
+        assertEquals(expected, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noArchive_noResults() throws Exception {
+        CommandResult result = new ArchiveCommand("quiz", query("quiz")).execute(model);
+        assertEquals(String.format(ArchiveCommand.MESSAGE_NO_RESULTS, "quiz"), result.getFeedbackToUser());
+    }
+
+    private static SearchQuery query(String word) {
+        return new SearchQuery(List.of(List.of(new Term(word, false))));
+    }
+}
@@ -0,0 +1,45 @@
+package trackitnus.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.Model;
+import trackitnus.model.ModelManager;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class FindCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_matches_groupedByType() {
+        Contact alex = new ContactBuilder().withName("Alex Yeoh").build();
+        Task quiz = new TaskBuilder().withName("Ask Alex").build();
+        model.addContact(alex);
+        model.addTask(quiz);
+
+        CommandResult result = new FindCommand("alex", query("alex")).execute(model);
+        String expected = String.format(FindCommand.MESSAGE_SUCCESS, 2, "alex")
+            + "\nContacts (1):\n  1. " + alex.toString().trim()
+            + "\nTasks (1):\n  1. " + quiz;
+        assertEquals(expected, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatches() {
+        CommandResult result = new FindCommand("nobody", query("nobody")).execute(model);
+        assertEquals(String.format(FindCommand.MESSAGE_NO_RESULTS, "nobody"), result.getFeedbackToUser());
+    }
+
+    private static SearchQuery query(String word) {
+        return new SearchQuery(List.of(List.of(new Term(word, false))));
+    }
+}
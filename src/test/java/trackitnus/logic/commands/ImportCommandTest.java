@@ -0,0 +1,81 @@
+package trackitnus.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static trackitnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.EMAIL_DESC_AMY;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.EMAIL_DESC_BOB;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.NAME_DESC_AMY;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.NAME_DESC_BOB;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.PHONE_DESC_AMY;
+import static trackitnus.logic.commands.contact.ContactCommandTestUtil.PHONE_DESC_BOB;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.parser.ImportCommandParser;
+import trackitnus.logic.parser.TrackIterParser;
+import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.Model;
+import trackitnus.model.ModelManager;
+import trackitnus.model.contact.Contact;
+
+public class ImportCommandTest {
+    private static final String ADD_AMY = Contact.TYPE + " add" + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+    private static final String ADD_BOB = Contact.TYPE + " add" + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final TrackIterParser parser = new TrackIterParser();
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_allCommandsValid_allApplied() throws Exception {
+        Path script = writeScript("# contacts", ADD_AMY, "", ADD_BOB);
+        Command command = parser.parseCommand(ImportCommand.COMMAND_WORD + " " + script);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, script, "contacts: 2 added"),
+            result.getFeedbackToUser());
+        assertEquals(2, model.getTrackIter().getContactList().size());
+    }
+
+    @Test
+    public void execute_commandFails_nothingApplied() throws Exception {
+        Path script = writeScript(ADD_AMY, ADD_BOB, Contact.TYPE + " delete 5");
+        Command command = parser.parseCommand(ImportCommand.COMMAND_WORD + " " + script);
+
+        assertCommandFailure(command, model, String.format(ImportCommand.MESSAGE_LINE_FAILED, 3,
+            Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
+        assertEquals(0, model.getTrackIter().getContactList().size());
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path script = writeScript(ADD_AMY, "uicfhmowqewca");
+        assertThrows(ParseException.class, String.format(ImportCommandParser.MESSAGE_INVALID_LINE, 2,
+            Messages.MESSAGE_UNKNOWN_COMMAND), () -> parser.parseCommand(ImportCommand.COMMAND_WORD + " " + script));
+    }
+
+    @Test
+    public void parse_nestedImport_throwsParseException() throws Exception {
+        Path script = writeScript(ImportCommand.COMMAND_WORD + " other.txt");
+        assertThrows(ParseException.class, String.format(ImportCommandParser.MESSAGE_INVALID_LINE, 1,
+            ImportCommandParser.MESSAGE_COMMAND_NOT_ALLOWED), () -> new ImportCommandParser(parser)
+            .parse(script.toString()));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
@@ -0,0 +1,68 @@
+package trackitnus.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import trackitnus.logic.parser.TrackIterParser;
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.ModuleBuilder;
+
+public class CommandCompleterTest {
+
+    private final TrackIter trackIter = new TrackIter();
+    private final CommandCompleter completer = new CommandCompleter(new TrackIterParser().getRegistry(),
+        ForkJoinPool.commonPool());
+
+    @AfterEach
+    public void tearDown() {
+        completer.shutdown();
+    }
+
+    @Test
+    public void getCompletions_commandWords() {
+        assertEquals(List.of("redo"), completer.getCompletions("re", 8));
+        assertEquals(List.of("C add", "C delete", "C edit"), completer.getCompletions("C", 8));
+        assertEquals(List.of("M delete"), completer.getCompletions("M d", 8));
+        assertTrue(completer.getCompletions("X a", 8).isEmpty());
+    }
+
+    @Test
+    public void getCompletions_prefixesAndLessonTypes() {
+        assertEquals(List.of("L add t/lab", "L add t/laboratory"), completer.getCompletions("L add t/la", 8));
+        assertEquals(List.of("T add n/Quiz m/"), completer.getCompletions("T add n/Quiz m", 8));
+    }
+
+    @Test
+    public void getCompletions_followsDataChanges() {
+        completer.attach(trackIter);
+        trackIter.addModule(new ModuleBuilder().withCode("CS2103T").build());
+        Contact alex = new ContactBuilder().withName("Alex Yeoh").withTags("friends").build();
+        trackIter.addContact(alex);
+
+        assertEquals(List.of("T add m/CS2103T"), completer.getCompletions("T add m/cs", 8));
+        assertEquals(List.of("M delete CS2103T"), completer.getCompletions("M delete CS", 8));
+        assertEquals(List.of("C add n/Alex Yeoh"), completer.getCompletions("C add n/Alex Y", 8));
+        assertEquals(List.of("C add n/Bob t/friends"), completer.getCompletions("C add n/Bob t/fr", 8));
+
+        trackIter.setContact(alex, new ContactBuilder(alex).withName("Alex Tan").withTags().build());
+        assertTrue(completer.getCompletions("C add n/Bob t/fr", 8).isEmpty());
+        assertEquals(List.of("C add n/Alex Tan"), completer.getCompletions("C add n/Al", 8));
+    }
+
+    @Test
+    public void requestCompletions_callsBackWithLatestRequest() throws Exception {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        completer.requestCompletions("ex", result::complete);
+        assertEquals(List.of("exit"), result.get(5, TimeUnit.SECONDS));
+    }
+}
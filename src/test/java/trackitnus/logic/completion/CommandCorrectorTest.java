@@ -0,0 +1,51 @@
+package trackitnus.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.parser.TrackIterParser;
+import trackitnus.model.TrackIter;
+import trackitnus.model.module.Module;
+import trackitnus.testutil.builder.ModuleBuilder;
+
+public class CommandCorrectorTest {
+
+    private final CommandCorrector corrector = new CommandCorrector(new TrackIterParser().getRegistry());
+
+    @Test
+    public void suggestCorrections_unknownCommand() {
+        assertEquals(List.of("exit"), corrector.suggestCorrections("exti", Messages.MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(List.of("M edit"), corrector.suggestCorrections("M edti CS2103T n/SE",
+            Messages.MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(List.of("C add", "L add", "M add"), corrector.suggestCorrections("X add",
+            Messages.MESSAGE_INVALID_TYPE));
+        assertTrue(corrector.suggestCorrections("uicfhmowqewca", Messages.MESSAGE_UNKNOWN_COMMAND).isEmpty());
+    }
+
+    @Test
+    public void suggestCorrections_unknownModule_followsDataChanges() {
+        TrackIter trackIter = new TrackIter();
+        corrector.attach(trackIter);
+        Module module = new ModuleBuilder().withCode("CS2103T").build();
+        trackIter.addModule(module);
+
+        assertEquals(List.of("CS2103T"), corrector.suggestCorrections("T add n/Quiz d/01/01/2021 m/CS2013T",
+            Messages.MESSAGE_MODULE_DOES_NOT_EXIST));
+        assertEquals(List.of("CS2103T"), corrector.suggestCorrections("M delete CS2103",
+            Messages.MESSAGE_MODULE_DOES_NOT_EXIST));
+
+        trackIter.removeModule(module);
+        assertTrue(corrector.suggestCorrections("M delete CS2103", Messages.MESSAGE_MODULE_DOES_NOT_EXIST)
+            .isEmpty());
+    }
+
+    @Test
+    public void suggestCorrections_otherError_returnsEmpty() {
+        assertTrue(corrector.suggestCorrections("exti", Messages.MESSAGE_INVALID_INDEX).isEmpty());
+    }
+}
@@ -0,0 +1,34 @@
+package trackitnus.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentileNanos_noRecords_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_records_boundsEachPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getMaxNanos());
+        long p50 = histogram.getPercentileNanos(50);
+        assertTrue(p50 >= TimeUnit.MICROSECONDS.toNanos(10) && p50 <= TimeUnit.MICROSECONDS.toNanos(16));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentileNanos(100));
+    }
+}
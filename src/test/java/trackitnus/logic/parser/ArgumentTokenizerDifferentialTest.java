@@ -0,0 +1,69 @@
+package trackitnus.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_CODE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_DATE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_NAME;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_PHONE;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_REMARK;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_TAG;
+import static trackitnus.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link ArgumentTokenizer} splits arguments exactly like {@link LegacyArgumentTokenizer}.
+ */
+public class ArgumentTokenizerDifferentialTest {
+    private static final Prefix[][] PREFIX_SETS = {
+        {PREFIX_NAME, PREFIX_DATE, PREFIX_CODE, PREFIX_REMARK},
+        {PREFIX_CODE, PREFIX_NAME},
+        {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG},
+        {PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS},
+        {new Prefix("--u"), new Prefix("-t"), new Prefix("^Q")},
+        {},
+    };
+    private static final String[] FRAGMENTS = {
+        " ", "  ", "\t", "n/", "d/", "m/", "r/", "p/", "e/", "t/", "a/", "-t", "^Q", "--u", "/", "n", "CS2103T",
+        "12/12/2020", "Alex Yeoh", "x/", "\u00e9", "1",
+    };
+
+    @Test
+    public void tokenize_randomArguments_matchesLegacyTokenizer() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder args = new StringBuilder();
+            int fragmentCount = random.nextInt(12);
+            for (int j = 0; j < fragmentCount; j++) {
+                args.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            Prefix[] prefixes = PREFIX_SETS[random.nextInt(PREFIX_SETS.length)];
+            assertSameTokens(args.toString(), prefixes);
+        }
+    }
+
+    @Test
+    public void tokenize_typicalCommands_matchesLegacyTokenizer() {
+        assertSameTokens(" n/Assignment 1 d/12/12/2020 m/CS2103T r/ read p/ 3", PREFIX_SETS[0]);
+        assertSameTokens("1 n/Amy p/ 999 t/friend t/ CS1231 e/amy@example.com", PREFIX_SETS[2]);
+        assertSameTokens(" m/CS1101S t/lec d/Mon 10:00-12:00 a/COM1", PREFIX_SETS[3]);
+        assertSameTokens("", PREFIX_SETS[1]);
+        assertSameTokens(" m/", PREFIX_SETS[1]);
+    }
+
+    private void assertSameTokens(String args, Prefix... prefixes) {
+        Map<Prefix, List<String>> expected = LegacyArgumentTokenizer.tokenize(args, prefixes);
+        ArgumentMultimap actual = ArgumentTokenizer.tokenize(args, prefixes);
+
+        assertEquals(expected.get(ArgumentMultimap.PREAMBLE).get(0), actual.getPreamble(), args);
+        for (Prefix prefix : prefixes) {
+            assertEquals(expected.getOrDefault(prefix, List.of()), actual.getAllValues(prefix), args);
+        }
+    }
+}
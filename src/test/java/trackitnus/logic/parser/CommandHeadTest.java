@@ -0,0 +1,44 @@
+package trackitnus.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.parser.exceptions.ParseException;
+
+public class CommandHeadTest {
+    private static final String INVALID_FORMAT =
+        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+
+    @Test
+    public void of_typedCommand_splitsTypeWordAndArguments() throws Exception {
+        assertHead("  T \t add n/Quiz d/01/01/2021 ", "T", "add", " n/Quiz d/01/01/2021");
+        assertHead("C delete 1", "C", "delete", " 1");
+    }
+
+    @Test
+    public void of_untypedCommand_emptyType() throws Exception {
+        assertHead("help", "", "help", "");
+        assertHead("import  a b.txt", "", "import", "  a b.txt");
+        // only a single uppercase letter followed by whitespace is a type
+        assertHead("CS add", "", "CS", " add");
+        assertHead("T", "", "T", "");
+        assertHead("t add", "", "t", " add");
+    }
+
+    @Test
+    public void of_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> CommandHead.of(" \t "));
+        assertThrows(ParseException.class, INVALID_FORMAT, () -> CommandHead.of("T add n/a\nd/b"));
+    }
+
+    private void assertHead(String input, String type, String commandWord, String arguments) throws Exception {
+        CommandHead head = CommandHead.of(input);
+        assertEquals(type, head.getType());
+        assertEquals(commandWord, head.getCommandWord());
+        assertEquals(arguments, head.getArguments());
+    }
+}
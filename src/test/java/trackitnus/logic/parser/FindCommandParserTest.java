@@ -0,0 +1,35 @@
+package trackitnus.logic.parser;
+
+import static trackitnus.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static trackitnus.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.FindCommand;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+
+public class FindCommandParserTest {
+
+    private final FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindCommand() {
+        SearchQuery expectedQuery = new SearchQuery(List.of(
+            List.of(new Term("quiz", false), new Term("cs2103", true)),
+            List.of(new Term("alex", false), new Term("yeoh", false))));
+        assertParseSuccess(parser, " Quiz AND cs2103* OR  alex-yeoh ",
+            new FindCommand("Quiz AND cs2103* OR  alex-yeoh", expectedQuery));
+    }
+
+    @Test
+    public void parse_emptyAlternative_throwsParseException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "quiz OR", expectedMessage);
+        assertParseFailure(parser, "quiz OR * OR alex", expectedMessage);
+    }
+}
@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 
 import trackitnus.commons.core.Messages;
 import trackitnus.logic.commands.ExitCommand;
+import trackitnus.logic.commands.FindCommand;
 import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.StatsCommand;
+import trackitnus.logic.commands.UndoCommand;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.DeleteContactCommand;
 import trackitnus.logic.commands.contact.EditContactCommand;
@@ -94,6 +98,22 @@ public class TrackIterParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_find() throws Exception {
+        assertTrue(parser.parseCommand(FindCommand.COMMAND_WORD + " quiz OR cs*") instanceof FindCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         Assert.assertThrows(ParseException.class, String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -105,4 +125,12 @@ public class TrackIterParserTest {
         Assert.assertThrows(ParseException.class, Messages.MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
             "unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_unknownType_throwsParseException() {
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_INVALID_TYPE, () -> parser.parseCommand(
+            "X add n/Quiz"));
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
+            Task.TYPE + " list"));
+    }
 }
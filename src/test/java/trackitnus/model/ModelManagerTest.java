@@ -9,17 +9,31 @@ import static trackitnus.testutil.Assert.assertThrows;
 import static trackitnus.testutil.typical.TypicalContacts.ALICE;
 import static trackitnus.testutil.typical.TypicalContacts.BENSON;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.index.Index;
+import trackitnus.commons.util.ChangeCoalescer;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.archive.TaskArchive;
 import trackitnus.model.contact.NameContainsKeywordsPredicate;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.builder.TaskBuilder;
 import trackitnus.testutil.builder.TrackIterBuilder;
 import trackitnus.testutil.typical.TypicalTask;
 
@@ -98,6 +112,17 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
     }
 
+    @Test
+    public void updateContactSearchFilter_followsChanges() {
+        modelManager.addContact(ALICE);
+        modelManager.updateContactSearchFilter("pauline");
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredContactList());
+        modelManager.addContact(BENSON);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredContactList());
+        modelManager.updateContactSearchFilter(" ");
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredContactList());
+    }
+
     @Test
     public void getTaskIndex_invalidIndex_throwsCommandException() {
         assertThrows(CommandException.class, () -> modelManager.getTaskIndex(TypicalTask.get(0)));
@@ -135,6 +160,260 @@ public class ModelManagerTest {
         }
     }
 
+    @Test
+    public void rollbackTransaction_afterChanges_restoresData() {
+        modelManager.addContact(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addContact(BENSON);
+        modelManager.deleteContact(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getTrackIter().getContactList());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void rollbackTransaction_nested_restoresInnerStartOnly() {
+        modelManager.beginTransaction();
+        modelManager.addContact(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addContact(BENSON);
+        modelManager.rollbackTransaction();
+        modelManager.commitTransaction();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getTrackIter().getContactList());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+    }
+
+    @Test
+    public void commitTransaction_noChange_notRecorded() {
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void archiveTasksBefore_noArchive_nothingMoved() throws Exception {
+        Task old = new TaskBuilder().withName("Old quiz").withDate("01/01/2020").build();
+        modelManager.addTask(old);
+        assertEquals(List.of(), modelManager.archiveTasksBefore(LocalDate.of(2021, 1, 1)));
+        assertEquals(List.of(), modelManager.searchArchive(new SearchQuery(List.of(List.of(new Term("quiz", false))))));
+        assertTrue(modelManager.hasTask(old));
+    }
+
+    @Test
+    public void archiveTasksBefore_oldTasks_movedToArchive() throws Exception {
+        Task old = new TaskBuilder().withName("Old quiz").withDate("01/01/2020").build();
+        Task recent = new TaskBuilder().withName("Recent quiz").withDate("01/03/2020").build();
+        InMemoryTaskArchive archive = new InMemoryTaskArchive();
+        modelManager.setTaskArchive(archive);
+        modelManager.beginTransaction();
+        modelManager.addTask(old);
+        modelManager.addTask(recent);
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(old), modelManager.archiveTasksBefore(LocalDate.of(2020, 2, 1)));
+        assertEquals(List.of(old), archive.tasks);
+        assertFalse(modelManager.hasTask(old));
+        assertTrue(modelManager.hasTask(recent));
+        // undoing would bring back a task that is also in the archive
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void archiveTasksBefore_archiveFails_dataUnchanged() {
+        Task old = new TaskBuilder().withName("Old quiz").withDate("01/01/2020").build();
+        InMemoryTaskArchive archive = new InMemoryTaskArchive();
+        archive.isFailing = true;
+        modelManager.setTaskArchive(archive);
+        modelManager.addTask(old);
+
+        assertThrows(IOException.class, () -> modelManager.archiveTasksBefore(LocalDate.of(2020, 2, 1)));
+        assertTrue(modelManager.hasTask(old));
+    }
+
+    @Test
+    public void archiveTasksBefore_pendingListUpdates_deletedTaskNotArchived() throws Exception {
+        Task deleted = new TaskBuilder().withName("Old quiz").withDate("01/01/2020").build();
+        Task old = new TaskBuilder().withName("Old exam").withDate("02/01/2020").build();
+        InMemoryTaskArchive archive = new InMemoryTaskArchive();
+        modelManager.setTaskArchive(archive);
+        modelManager.addTask(deleted);
+        modelManager.addTask(old);
+        // the deletion is not applied to the observable lists yet
+        modelManager.setObservableListUpdates(new ChangeCoalescer(unused -> { }, () -> false));
+        modelManager.deleteTask(deleted);
+
+        assertEquals(List.of(old), modelManager.archiveTasksBefore(LocalDate.of(2020, 2, 1)));
+        assertEquals(List.of(old), archive.tasks);
+    }
+
+    @Test
+    public void applyExternalChanges_changedData_appliedAndUndoHistoryCleared() {
+        modelManager.beginTransaction();
+        modelManager.addContact(ALICE);
+        modelManager.commitTransaction();
+        TrackIter newData = new TrackIter(modelManager.getTrackIter());
+        newData.addContact(BENSON);
+
+        assertEquals(1, modelManager.applyExternalChanges(newData));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getTrackIter().getContactList());
+        // undoing would go back to data that the data file no longer has
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void applyExternalChanges_sameData_undoHistoryKept() {
+        modelManager.beginTransaction();
+        modelManager.addContact(ALICE);
+        modelManager.commitTransaction();
+
+        assertEquals(0, modelManager.applyExternalChanges(new TrackIter(modelManager.getTrackIter())));
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void undoRedo_committedChanges_restoresEachStep() {
+        modelManager.beginTransaction();
+        modelManager.addContact(ALICE);
+        modelManager.commitTransaction();
+        modelManager.beginTransaction();
+        modelManager.addContact(BENSON);
+        modelManager.commitTransaction();
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE), modelManager.getTrackIter().getContactList());
+        modelManager.undo();
+        assertTrue(modelManager.getTrackIter().getContactList().isEmpty());
+        assertFalse(modelManager.canUndo());
+
+        modelManager.redo();
+        modelManager.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getTrackIter().getContactList());
+        assertFalse(modelManager.canRedo());
+        assertThrows(IllegalStateException.class, () -> modelManager.redo());
+    }
+
+    @Test
+    public void undo_historyFull_dropsOldestStep() {
+        for (int i = 0; i <= ModelManager.UNDO_HISTORY_LIMIT; i++) {
+            modelManager.beginTransaction();
+            modelManager.addTask(new TaskBuilder().withName("Task " + i).build());
+            modelManager.commitTransaction();
+        }
+        for (int i = 0; i < ModelManager.UNDO_HISTORY_LIMIT; i++) {
+            modelManager.undo();
+        }
+        assertFalse(modelManager.canUndo());
+        assertEquals(1, modelManager.getTrackIter().getTaskList().size());
+    }
+
+    @Test
+    public void getTrackIterSnapshot_changes_publishesNextVersion() {
+        VersionedSnapshot initial = modelManager.getTrackIterSnapshot();
+        modelManager.addContact(ALICE);
+        VersionedSnapshot afterAdd = modelManager.getTrackIterSnapshot();
+        assertEquals(initial.getVersion() + 1, afterAdd.getVersion());
+        assertEquals(Arrays.asList(ALICE), afterAdd.getContactList());
+        assertTrue(initial.getContactList().isEmpty());
+
+        // a transaction is published once, when it ends
+        modelManager.beginTransaction();
+        modelManager.addContact(BENSON);
+        modelManager.deleteContact(ALICE);
+        assertEquals(Arrays.asList(BENSON), modelManager.getTrackIterSnapshot().getContactList());
+        modelManager.commitTransaction();
+        assertEquals(afterAdd.getVersion() + 1, modelManager.getTrackIterSnapshot().getVersion());
+
+        // nothing changed -> same version
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertEquals(afterAdd.getVersion() + 1, modelManager.getTrackIterSnapshot().getVersion());
+    }
+
+    @Test
+    public void setObservableListUpdates_offApplyThread_snapshotsUpToDate() {
+        Deque<Runnable> pendingFlushes = new ArrayDeque<>();
+        AtomicBoolean isApplyThread = new AtomicBoolean(false);
+        ChangeCoalescer updates = new ChangeCoalescer(pendingFlushes::add, isApplyThread::get);
+        modelManager.setObservableListUpdates(updates);
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.deleteContact(ALICE);
+
+        assertTrue(modelManager.getTrackIter().getContactList().isEmpty());
+        assertTrue(modelManager.hasContact(BENSON));
+        assertEquals(Arrays.asList(BENSON), modelManager.getTrackIterSnapshot().getContactList());
+        assertEquals(1, pendingFlushes.size());
+
+        // the three changes are applied as one update
+        isApplyThread.set(true);
+        pendingFlushes.forEach(Runnable::run);
+        assertEquals(Arrays.asList(BENSON), modelManager.getTrackIter().getContactList());
+        assertEquals(3, updates.getEmittedCount());
+        assertEquals(1, updates.getAppliedCount());
+    }
+
+    @Test
+    public void getFilteredContactList_onApplyThread_appliesPendingUpdates() {
+        ChangeCoalescer updates = new ChangeCoalescer(unused -> { }, () -> true);
+        modelManager.setObservableListUpdates(updates);
+        modelManager.addContact(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void getTrackIterSnapshot_concurrentWrites_readersSeeConsistentVersions() throws InterruptedException {
+        int transactions = 2000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= transactions; i++) {
+                // every transaction adds a task and renames it, so only the renamed task may ever be seen
+                Task task = new TaskBuilder().withName("Task " + i).build();
+                modelManager.beginTransaction();
+                modelManager.addTask(task);
+                modelManager.setTask(task, new TaskBuilder().withName("Task " + i + " done").build());
+                modelManager.commitTransaction();
+            }
+        });
+        writer.setUncaughtExceptionHandler((thread, e) -> failure.compareAndSet(null, e));
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                long lastVersion = -1;
+                while (lastVersion < transactions && failure.get() == null) {
+                    VersionedSnapshot snapshot = modelManager.getTrackIterSnapshot();
+                    assertTrue(snapshot.getVersion() >= lastVersion);
+                    assertEquals(snapshot.getVersion(), snapshot.getTaskList().size());
+                    for (Task task : snapshot.getTaskList()) {
+                        assertTrue(task.getName().value.endsWith(" done"), task.getName().value);
+                    }
+                    lastVersion = snapshot.getVersion();
+                }
+            });
+            reader.setUncaughtExceptionHandler((thread, e) -> failure.compareAndSet(null, e));
+            readers.add(reader);
+        }
+
+        readers.forEach(Thread::start);
+        writer.start();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(transactions, modelManager.getTrackIterSnapshot().getTaskList().size());
+    }
+
     @Test
     public void equals() {
         TrackIter trackIter = new TrackIterBuilder().withContact(ALICE).withContact(BENSON).build();
@@ -171,4 +450,25 @@ public class ModelManagerTest {
         differentUserPrefs.setTrackIterFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(trackIter, differentUserPrefs)));
     }
+
+    /**
+     * A task archive that keeps the archived tasks in a list.
+     */
+    private static class InMemoryTaskArchive implements TaskArchive {
+        private final List<Task> tasks = new ArrayList<>();
+        private boolean isFailing;
+
+        @Override
+        public void archive(List<Task> tasks) throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk full");
+            }
+            this.tasks.addAll(tasks);
+        }
+
+        @Override
+        public List<Task> search(SearchQuery query) {
+            return tasks;
+        }
+    }
 }
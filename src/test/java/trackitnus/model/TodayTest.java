@@ -0,0 +1,114 @@
+package trackitnus.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.commons.Name;
+import trackitnus.model.lesson.DayOfWeek;
+import trackitnus.model.task.Task;
+
+public class TodayTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC+8");
+    private static final LocalDate MONDAY = LocalDate.of(2020, 11, 9);
+
+    private final MutableClock clock = new MutableClock(MONDAY.atTime(23, 59).atZone(ZONE).toInstant());
+    private final Today today = new Today(clock);
+
+    @Test
+    public void constructor_readsClock() {
+        assertEquals(MONDAY, today.getDate());
+        assertEquals(DayOfWeek.Mon, today.getLessonWeekday());
+        assertEquals(MONDAY, today.getOverdueBoundary());
+        assertEquals(MONDAY.plusDays(7), today.getFutureBoundary());
+    }
+
+    @Test
+    public void refresh_sameDay_doesNotNotify() {
+        List<LocalDate> notified = new ArrayList<>();
+        today.addDayChangeListener(notified::add);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertFalse(today.refresh());
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    public void refresh_nextDay_notifiesOnce() {
+        List<LocalDate> notified = new ArrayList<>();
+        today.addDayChangeListener(notified::add);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(today.refresh());
+        assertFalse(today.refresh());
+
+        assertEquals(List.of(MONDAY.plusDays(1)), notified);
+        assertEquals(MONDAY.plusDays(1), today.getDate());
+        assertEquals(DayOfWeek.Tue, today.getLessonWeekday());
+        assertEquals(MONDAY.plusDays(8), today.getFutureBoundary());
+    }
+
+    @Test
+    public void getDelayToNextRollover_beforeMidnight_returnsTimeLeft() {
+        assertEquals(Duration.ofMinutes(1), today.getDelayToNextRollover());
+    }
+
+    @Test
+    public void dayChange_modelManager_rebucketsTasks() {
+        ModelManager modelManager = new ModelManager(new TrackIter(), new UserPrefs(), today);
+        Task dueToday = new Task(new Name("Due today"), MONDAY, null, "");
+        Task dueNextWeek = new Task(new Name("Due next week"), MONDAY.plusDays(8), null, "");
+        modelManager.addTask(dueToday);
+        modelManager.addTask(dueNextWeek);
+
+        assertTrue(modelManager.getOverdueTasks().isEmpty());
+        assertEquals(List.of(dueNextWeek), modelManager.getFutureTasks());
+
+        clock.advance(Duration.ofMinutes(2));
+        today.refresh();
+
+        assertEquals(List.of(dueToday), modelManager.getOverdueTasks());
+        assertTrue(modelManager.getFutureTasks().isEmpty());
+    }
+
+    /**
+     * A {@code Clock} whose time is only moved by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
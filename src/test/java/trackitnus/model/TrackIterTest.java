@@ -2,6 +2,8 @@ package trackitnus.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.typical.TypicalTrackIter.getTypicalTrackIter;
 
@@ -87,6 +89,41 @@ public class TrackIterTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> trackIter.getContactList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_changesPerSection_restoredWithSnapshot() {
+        long contactCount = trackIter.getModificationCount(DataSection.CONTACTS);
+        long taskCount = trackIter.getModificationCount(DataSection.TASKS);
+        TrackIter.Snapshot snapshot = trackIter.getSnapshot();
+
+        trackIter.addContact(TypicalContacts.ALICE);
+        assertNotEquals(contactCount, trackIter.getModificationCount(DataSection.CONTACTS));
+        assertEquals(taskCount, trackIter.getModificationCount(DataSection.TASKS));
+
+        trackIter.restore(snapshot);
+        assertEquals(contactCount, trackIter.getModificationCount(DataSection.CONTACTS));
+        assertEquals(contactCount, snapshot.getModificationCount(DataSection.CONTACTS));
+    }
+
+    @Test
+    public void applyChanges_changedContacts_onlyDifferencesApplied() {
+        trackIter.resetData(getTypicalTrackIter());
+        TrackIter newData = new TrackIter(trackIter);
+        newData.setContact(TypicalContacts.ALICE,
+            new ContactBuilder(TypicalContacts.ALICE).withTags(ContactCommandTestUtil.VALID_TAG_HUSBAND).build());
+        newData.removeContact(TypicalContacts.BENSON);
+        newData.addContact(TypicalContacts.HOON);
+        Contact carl = trackIter.getContactList().get(trackIter.getContactList().indexOf(TypicalContacts.CARL));
+        long taskCount = trackIter.getModificationCount(DataSection.TASKS);
+
+        assertEquals(3, trackIter.applyChanges(newData));
+        assertEquals(newData, trackIter);
+        // the entities that did not change, and their lists, are left as they were
+        assertSame(carl, trackIter.getContactList().get(trackIter.getContactList().indexOf(TypicalContacts.CARL)));
+        assertEquals(taskCount, trackIter.getModificationCount(DataSection.TASKS));
+
+        assertEquals(0, trackIter.applyChanges(newData));
+    }
+
     /**
      * A stub ReadOnlyTrackIter whose contacts list can violate interface constraints.
      */
@@ -20,6 +20,12 @@ public class ContactTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> contact.getTags().remove(0));
     }
 
+    @Test
+    public void withId_invalidId_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> ALICE.withId(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ALICE.withId(-1));
+    }
+
     @Test
     public void isSameContact() {
         // same object -> returns true
@@ -0,0 +1,66 @@
+package trackitnus.model.diff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.diff.EntityDiff.Modification;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class TrackIterDiffTest {
+
+    private final Contact alex = new ContactBuilder().withName("Alex Yeoh").build();
+    private final Contact bernice = new ContactBuilder().withName("Bernice Yu").build();
+    private final Task quiz = new TaskBuilder().withName("Quiz").build();
+
+    @Test
+    public void between_sameData_isEmpty() {
+        TrackIter trackIter = new TrackIter();
+        trackIter.addContact(alex);
+        trackIter.addTask(quiz);
+        TrackIterDiff diff = TrackIterDiff.between(trackIter.getSnapshot(), trackIter);
+        assertTrue(diff.isEmpty());
+        assertEquals(TrackIterDiff.MESSAGE_NO_CHANGES, diff.getSummary());
+    }
+
+    @Test
+    public void between_changes_addedRemovedModified() {
+        TrackIter trackIter = new TrackIter();
+        trackIter.addContact(alex);
+        trackIter.addContact(bernice);
+        trackIter.addTask(quiz);
+        TrackIter.Snapshot before = trackIter.getSnapshot();
+
+        Contact editedAlex = new ContactBuilder(alex).withPhone("91234567").build();
+        Task lab = new TaskBuilder().withName("Lab").build();
+        trackIter.setContact(alex, editedAlex);
+        trackIter.removeContact(bernice);
+        trackIter.addTask(lab);
+
+        TrackIterDiff diff = TrackIterDiff.between(before, trackIter);
+        assertEquals(List.of(new Modification<>(alex, editedAlex)), diff.getContactDiff().getModified());
+        assertEquals(List.of(bernice), diff.getContactDiff().getRemoved());
+        assertEquals(List.of(lab), diff.getTaskDiff().getAdded());
+        assertTrue(diff.getModuleDiff().isEmpty());
+        assertEquals(3, diff.size());
+        assertEquals("contacts: 1 modified, 1 removed; tasks: 1 added", diff.getSummary());
+    }
+
+    @Test
+    public void between_newIdsSameValues_isEmpty() {
+        // e.g. data read again from a file that had no ids
+        List<Contact> before = List.of(alex, bernice, alex.withId(alex.getId() + 1000));
+        List<Contact> after = List.of(bernice.withId(bernice.getId() + 2000), alex, alex.withId(alex.getId() + 3000));
+        assertTrue(EntityDiff.between(before, after, Contact::getId).isEmpty());
+
+        EntityDiff<Contact> diff = EntityDiff.between(before, List.of(alex), Contact::getId);
+        assertEquals(List.of(bernice, alex.withId(alex.getId() + 1000)), diff.getRemoved());
+    }
+}
@@ -0,0 +1,100 @@
+package trackitnus.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.commons.Name;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.search.SearchQuery.Term;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.LessonBuilder;
+import trackitnus.testutil.builder.ModuleBuilder;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class SearchIndexTest {
+
+    private final TrackIter trackIter = new TrackIter();
+    private final SearchIndex searchIndex = new SearchIndex(trackIter);
+
+    @Test
+    public void tokenize_splitsOnPunctuationAndLowercases() {
+        assertEquals(List.of("alex", "yeoh", "example", "com"), SearchIndex.tokenize("Alex_Yeoh@example.com"));
+        assertTrue(SearchIndex.tokenize(" -*- ").isEmpty());
+    }
+
+    @Test
+    public void search_storedRemark_readOnlyWhenSearched() {
+        AtomicInteger reads = new AtomicInteger();
+        StoredRemark remark = new StoredRemark((offset, length) -> {
+            reads.incrementAndGet();
+            return "Ask Alex";
+        }, 0, 8, "Ask Alex".hashCode());
+        Task quiz = new Task(Name.of("Quiz one"), LocalDate.of(2020, 11, 9), null, remark);
+        trackIter.addTask(quiz);
+        assertEquals(0, reads.get());
+
+        assertEquals(List.of(quiz), searchIndex.search(query(List.of(new Term("alex", false)))).getTasks());
+        assertEquals(1, reads.get());
+        trackIter.removeTask(quiz);
+        assertTrue(searchIndex.search(query(List.of(new Term("alex", false)))).getTasks().isEmpty());
+    }
+
+    @Test
+    public void search_andOrPrefix() {
+        Contact alex = new ContactBuilder().withName("Alex Yeoh").withEmail("alex@example.com")
+            .withTags("friends").build();
+        Contact bernice = new ContactBuilder().withName("Bernice Yu").withEmail("bernice@example.com")
+            .withTags().build();
+        Task quiz = new TaskBuilder().withName("Quiz one").withRemark("Ask Alex").build();
+        Module module = new ModuleBuilder().withCode("CS2103T").withName("Software Engineering").build();
+        Lesson lesson = new LessonBuilder().withAddress("COM1 Seminar Room").build();
+        trackIter.addContact(alex);
+        trackIter.addContact(bernice);
+        trackIter.addTask(quiz);
+        trackIter.addModule(module);
+        trackIter.addLesson(lesson);
+
+        // a name match ranks before a remark match
+        SearchResult alexResult = searchIndex.search(query(List.of(new Term("alex", false))));
+        assertEquals(List.of(alex), alexResult.getContacts());
+        assertEquals(List.of(quiz), alexResult.getTasks());
+
+        assertEquals(List.of(alex), searchIndex.search(query(List.of(new Term("alex", false)),
+            List.of(new Term("nobody", false)))).getContacts());
+        assertEquals(0, searchIndex.search(query(List.of(new Term("alex", false),
+            new Term("yu", false)))).size());
+        assertEquals(List.of(module), searchIndex.search(query(List.of(new Term("soft", true)))).getModules());
+        assertEquals(List.of(lesson), searchIndex.search(query(List.of(new Term("seminar", false)))).getLessons());
+        assertEquals(2, searchIndex.search(query(List.of(new Term("example", false)))).getContacts().size());
+    }
+
+    @Test
+    public void search_followsEdits() {
+        Contact alex = new ContactBuilder().withName("Alex Yeoh").withTags("friends").build();
+        trackIter.addContact(alex);
+        Contact edited = new ContactBuilder(alex).withTags("colleagues").build();
+        trackIter.setContact(alex, edited);
+
+        assertEquals(0, searchIndex.search(query(List.of(new Term("friends", false)))).size());
+        assertEquals(List.of(edited), searchIndex.search(query(List.of(new Term("coll", true)))).getContacts());
+
+        trackIter.removeContact(edited);
+        assertEquals(0, searchIndex.search(query(List.of(new Term("alex", false)))).size());
+    }
+
+    @SafeVarargs
+    private static SearchQuery query(List<Term>... clauses) {
+        return new SearchQuery(List.of(clauses));
+    }
+}
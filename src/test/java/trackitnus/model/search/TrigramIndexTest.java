@@ -0,0 +1,53 @@
+package trackitnus.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>(List::of);
+
+    @Test
+    public void search_infix_matches() {
+        index.add("Algorithms and Data Structures");
+        index.add("Software Engineering");
+        assertEquals(List.of("Algorithms and Data Structures"), index.search("gorith"));
+        assertEquals(List.of("Software Engineering"), index.search("ENGINE"));
+        assertEquals(List.of("Software Engineering"), index.search("so"));
+        assertTrue(index.search("xyz").isEmpty());
+        assertTrue(index.search(" ").isEmpty());
+    }
+
+    @Test
+    public void search_typo_closestFirst() {
+        index.add("Software Engineering");
+        index.add("Software Engineers");
+        // a long query allows a typo
+        assertEquals(List.of("Software Engineering"), index.search("engineeriny"));
+        assertEquals(List.of("Software Engineers", "Software Engineering"), index.search("engineers"));
+        // no typo is allowed in a short query
+        assertTrue(index.search("sofx").isEmpty());
+    }
+
+    @Test
+    public void remove_followsChanges() {
+        index.add("Alex Yeoh");
+        index.add("Alex Tan");
+        assertEquals(List.of("Alex Tan", "Alex Yeoh"), index.search("alex"));
+        index.remove("Alex Tan");
+        index.remove("Nobody");
+        assertEquals(List.of("Alex Yeoh"), index.search("alex"));
+    }
+
+    @Test
+    public void getSubstringDistance() {
+        assertEquals(0, TrigramIndex.getSubstringDistance("gor", "algorithms"));
+        assertEquals(1, TrigramIndex.getSubstringDistance("gxr", "algorithms"));
+        assertEquals(1, TrigramIndex.getSubstringDistance("goor", "algorithms"));
+        assertEquals(3, TrigramIndex.getSubstringDistance("abc", ""));
+    }
+}
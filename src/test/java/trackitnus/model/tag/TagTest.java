@@ -1,5 +1,7 @@
 package trackitnus.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static trackitnus.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalNames_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
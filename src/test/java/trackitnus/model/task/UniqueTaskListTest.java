@@ -0,0 +1,106 @@
+package trackitnus.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class UniqueTaskListTest {
+
+    private static final int LIST_SIZE = 200;
+    private static final int CALLS = 20_000;
+    private static final int ROUNDS = 10;
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void equals_cachedHash_consistentWithFields() {
+        Task task = new TaskBuilder().withName("Quiz").withRemark("Ask Alex").build();
+        Task same = new TaskBuilder().withName("Quiz").withRemark("Ask Alex").build();
+        Task other = new TaskBuilder().withName("Quiz").withRemark("Ask Bob").build();
+        assertEquals(task, same);
+        assertEquals(task.hashCode(), same.hashCode());
+        assertNotEquals(task, other);
+    }
+
+    @Test
+    public void setTask_editedTask_keepsId() {
+        Task task = new TaskBuilder().withName("Quiz").build();
+        uniqueTaskList.add(task);
+        Task edited = new TaskBuilder().withName("Quiz two").build();
+        uniqueTaskList.setTask(task, edited);
+
+        Task stored = uniqueTaskList.getById(task.getId()).get();
+        assertEquals(edited, stored);
+        assertEquals(task.getId(), stored.getId());
+        assertFalse(uniqueTaskList.getById(edited.getId()).isPresent());
+
+        uniqueTaskList.remove(edited);
+        assertFalse(uniqueTaskList.getById(task.getId()).isPresent());
+    }
+
+    @Test
+    public void setTasks_duplicateIds_givesNewIds() {
+        Task first = new TaskBuilder().withName("Quiz").build();
+        Task second = new TaskBuilder().withName("Quiz two").build().withId(first.getId());
+        uniqueTaskList.setTasks(List.of(first, second));
+
+        Task storedSecond = uniqueTaskList.asUnmodifiableObservableList().get(1);
+        assertEquals(second, storedSecond);
+        assertNotEquals(first.getId(), storedSecond.getId());
+        assertEquals(first, uniqueTaskList.getById(first.getId()).get());
+        assertEquals(storedSecond, uniqueTaskList.getById(storedSecond.getId()).get());
+    }
+
+    @Test
+    public void contains_largeList_allocatesNothing() {
+        // without a JIT compiler, escape analysis never removes the allocations of interpreted code
+        assumeTrue(ManagementFactory.getCompilationMXBean() != null);
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof ThreadMXBean);
+        ThreadMXBean allocationBean = (ThreadMXBean) bean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < LIST_SIZE; i++) {
+            uniqueTaskList.add(new TaskBuilder().withName("Task " + i).build());
+        }
+        Task absent = new TaskBuilder().withName("Absent").build();
+        Task present = new TaskBuilder().withName("Task " + (LIST_SIZE - 1)).build();
+
+        // the first rounds include interpretation and compilation, so only the best round counts
+        long leastAllocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocated = measureContainsAllocation(allocationBean, absent, present);
+            leastAllocated = Math.min(leastAllocated, allocated);
+        }
+
+        // allow for the few bytes that reading the counter may allocate
+        assertTrue(leastAllocated < CALLS, "contains allocated " + leastAllocated + " bytes in " + CALLS + " calls");
+    }
+
+    /**
+     * Returns the bytes allocated by {@code CALLS} pairs of {@code contains} calls, one of which finds its task.
+     */
+    private long measureContainsAllocation(ThreadMXBean allocationBean, Task absent, Task present) {
+        long threadId = Thread.currentThread().getId();
+        boolean found = true;
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            found &= !uniqueTaskList.contains(absent) && uniqueTaskList.contains(present);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(found);
+        return allocated;
+    }
+}
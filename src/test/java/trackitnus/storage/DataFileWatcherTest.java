@@ -0,0 +1,81 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.commons.util.FileUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.TaskBuilder;
+import trackitnus.testutil.typical.TypicalContacts;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class DataFileWatcherTest {
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<ReadOnlyTrackIter> reloaded = new LinkedBlockingQueue<>();
+
+    @Test
+    public void reload_fileChangedByOtherInstance_changesHandedToListener() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        storage.saveTrackIter(TypicalTrackIter.getTypicalTrackIter());
+
+        JsonShardedTrackIterStorage otherInstance = new JsonShardedTrackIterStorage(filePath);
+        TrackIter changed = new TrackIter(otherInstance.readTrackIter().get());
+        changed.addTask(new TaskBuilder().withName("Mock exam").build());
+        otherInstance.saveTrackIter(changed);
+
+        new DataFileWatcher(storage, Runnable::run, reloaded::add).reload();
+        assertEquals(changed, new TrackIter(reloaded.poll()));
+    }
+
+    @Test
+    public void reload_unchangedFile_listenerNotCalled() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(filePath);
+        storage.saveTrackIter(TypicalTrackIter.getTypicalTrackIter());
+
+        new DataFileWatcher(storage, Runnable::run, reloaded::add).reload();
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void reload_invalidFile_dataKeptAndSavesRefusedUntilFileValid() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(filePath);
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        storage.saveTrackIter(trackIter);
+        // as if a text editor saved a half-edited file
+        FileUtil.writeToFile(filePath, "{\"contacts\": [");
+
+        DataFileWatcher watcher = new DataFileWatcher(storage, Runnable::run, reloaded::add);
+        watcher.reload();
+        assertNull(reloaded.poll());
+
+        trackIter.addContact(TypicalContacts.HOON);
+        String message = String.format(FileVersions.MESSAGE_CHANGED_ELSEWHERE, filePath);
+        Assert.assertThrows(IOException.class, message, () -> storage.saveTrackIter(trackIter));
+
+        // the edit is finished
+        TrackIter edited = TypicalTrackIter.getTypicalTrackIter();
+        edited.addContact(TypicalContacts.IDA);
+        new JsonTrackIterStorage(filePath).saveTrackIter(edited);
+        watcher.reload();
+        assertEquals(edited, new TrackIter(reloaded.poll()));
+
+        storage.saveTrackIter(trackIter);
+        assertEquals(trackIter, new TrackIter(new JsonTrackIterStorage(filePath).readTrackIter().get()));
+    }
+}
@@ -1,6 +1,7 @@
 package trackitnus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static trackitnus.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
 
 import java.time.LocalDate;
@@ -11,6 +12,7 @@ import trackitnus.commons.core.Messages;
 import trackitnus.commons.exceptions.IllegalValueException;
 import trackitnus.logic.parser.ParserUtil;
 import trackitnus.model.commons.Code;
+import trackitnus.model.commons.IdGenerator;
 import trackitnus.model.commons.Name;
 import trackitnus.model.task.Task;
 import trackitnus.testutil.Assert;
@@ -31,6 +33,21 @@ public class JsonAdaptedTaskTest {
     public void toModelType_validTaskDetails_returnsTask() throws Exception {
         JsonAdaptedTask task = new JsonAdaptedTask(VALID_TASK);
         assertEquals(VALID_TASK, task.toModelType());
+        assertEquals(VALID_TASK.getId(), task.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_noId_returnsTaskWithNewId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_DATE, VALID_CODE, VALID_REMARK);
+        Task first = task.toModelType();
+        assertEquals(VALID_TASK, first);
+        assertNotEquals(first.getId(), task.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTask task = new JsonAdaptedTask(0L, VALID_NAME, VALID_DATE, VALID_CODE, VALID_REMARK);
+        Assert.assertThrows(IllegalValueException.class, IdGenerator.MESSAGE_CONSTRAINTS, task::toModelType);
     }
 
     @Test
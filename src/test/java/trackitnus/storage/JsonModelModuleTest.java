@@ -0,0 +1,65 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.TrackIter;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class JsonModelModuleTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTrackIterTest");
+    private static final Path TYPICAL_TRACKITER_FILE = TEST_DATA_FOLDER.resolve("typicalTrackIter.json");
+    private static final Path INVALID_CONTACT_FILE = TEST_DATA_FOLDER.resolve("invalidContactTrackIter.json");
+    private static final Path DUPLICATE_CONTACT_FILE = TEST_DATA_FOLDER.resolve("duplicateContactTrackIter.json");
+
+    @Test
+    public void readTrackIter_typicalFile_sameAsJsonAdaptedPath() throws Exception {
+        String json = FileUtil.readFromFile(TYPICAL_TRACKITER_FILE);
+        assertEquals(TypicalTrackIter.getTypicalTrackIterConst(), JsonModelModule.readTrackIter(json));
+        assertEquals(readThroughJsonAdapted(json), JsonModelModule.readTrackIter(json));
+    }
+
+    @Test
+    public void readTrackIter_invalidContact_throwsIllegalValueException() throws Exception {
+        String json = FileUtil.readFromFile(INVALID_CONTACT_FILE);
+        Assert.assertThrows(IllegalValueException.class, () -> JsonModelModule.readTrackIter(json));
+    }
+
+    @Test
+    public void readTrackIter_duplicateContacts_throwsIllegalValueException() throws Exception {
+        String json = FileUtil.readFromFile(DUPLICATE_CONTACT_FILE);
+        Assert.assertThrows(IllegalValueException.class, JsonSerializableTrackIter.MESSAGE_DUPLICATE_CONTACT, () ->
+            JsonModelModule.readTrackIter(json));
+    }
+
+    @Test
+    public void toJsonString_sameAsJsonAdaptedPath() throws Exception {
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        assertEquals(JsonUtil.toJsonString(trackIter.getContactList().stream().map(JsonAdaptedContact::new)
+            .collect(Collectors.toList())), JsonModelModule.toJsonString(trackIter.getContactList()));
+        assertEquals(JsonUtil.toJsonString(trackIter.getModuleList().stream().map(JsonAdaptedModule::new)
+            .collect(Collectors.toList())), JsonModelModule.toJsonString(trackIter.getModuleList()));
+        assertEquals(JsonUtil.toJsonString(trackIter.getTaskList().stream().map(JsonAdaptedTask::new)
+            .collect(Collectors.toList())), JsonModelModule.toJsonString(trackIter.getTaskList()));
+        assertEquals(JsonUtil.toJsonString(trackIter.getLessonList().stream().map(JsonAdaptedLesson::new)
+            .collect(Collectors.toList())), JsonModelModule.toJsonString(trackIter.getLessonList()));
+
+        // a whole file survives a round trip unchanged
+        String json = JsonUtil.toJsonString(new JsonSerializableTrackIter(trackIter));
+        assertEquals(json, JsonUtil.toJsonString(new JsonSerializableTrackIter(JsonModelModule.readTrackIter(json))));
+    }
+
+    private static TrackIter readThroughJsonAdapted(String json) throws Exception {
+        return JsonUtil.fromJsonString(json, JsonSerializableTrackIter.class).toModelType();
+    }
+}
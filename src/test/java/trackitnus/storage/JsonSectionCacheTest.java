@@ -0,0 +1,76 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.typical.TypicalContacts;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class JsonSectionCacheTest {
+
+    @Test
+    public void toJsonString_sameAsWholeDocument() throws Exception {
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        JsonSectionCache cache = new JsonSectionCache();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTrackIter(trackIter)), cache.toJsonString(trackIter));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTrackIter(new TrackIter())),
+            new JsonSectionCache().toJsonString(new TrackIter()));
+    }
+
+    @Test
+    public void toJsonString_oneSectionChanged_reencodesOnlyThatSection() throws Exception {
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        JsonSectionCache cache = new JsonSectionCache();
+        cache.toJsonString(trackIter);
+        assertEquals(4, cache.getEncodedCount());
+
+        // nothing changed
+        cache.toJsonString(trackIter);
+        assertEquals(4, cache.getEncodedCount());
+
+        trackIter.removeContact(TypicalContacts.ALICE);
+        String json = cache.toJsonString(trackIter);
+        assertEquals(5, cache.getEncodedCount());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTrackIter(trackIter)), json);
+    }
+
+    @Test
+    public void toJsonString_untrackedData_alwaysReencoded() throws Exception {
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        ReadOnlyTrackIter untracked = new ReadOnlyTrackIter() {
+            @Override
+            public ObservableList<Contact> getContactList() {
+                return trackIter.getContactList();
+            }
+
+            @Override
+            public ObservableList<Module> getModuleList() {
+                return trackIter.getModuleList();
+            }
+
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return trackIter.getTaskList();
+            }
+
+            @Override
+            public ObservableList<Lesson> getLessonList() {
+                return trackIter.getLessonList();
+            }
+        };
+        JsonSectionCache cache = new JsonSectionCache();
+        cache.toJsonString(untracked);
+        String json = cache.toJsonString(untracked);
+        assertEquals(8, cache.getEncodedCount());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTrackIter(trackIter)), json);
+    }
+}
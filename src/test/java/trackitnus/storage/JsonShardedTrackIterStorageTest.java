@@ -0,0 +1,194 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.TaskBuilder;
+import trackitnus.testutil.typical.TypicalContacts;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class JsonShardedTrackIterStorageTest {
+    private static final FileTime LONG_AGO = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveTrackIter_splitsByModule_readBackSame() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        new JsonShardedTrackIterStorage(filePath).saveTrackIter(original);
+
+        Path shardDirectory = JsonShardedTrackIterStorage.getShardDirectory(filePath);
+        assertEquals(testFolder.resolve("trackIter-modules"), shardDirectory);
+        assertEquals(List.of("CS1101S.json", "CS2030S.json", "CS2100.json", "CS2103T.json", "GER1000H.json",
+            "MA1101R.json"), listShards(shardDirectory));
+        assertEquals(original, new TrackIter(new JsonShardedTrackIterStorage(filePath).readTrackIter().get()));
+    }
+
+    @Test
+    public void saveTrackIter_oneModuleChanged_writesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        storage.saveTrackIter(trackIter);
+        Path shardDirectory = JsonShardedTrackIterStorage.getShardDirectory(filePath);
+        setLongAgo(filePath, shardDirectory);
+
+        trackIter.addTask(new TaskBuilder().withName("Mock exam").build()); // a CS2103T task
+        storage.saveTrackIter(trackIter);
+
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(filePath));
+        assertNotEquals(LONG_AGO, Files.getLastModifiedTime(shardDirectory.resolve("CS2103T.json")));
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(shardDirectory.resolve("CS2100.json")));
+        assertEquals(trackIter, new TrackIter(new JsonShardedTrackIterStorage(filePath).readTrackIter().get()));
+
+        // a fresh storage knows what it has read, and writes nothing for unchanged data
+        JsonShardedTrackIterStorage reopened = new JsonShardedTrackIterStorage(filePath);
+        TrackIter readBack = new TrackIter(reopened.readTrackIter().get());
+        setLongAgo(filePath, shardDirectory);
+        reopened.saveTrackIter(readBack);
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(filePath));
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(shardDirectory.resolve("CS2103T.json")));
+    }
+
+    @Test
+    public void saveTrackIter_moduleEmptied_deletesShard() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        storage.saveTrackIter(trackIter);
+
+        for (Task task : List.copyOf(trackIter.getTaskList())) {
+            if (task.getCode().isPresent() && task.getCode().get().code.equals("CS2030S")) {
+                trackIter.removeTask(task);
+            }
+        }
+        for (Lesson lesson : List.copyOf(trackIter.getLessonList())) {
+            if (lesson.getCode().code.equals("CS2030S")) {
+                trackIter.removeLesson(lesson);
+            }
+        }
+        storage.saveTrackIter(trackIter);
+
+        Path shardDirectory = JsonShardedTrackIterStorage.getShardDirectory(filePath);
+        assertFalse(Files.exists(shardDirectory.resolve("CS2030S.json")));
+        assertEquals(trackIter, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_singleDataFile_movedIntoShardsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        new JsonTrackIterStorage(filePath).saveTrackIter(original);
+
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        TrackIter readBack = new TrackIter(storage.readTrackIter().get());
+        assertEquals(original, readBack);
+        storage.saveTrackIter(readBack);
+
+        Path shardDirectory = JsonShardedTrackIterStorage.getShardDirectory(filePath);
+        assertTrue(Files.exists(shardDirectory.resolve("CS2103T.json")));
+        TrackIter root = new TrackIter(new JsonTrackIterStorage(filePath).readTrackIter().get());
+        assertTrue(root.getLessonList().isEmpty());
+        assertTrue(root.getTaskList().stream().allMatch(task -> task.getCode().isEmpty()));
+        assertEquals(original, new TrackIter(new JsonShardedTrackIterStorage(filePath).readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_interruptedMove_dropsCopiesInRootFile() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        new JsonShardedTrackIterStorage(filePath).saveTrackIter(original);
+        // as if the shards had been written but not yet the root file without their tasks and lessons
+        new JsonTrackIterStorage(filePath).saveTrackIter(original);
+
+        assertEquals(original, new TrackIter(new JsonShardedTrackIterStorage(filePath).readTrackIter().get()));
+    }
+
+    @Test
+    public void reloadTrackIter_shardChangedByOtherInstance_readsChanges() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        storage.saveTrackIter(TypicalTrackIter.getTypicalTrackIter());
+        assertFalse(storage.reloadTrackIter().isPresent());
+
+        JsonShardedTrackIterStorage otherInstance = new JsonShardedTrackIterStorage(filePath);
+        TrackIter changed = new TrackIter(otherInstance.readTrackIter().get());
+        changed.addTask(new TaskBuilder().withName("Mock exam").build()); // a CS2103T task
+        otherInstance.saveTrackIter(changed);
+
+        assertEquals(changed, new TrackIter(storage.reloadTrackIter().get()));
+        assertFalse(storage.reloadTrackIter().isPresent());
+
+        // a shard deleted by the other instance is dropped
+        for (Task task : List.copyOf(changed.getTaskList())) {
+            if (task.getCode().isPresent() && task.getCode().get().code.equals("CS2030S")) {
+                changed.removeTask(task);
+            }
+        }
+        for (Lesson lesson : List.copyOf(changed.getLessonList())) {
+            if (lesson.getCode().code.equals("CS2030S")) {
+                changed.removeLesson(lesson);
+            }
+        }
+        otherInstance.saveTrackIter(changed);
+        assertEquals(changed, new TrackIter(storage.reloadTrackIter().get()));
+    }
+
+    @Test
+    public void saveTrackIter_shardChangedByOtherInstance_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter trackIter = TypicalTrackIter.getTypicalTrackIter();
+        JsonShardedTrackIterStorage storage = new JsonShardedTrackIterStorage(filePath);
+        storage.saveTrackIter(trackIter);
+
+        JsonShardedTrackIterStorage otherInstance = new JsonShardedTrackIterStorage(filePath);
+        TrackIter changed = new TrackIter(otherInstance.readTrackIter().get());
+        changed.addTask(new TaskBuilder().withName("Mock exam").build());
+        otherInstance.saveTrackIter(changed);
+
+        Path shardPath = JsonShardedTrackIterStorage.getShardDirectory(filePath).resolve("CS2103T.json");
+        trackIter.addTask(new TaskBuilder().withName("Project demo").build());
+        trackIter.addContact(TypicalContacts.HOON);
+        String message = String.format(FileVersions.MESSAGE_CHANGED_ELSEWHERE, shardPath);
+        Assert.assertThrows(IOException.class, message, () -> storage.saveTrackIter(trackIter));
+        assertEquals(changed, new TrackIter(otherInstance.readTrackIter().get()));
+
+        storage.reloadTrackIter();
+        storage.saveTrackIter(trackIter);
+        assertEquals(trackIter, new TrackIter(otherInstance.readTrackIter().get()));
+    }
+
+    private static List<String> listShards(Path shardDirectory) throws Exception {
+        try (Stream<Path> paths = Files.list(shardDirectory)) {
+            return paths.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void setLongAgo(Path filePath, Path shardDirectory) throws Exception {
+        Files.setLastModifiedTime(filePath, LONG_AGO);
+        try (Stream<Path> paths = Files.list(shardDirectory)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(path, LONG_AGO);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchQuery.Term;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class JsonTaskArchiveTest {
+
+    private static final Task QUIZ = new TaskBuilder().withName("Weekly quiz").withDate("01/01/2020")
+        .withRemark("Chapter 3").build();
+    private static final Task LAB = new TaskBuilder().withName("Lab report").withDate("02/01/2020")
+        .withRemark("Weekly lab").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_filesNextToDataFile() {
+        JsonTaskArchive archive = new JsonTaskArchive(testFolder.resolve("trackIter.json"));
+        assertEquals(testFolder.resolve("trackIter-archive.jsonl"), archive.getArchiveFilePath());
+        assertEquals(testFolder.resolve("trackIter-archive.idx"), archive.getIndexFilePath());
+    }
+
+    @Test
+    public void search_nothingArchived_returnsEmpty() throws Exception {
+        JsonTaskArchive archive = new JsonTaskArchive(testFolder.resolve("trackIter.json"));
+        assertEquals(List.of(), archive.search(query("quiz")));
+        assertFalse(Files.exists(archive.getArchiveFilePath()));
+    }
+
+    @Test
+    public void archive_unreadableStoredRemark_nothingArchived() {
+        JsonTaskArchive archive = new JsonTaskArchive(testFolder.resolve("trackIter.json"));
+        StoredRemark unreadable = new StoredRemark((offset, length) -> {
+            throw new IOException("Remarks file deleted");
+        }, 0, 2000, "Revise every lecture".hashCode());
+        Task task = new Task(QUIZ.getName(), QUIZ.getDate(), null, unreadable);
+
+        Assert.assertThrows(IOException.class, () -> archive.archive(List.of(LAB, task)));
+        assertFalse(Files.exists(archive.getArchiveFilePath()));
+    }
+
+    @Test
+    public void archive_thenSearch_findsArchivedTasks() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        new JsonTaskArchive(filePath).archive(List.of(QUIZ, LAB));
+
+        JsonTaskArchive reopened = new JsonTaskArchive(filePath);
+        assertEquals(List.of(QUIZ), reopened.search(query("quiz")));
+        assertEquals(List.of(LAB), reopened.search(query("report")));
+        // the name counts more than the remark
+        assertEquals(List.of(QUIZ, LAB), reopened.search(query("weekly")));
+        assertEquals(List.of(LAB, QUIZ), reopened.search(query("chap*", "OR", "lab")));
+
+        // a task archived after the index is loaded is found too
+        Task exam = new TaskBuilder().withName("Final exam").withDate("03/01/2020").build();
+        reopened.archive(List.of(exam));
+        assertEquals(List.of(exam), reopened.search(query("exam")));
+    }
+
+    @Test
+    public void search_indexMissingEntries_indexesArchiveFile() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonTaskArchive archive = new JsonTaskArchive(filePath);
+        archive.archive(List.of(QUIZ));
+        archive.archive(List.of(LAB));
+        // as if the index had not been written after the tasks were stored
+        Files.delete(archive.getIndexFilePath());
+
+        assertEquals(List.of(LAB), new JsonTaskArchive(filePath).search(query("report")));
+        assertEquals(2, Files.readAllLines(archive.getIndexFilePath()).size());
+        assertEquals(List.of(QUIZ), new JsonTaskArchive(filePath).search(query("quiz")));
+    }
+
+    @Test
+    public void archive_partialLine_skippedAndKeptApart() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonTaskArchive archive = new JsonTaskArchive(filePath);
+        archive.archive(List.of(QUIZ));
+        // as if a write to each file had been cut short
+        Files.write(archive.getArchiveFilePath(), "{\"name\":\"Broken".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+        Files.write(archive.getIndexFilePath(), "12 3 bro".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        archive.archive(List.of(LAB));
+
+        JsonTaskArchive reopened = new JsonTaskArchive(filePath);
+        assertEquals(List.of(QUIZ, LAB), reopened.search(query("weekly")));
+        assertTrue(reopened.search(query("broken")).isEmpty());
+    }
+
+    @Test
+    public void search_archivedTwice_returnedOnce() throws Exception {
+        JsonTaskArchive archive = new JsonTaskArchive(testFolder.resolve("trackIter.json"));
+        archive.archive(List.of(QUIZ));
+        archive.archive(List.of(QUIZ));
+        assertEquals(List.of(QUIZ), archive.search(query("quiz")));
+    }
+
+    @Test
+    public void archive_dataFileLockedByOtherInstance_waitsForLock() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        JsonTaskArchive archive = new JsonTaskArchive(filePath);
+        List<Throwable> failures = new ArrayList<>();
+        Thread archiver = new Thread(() -> {
+            try {
+                archive.archive(List.of(QUIZ));
+            } catch (IOException e) {
+                failures.add(e);
+            }
+        });
+
+        try (DataFileLock.Hold hold = new DataFileLock(filePath).lockForWriting()) {
+            archiver.start();
+            archiver.join(200);
+            assertTrue(archiver.isAlive());
+            assertFalse(Files.exists(archive.getArchiveFilePath()));
+        }
+        archiver.join();
+
+        assertEquals(List.of(), failures);
+        assertEquals(List.of(QUIZ), new JsonTaskArchive(filePath).search(query("quiz")));
+    }
+
+    private static SearchQuery query(String... words) {
+        List<List<Term>> clauses = new ArrayList<>();
+        List<Term> clause = new ArrayList<>();
+        for (String word : words) {
+            if (word.equals("OR")) {
+                clauses.add(clause);
+                clause = new ArrayList<>();
+            } else if (word.endsWith("*")) {
+                clause.add(new Term(word.substring(0, word.length() - 1), true));
+            } else {
+                clause.add(new Term(word, false));
+            }
+        }
+        clauses.add(clause);
+        return new SearchQuery(clauses);
+    }
+}
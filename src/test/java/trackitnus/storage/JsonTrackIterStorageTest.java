@@ -84,6 +84,44 @@ public class JsonTrackIterStorageTest {
 
     }
 
+    @Test
+    public void reloadTrackIter_changedByOtherInstance_readsChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackIter.json");
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(filePath);
+        storage.saveTrackIter(TypicalTrackIter.getTypicalTrackIter());
+        assertFalse(storage.reloadTrackIter().isPresent());
+
+        JsonTrackIterStorage otherInstance = new JsonTrackIterStorage(filePath);
+        TrackIter changed = new TrackIter(otherInstance.readTrackIter().get());
+        changed.addContact(TypicalContacts.HOON);
+        otherInstance.saveTrackIter(changed);
+
+        assertEquals(changed, new TrackIter(storage.reloadTrackIter().get()));
+        assertFalse(storage.reloadTrackIter().isPresent());
+    }
+
+    @Test
+    public void saveTrackIter_changedByOtherInstance_refusedUntilReloaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(filePath);
+        storage.saveTrackIter(original);
+
+        JsonTrackIterStorage otherInstance = new JsonTrackIterStorage(filePath);
+        TrackIter changed = new TrackIter(otherInstance.readTrackIter().get());
+        changed.addContact(TypicalContacts.HOON);
+        otherInstance.saveTrackIter(changed);
+
+        original.addContact(TypicalContacts.IDA);
+        String message = String.format(FileVersions.MESSAGE_CHANGED_ELSEWHERE, filePath);
+        Assert.assertThrows(IOException.class, message, () -> storage.saveTrackIter(original));
+        assertEquals(changed, new TrackIter(otherInstance.readTrackIter().get()));
+
+        storage.reloadTrackIter();
+        storage.saveTrackIter(original);
+        assertEquals(original, new TrackIter(otherInstance.readTrackIter().get()));
+    }
+
     @Test
     public void saveTrackIter_nullTrackIter_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> saveTrackIter(null, "SomeFile.json"));
@@ -0,0 +1,100 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.model.TrackIter;
+import trackitnus.model.task.StoredRemark;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.TaskBuilder;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class RemarkBlobFileTest {
+
+    private static final String LONG_REMARK = "Revise every lecture. ".repeat(100).trim();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void store_shortRemark_keptInData() throws Exception {
+        RemarkBlobFile remarkBlobFile = new RemarkBlobFile(testFolder.resolve("trackIter.json"));
+        assertEquals(testFolder.resolve("trackIter-remarks.blob"), remarkBlobFile.getBlobFilePath());
+        assertFalse(remarkBlobFile.store(new TaskBuilder().build()).isPresent());
+        assertFalse(Files.exists(remarkBlobFile.getBlobFilePath()));
+    }
+
+    @Test
+    public void store_longRemark_storedOnceAndReadBack() throws Exception {
+        RemarkBlobFile remarkBlobFile = new RemarkBlobFile(testFolder.resolve("trackIter.json"));
+        Task task = new TaskBuilder().withRemark(LONG_REMARK).build();
+        StoredRemark stored = remarkBlobFile.store(task).get();
+        assertEquals(stored, remarkBlobFile.store(new TaskBuilder().withName("Other").withRemark(LONG_REMARK).build())
+            .get());
+        assertEquals(LONG_REMARK.length(), Files.size(remarkBlobFile.getBlobFilePath()));
+
+        StoredRemark referred = remarkBlobFile.refer(stored.getOffset(), stored.getLength(), stored.hashCode());
+        assertEquals(LONG_REMARK, remarkBlobFile.read(referred.getOffset(), referred.getLength()));
+        assertTrue(referred.isSameStorage(stored));
+        Assert.assertThrows(IllegalValueException.class, () ->
+            remarkBlobFile.refer(stored.getOffset() + 1, stored.getLength(), stored.hashCode()));
+    }
+
+    @Test
+    public void saveTrackIter_longRemark_readOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        Task task = new TaskBuilder().withName("Revise").withRemark(LONG_REMARK).build();
+        original.addTask(task);
+        new JsonTrackIterStorage(filePath).saveTrackIter(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains(LONG_REMARK));
+
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(filePath);
+        TrackIter readBack = new TrackIter(storage.readTrackIter().get());
+        Task readTask = readBack.getTaskList().stream().filter(t -> t.getName().equals(task.getName()))
+            .findFirst().get();
+        assertTrue(readTask.getStoredRemark().isPresent());
+        assertEquals(task.hashCode(), readTask.hashCode());
+        assertEquals(original, readBack);
+        assertEquals(LONG_REMARK, readTask.getRemark());
+
+        // saving again refers to the remark where it is
+        long blobSize = Files.size(new RemarkBlobFile(filePath).getBlobFilePath());
+        readBack.addTask(new TaskBuilder().withName("Another task").build());
+        storage.saveTrackIter(readBack);
+        assertEquals(blobSize, Files.size(new RemarkBlobFile(filePath).getBlobFilePath()));
+        assertEquals(readBack, new TrackIter(new JsonShardedTrackIterStorage(filePath).readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_remarkChangedInBlobFile_remarkUnreadableAndNotSaved() throws Exception {
+        Path filePath = testFolder.resolve("trackIter.json");
+        TrackIter original = new TrackIter();
+        original.addTask(new TaskBuilder().withName("Revise").withRemark(LONG_REMARK).build());
+        new JsonTrackIterStorage(filePath).saveTrackIter(original);
+        Path blobFilePath = new RemarkBlobFile(filePath).getBlobFilePath();
+        FileUtil.writeToFile(blobFilePath, LONG_REMARK.replace("Revise", "Review"));
+
+        TrackIter readBack = new TrackIter(new JsonTrackIterStorage(filePath).readTrackIter().get());
+        Task readTask = readBack.getTaskList().get(0);
+        assertEquals("", readTask.getRemark());
+        Assert.assertThrows(IOException.class, readTask::readRemark);
+        assertNotEquals(original, readBack);
+
+        // a data file with another remarks file would have to write the remark into it
+        Path otherFilePath = testFolder.resolve("other").resolve("trackIter.json");
+        Assert.assertThrows(IOException.class, () -> new JsonTrackIterStorage(otherFilePath).saveTrackIter(readBack));
+    }
+}
@@ -2,7 +2,9 @@ package trackitnus.testutil;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -16,6 +18,8 @@ import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.module.Module;
+import trackitnus.model.search.SearchQuery;
+import trackitnus.model.search.SearchResult;
 import trackitnus.model.task.Task;
 
 /**
@@ -67,6 +71,46 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyTrackIter getTrackIterSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void beginTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         throw new AssertionError("This method should not be called.");
@@ -231,6 +275,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public LocalDate getToday() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addDayChangeListener(Consumer<LocalDate> listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -256,4 +310,53 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public SearchResult search(SearchQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public SearchResult fuzzySearch(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateContactSearchFilter(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateModuleSearchFilter(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> archiveTasksBefore(LocalDate cutoff) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> searchArchive(SearchQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Contact> getContactById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Module> getModuleById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Task> getTaskById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Lesson> getLessonById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
 }